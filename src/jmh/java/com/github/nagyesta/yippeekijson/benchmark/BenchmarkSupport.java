@@ -0,0 +1,133 @@
+package com.github.nagyesta.yippeekijson.benchmark;
+
+import com.github.nagyesta.yippeekijson.YippeeKiJsonApplication;
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonAction;
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonActions;
+import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Shared fixtures of the benchmarks: the application context, the benchmark actions and the generated documents.
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * The classpath resource containing the actions used by the benchmarks.
+     */
+    public static final String ACTIONS_RESOURCE = "/benchmark/benchmark-actions.yml";
+    private static final String[] FIRST_NAMES = {"Jane", "John", "Mary-Ann", "Bob", "Alice"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Taylor", "Miller-Jones", "Brown"};
+    private static final int CENTS = 100;
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Returns the application context started without executing any controllers. The context is started only once
+     * per JVM and shared by all benchmarks running in the same fork.
+     *
+     * @return the context
+     */
+    @NotNull
+    public static synchronized ConfigurableApplicationContext context() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(YippeeKiJsonApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .bannerMode(Banner.Mode.OFF)
+                    .logStartupInfo(false)
+                    .run();
+        }
+        return context;
+    }
+
+    /**
+     * Returns the named bean from the shared context.
+     *
+     * @param name The name of the bean.
+     * @param type The type of the bean.
+     * @param <T>  The type of the bean.
+     * @return the bean
+     */
+    @NotNull
+    public static <T> T bean(@NotNull final String name, @NotNull final Class<T> type) {
+        return context().getBean(name, type);
+    }
+
+    /**
+     * Returns the raw bytes of the benchmark action configuration.
+     *
+     * @return the YAML content
+     */
+    @NotNull
+    public static byte[] actionsYaml() {
+        try {
+            return IOUtils.resourceToByteArray(ACTIONS_RESOURCE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the benchmark configuration and returns the action with the given name.
+     *
+     * @param name The name of the action.
+     * @return the action
+     * @throws ConfigParseException When the configuration cannot be parsed.
+     */
+    @NotNull
+    public static JsonAction action(@NotNull final String name) throws ConfigParseException {
+        final JsonActions actions = bean("actionConfigParser", ActionConfigParser.class).parse(new ByteArrayInputStream(actionsYaml()), false);
+        return Optional.ofNullable(actions.getActions().get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unknown benchmark action: " + name));
+    }
+
+    /**
+     * Generates a document with the given number of accounts matching the paths used in the benchmark actions.
+     *
+     * @param accounts The number of accounts in the document.
+     * @return the JSON document
+     */
+    @NotNull
+    public static String document(final int accounts) {
+        final StringBuilder builder = new StringBuilder("{\"accounts\":[");
+        for (int i = 0; i < accounts; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            final String first = FIRST_NAMES[i % FIRST_NAMES.length];
+            final String last = LAST_NAMES[i % LAST_NAMES.length];
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"").append(first).append(' ').append(last)
+                    .append("\",\"email\":\"").append(first.toLowerCase(Locale.ROOT)).append('.').append(i).append("@example.com")
+                    .append("\",\"balance\":").append(i / CENTS).append('.').append(String.format("%02d", i % CENTS))
+                    .append(",\"source\":\"import\",\"node\":{\"child\":\"").append(last)
+                    .append("\",\"empty\":null}}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * Generates a document with the given number of accounts and returns it as UTF-8 bytes.
+     *
+     * @param accounts The number of accounts in the document.
+     * @return the JSON document
+     */
+    @NotNull
+    public static byte[] documentBytes(final int accounts) {
+        return document(accounts).getBytes(StandardCharsets.UTF_8);
+    }
+}
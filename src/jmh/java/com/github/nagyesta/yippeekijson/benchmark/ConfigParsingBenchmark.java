@@ -0,0 +1,43 @@
+package com.github.nagyesta.yippeekijson.benchmark;
+
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonActions;
+import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of the benchmark actions using the {@link ActionConfigParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConfigParsingBenchmark {
+
+    @Param({"false", "true"})
+    private boolean relaxed;
+    private byte[] yaml;
+    private ActionConfigParser actionConfigParser;
+
+    /**
+     * Loads the configuration and resolves the parser.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        yaml = BenchmarkSupport.actionsYaml();
+        actionConfigParser = BenchmarkSupport.bean("actionConfigParser", ActionConfigParser.class);
+    }
+
+    /**
+     * Parses the configuration.
+     *
+     * @return the parsed actions
+     * @throws ConfigParseException When the configuration is invalid.
+     */
+    @Benchmark
+    public JsonActions parse() throws ConfigParseException {
+        return actionConfigParser.parse(new ByteArrayInputStream(yaml), relaxed);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.nagyesta.yippeekijson.benchmark;
+
+import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
+import com.github.nagyesta.yippeekijson.core.config.parser.raw.params.RawConfigMap;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the evaluation of the predicates configured the same way as they would be in an action.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PredicateBenchmark {
+
+    private static final int INPUTS = 100;
+    private static final String NAME = "name";
+    private static final String PATTERN = "(?<firstName>[A-Za-z\\-]+) (?<lastName>[A-Za-z\\-]+)";
+
+    @Param({"REGEX", "SPEL", "EVAL_ON"})
+    private PredicateCase predicateCase;
+    private Predicate<Object> predicate;
+    private Object[] inputs;
+
+    /**
+     * Looks up the predicate and generates the inputs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final FunctionRegistry functionRegistry = BenchmarkSupport.bean("functionRegistry", FunctionRegistry.class);
+        predicate = functionRegistry.lookupPredicate(new RawConfigMap("predicate", predicateCase.config()).asMap());
+        inputs = IntStream.range(0, INPUTS)
+                .mapToObj(i -> predicateCase.input(i))
+                .toArray();
+    }
+
+    /**
+     * Evaluates the predicate on each input.
+     *
+     * @return the number of matching inputs
+     */
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public int test() {
+        int matches = 0;
+        for (final Object input : inputs) {
+            if (predicate.test(input)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * The predicate configurations we are measuring.
+     */
+    public enum PredicateCase {
+        /**
+         * Regular expression matching a name.
+         */
+        REGEX {
+            @Override
+            Map<String, Object> config() {
+                return Map.of(NAME, "regex", "pattern", PATTERN);
+            }
+
+            @Override
+            Object input(final int index) {
+                return personName(index);
+            }
+        },
+        /**
+         * Spring Expression Language predicate evaluated on a map.
+         */
+        SPEL {
+            @Override
+            Map<String, Object> config() {
+                return Map.of(NAME, "SpEL", "expression", "#root['id'] % 2 == 0 and #root['name'] != null");
+            }
+
+            @Override
+            Object input(final int index) {
+                return Map.of("id", index, NAME, personName(index));
+            }
+        },
+        /**
+         * Regular expression evaluated on a child node.
+         */
+        EVAL_ON {
+            @Override
+            Map<String, Object> config() {
+                return Map.of(NAME, "evalOn", "childPath", "node.child", "predicate", REGEX.config());
+            }
+
+            @Override
+            Object input(final int index) {
+                return Map.of("node", Map.of("child", personName(index)));
+            }
+        };
+
+        abstract Map<String, Object> config();
+
+        abstract Object input(int index);
+
+        @NotNull
+        private static String personName(final int index) {
+            if (index % 2 == 0) {
+                return "Jane Doe";
+            }
+            return "Jane";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.nagyesta.yippeekijson.benchmark;
+
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonAction;
+import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the built-in rules one by one on an already parsed document. Every invocation gets a freshly parsed
+ * document as the rules are modifying it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RuleBenchmark {
+
+    @Param({"replace", "calculate", "deleteFrom", "replaceMap", "validate"})
+    private String rule;
+    @Param({"1000"})
+    private int accounts;
+    private String document;
+    private JsonAction action;
+    private Configuration configuration;
+    private DocumentContext documentContext;
+
+    /**
+     * Generates the document and resolves the action containing the rule.
+     *
+     * @throws ConfigParseException When the benchmark configuration is invalid.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ConfigParseException {
+        document = BenchmarkSupport.document(accounts);
+        action = BenchmarkSupport.action(rule);
+        configuration = BenchmarkSupport.bean("yippeeJsonMapper", JsonMapper.class).parserConfiguration();
+    }
+
+    /**
+     * Parses a fresh copy of the document before each invocation.
+     */
+    @Setup(Level.Invocation)
+    public void parseDocument() {
+        documentContext = JsonPath.parse(document, configuration);
+    }
+
+    /**
+     * Applies the rules of the action to the parsed document.
+     *
+     * @return the modified document
+     */
+    @Benchmark
+    public DocumentContext applyRule() {
+        action.getRules().forEach(jsonRule -> jsonRule.accept(documentContext));
+        return documentContext;
+    }
+}
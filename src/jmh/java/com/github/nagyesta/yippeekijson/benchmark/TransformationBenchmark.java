@@ -0,0 +1,83 @@
+package com.github.nagyesta.yippeekijson.benchmark;
+
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonAction;
+import com.github.nagyesta.yippeekijson.core.control.JsonTransformer;
+import com.github.nagyesta.yippeekijson.core.control.OutputFormat;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole parse, rules, serialize cycle of {@link JsonTransformer} at several document sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformationBenchmark {
+
+    private static final int INDENT = 3;
+
+    @Param({"10", "1000", "50000"})
+    private int accounts;
+    private byte[] document;
+    private JsonAction action;
+    private JsonTransformer jsonTransformer;
+    private ByteArrayOutputStream output;
+
+    /**
+     * Generates the document and resolves the action.
+     *
+     * @throws ConfigParseException When the benchmark configuration is invalid.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ConfigParseException {
+        document = BenchmarkSupport.documentBytes(accounts);
+        action = BenchmarkSupport.action("transform");
+        jsonTransformer = BenchmarkSupport.bean("jsonTransformer", JsonTransformer.class);
+        output = new ByteArrayOutputStream(document.length * 2);
+    }
+
+    /**
+     * Transforms the document into a pretty printed {@link String}.
+     *
+     * @return the transformed document
+     * @throws JsonTransformException When the transformation fails.
+     */
+    @Benchmark
+    public String transformToString() throws JsonTransformException {
+        return jsonTransformer.transform(new ByteArrayInputStream(document), StandardCharsets.UTF_8, action);
+    }
+
+    /**
+     * Transforms the document writing the pretty printed result directly to a stream.
+     *
+     * @return the number of bytes written
+     * @throws JsonTransformException When the transformation fails.
+     */
+    @Benchmark
+    public int transformToStreamPretty() throws JsonTransformException {
+        return transformToStream(OutputFormat.PRETTY);
+    }
+
+    /**
+     * Transforms the document writing the compact result directly to a stream.
+     *
+     * @return the number of bytes written
+     * @throws JsonTransformException When the transformation fails.
+     */
+    @Benchmark
+    public int transformToStreamCompact() throws JsonTransformException {
+        return transformToStream(OutputFormat.COMPACT);
+    }
+
+    private int transformToStream(final OutputFormat outputFormat) throws JsonTransformException {
+        output.reset();
+        jsonTransformer.transform(new ByteArrayInputStream(document), StandardCharsets.UTF_8, action, output, outputFormat, INDENT);
+        return output.size();
+    }
+}
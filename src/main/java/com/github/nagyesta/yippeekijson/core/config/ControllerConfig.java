@@ -1,21 +1,39 @@
 package com.github.nagyesta.yippeekijson.core.config;
 
+import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
 import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonRuleRegistry;
+import com.github.nagyesta.yippeekijson.core.config.parser.impl.CachingActionConfigParser;
 import com.github.nagyesta.yippeekijson.core.config.parser.impl.YamlActionConfigParser;
 import com.github.nagyesta.yippeekijson.core.control.*;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
 import com.github.nagyesta.yippeekijson.metadata.schema.definitions.JsonSchemaExporter;
 import com.github.nagyesta.yippeekijson.metadata.schema.markdown.DocumentationExporter;
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class ControllerConfig {
 
+    private static final String RUN_CONFIG_PREFIX = "yippee";
+
     @Autowired
     private JsonMapper yippeeJsonMapper;
     @Autowired
@@ -26,10 +44,18 @@ public class ControllerConfig {
     private DocumentationExporter documentExporter;
     @Autowired
     private JsonSchemaExporter jsonSchemaExporter;
+    @Autowired
+    private PredicateStatistics predicateStatistics;
+    @Autowired
+    private RunMetrics runMetrics;
+    @Autowired
+    private ConfigurableEnvironment environment;
+    @Value("${application.version:unknown}")
+    private String applicationVersion;
 
     @Bean
     public ActionConfigParser actionConfigParser() {
-        return new YamlActionConfigParser(jsonRuleRegistry, validator);
+        return new CachingActionConfigParser(new YamlActionConfigParser(jsonRuleRegistry, validator), predicateStatistics);
     }
 
     @Bean
@@ -39,12 +65,13 @@ public class ControllerConfig {
 
     @Bean
     public JsonTransformer jsonTransformer() {
-        return new JsonTransformerImpl(yippeeJsonMapper);
+        return new JsonTransformerImpl(yippeeJsonMapper, runMetrics);
     }
 
     @Bean
     public ApplicationController filePairProcessorController() {
-        return new FilePairProcessorController(jsonTransformer(), fileSetTransformer(), actionConfigParser(), validator);
+        return new FilePairProcessorController(jsonTransformer(), fileSetTransformer(), actionConfigParser(),
+                predicateStatistics, runMetrics, applicationVersion, validator);
     }
 
     @Bean
@@ -57,13 +84,28 @@ public class ControllerConfig {
         return new YamlSchemaExportController(jsonSchemaExporter, validator);
     }
 
+    @Bean
+    public ApplicationController daemonController() {
+        return new DaemonController(filePairProcessorController(), this::bindJobConfig, validator);
+    }
+
     @Bean
     @Primary
     public ApplicationController dispatcherApplicationController() {
         return new DispatcherApplicationController(
                 filePairProcessorController(),
                 markdownExportController(),
-                yamlSchemaExportController());
+                yamlSchemaExportController(),
+                daemonController());
+    }
+
+    private RunConfig bindJobConfig(final Map<String, String> job) {
+        final List<ConfigurationPropertySource> sources = new ArrayList<>();
+        sources.add(new MapConfigurationPropertySource(job));
+        ConfigurationPropertySources.get(environment).forEach(sources::add);
+        return new Binder(sources, new PropertySourcesPlaceholdersResolver(environment),
+                ApplicationConversionService.getSharedInstance())
+                .bindOrCreate(RUN_CONFIG_PREFIX, RunConfig.class);
     }
 
 }
@@ -2,6 +2,8 @@ package com.github.nagyesta.yippeekijson.core.config;
 
 import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
 import com.github.nagyesta.yippeekijson.core.config.entities.HttpConfig;
+import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
+import com.github.nagyesta.yippeekijson.core.config.entities.SchemaStoreConfig;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonRuleRegistry;
@@ -11,8 +13,16 @@ import com.github.nagyesta.yippeekijson.core.config.parser.impl.JsonMapperImpl;
 import com.github.nagyesta.yippeekijson.core.config.parser.impl.JsonRuleRegistryImpl;
 import com.github.nagyesta.yippeekijson.core.function.*;
 import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.ResourceCache;
+import com.github.nagyesta.yippeekijson.core.http.impl.CachingHttpClient;
 import com.github.nagyesta.yippeekijson.core.http.impl.DefaultHttpClient;
+import com.github.nagyesta.yippeekijson.core.http.impl.MetricsRecordingHttpClient;
+import com.github.nagyesta.yippeekijson.core.http.impl.PersistentResourceCache;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetricsImpl;
 import com.github.nagyesta.yippeekijson.core.predicate.*;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatisticsImpl;
 import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
 import com.github.nagyesta.yippeekijson.core.rule.impl.*;
 import com.github.nagyesta.yippeekijson.core.supplier.*;
@@ -22,6 +32,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ConversionServiceFactoryBean;
 import org.springframework.core.convert.ConversionService;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -99,8 +110,36 @@ public class JsonRegistryConfig {
 
     @Bean
     @Injectable(forType = HttpClient.class)
-    public HttpClient httpClient(@Autowired final HttpConfig httpConfig) {
-        return new DefaultHttpClient(httpConfig);
+    public HttpClient httpClient(@Autowired final HttpConfig httpConfig,
+                                 @Autowired final RunMetrics runMetrics) {
+        HttpClient httpClient = new DefaultHttpClient(httpConfig);
+        if (runMetrics.isEnabled()) {
+            httpClient = new MetricsRecordingHttpClient(httpClient, runMetrics);
+        }
+        if (httpConfig.getCacheMaxEntries() <= 0) {
+            return httpClient;
+        }
+        return new CachingHttpClient(httpClient, Duration.ofSeconds(httpConfig.getCacheTtlSeconds()),
+                httpConfig.getCacheMaxEntries(), httpConfig.getCacheMaxBytes());
+    }
+
+    @Bean
+    @Injectable(forType = ResourceCache.class)
+    public ResourceCache resourceCache(@Autowired final HttpClient httpClient,
+                                       @Autowired final SchemaStoreConfig schemaStoreConfig) {
+        return new PersistentResourceCache(httpClient, schemaStoreConfig);
+    }
+
+    @Bean
+    @Injectable(forType = PredicateStatistics.class)
+    public PredicateStatistics predicateStatistics(@Autowired final RunConfig runConfig) {
+        return new PredicateStatisticsImpl(runConfig.isAdaptivePredicates(), runConfig.getSpelCompilerMode());
+    }
+
+    @Bean
+    @Injectable(forType = RunMetrics.class)
+    public RunMetrics runMetrics(@Autowired final RunConfig runConfig) {
+        return new RunMetricsImpl(runConfig.isMetricsEnabled());
     }
 
     @Bean
@@ -6,6 +6,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.http.HttpClient;
+
 @Getter
 @Setter
 @Injectable(forType = HttpConfig.class)
@@ -17,6 +19,13 @@ public class HttpConfig {
     private int minSuccessStatus;
     private int maxSuccessStatus;
     private int timeoutSeconds;
+    private int maxConcurrentRequests;
+    private int connectTimeoutSeconds;
+    private HttpClient.Version httpVersion;
+    private int executorThreads;
+    private int cacheTtlSeconds;
+    private int cacheMaxEntries;
+    private long cacheMaxBytes;
 
     public HttpConfig() {
     }
@@ -27,6 +36,13 @@ public class HttpConfig {
         this.minSuccessStatus = builder.minSuccessStatus;
         this.maxSuccessStatus = builder.maxSuccessStatus;
         this.timeoutSeconds = builder.timeoutSeconds;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.connectTimeoutSeconds = builder.connectTimeoutSeconds;
+        this.httpVersion = builder.httpVersion;
+        this.executorThreads = builder.executorThreads;
+        this.cacheTtlSeconds = builder.cacheTtlSeconds;
+        this.cacheMaxEntries = builder.cacheMaxEntries;
+        this.cacheMaxBytes = builder.cacheMaxBytes;
     }
 
     public static HttpConfigBuilder builder() {
@@ -40,6 +56,13 @@ public class HttpConfig {
         private int minSuccessStatus;
         private int maxSuccessStatus;
         private int timeoutSeconds;
+        private int maxConcurrentRequests;
+        private int connectTimeoutSeconds;
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+            private int executorThreads;
+        private int cacheTtlSeconds;
+        private int cacheMaxEntries;
+        private long cacheMaxBytes;
 
         HttpConfigBuilder() {
         }
@@ -69,6 +92,41 @@ public class HttpConfig {
             return this;
         }
 
+        public HttpConfigBuilder maxConcurrentRequests(final int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        public HttpConfigBuilder connectTimeoutSeconds(final int connectTimeoutSeconds) {
+            this.connectTimeoutSeconds = connectTimeoutSeconds;
+            return this;
+        }
+
+        public HttpConfigBuilder httpVersion(final HttpClient.Version httpVersion) {
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        public HttpConfigBuilder executorThreads(final int executorThreads) {
+            this.executorThreads = executorThreads;
+            return this;
+        }
+
+        public HttpConfigBuilder cacheTtlSeconds(final int cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+            return this;
+        }
+
+        public HttpConfigBuilder cacheMaxEntries(final int cacheMaxEntries) {
+            this.cacheMaxEntries = cacheMaxEntries;
+            return this;
+        }
+
+        public HttpConfigBuilder cacheMaxBytes(final long cacheMaxBytes) {
+            this.cacheMaxBytes = cacheMaxBytes;
+            return this;
+        }
+
         public HttpConfig build() {
             return new HttpConfig(this);
         }
@@ -3,12 +3,16 @@ package com.github.nagyesta.yippeekijson.core.config.entities;
 import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
 import com.github.nagyesta.yippeekijson.core.config.validation.ValidFile;
 import com.github.nagyesta.yippeekijson.core.config.validation.ValidYippeeConfig;
+import com.github.nagyesta.yippeekijson.core.control.ExecutionMode;
+import com.github.nagyesta.yippeekijson.core.control.InputFormat;
+import com.github.nagyesta.yippeekijson.core.control.OutputFormat;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.io.filefilter.*;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.util.StringUtils;
 
 import java.io.File;
@@ -30,6 +34,12 @@ import static com.github.nagyesta.yippeekijson.core.config.validation.ValidFile.
 @ConfigurationProperties(prefix = "yippee", ignoreUnknownFields = false)
 public class RunConfig {
 
+    private static final String INCREMENTAL_MANIFEST = ".yippee-manifest.properties";
+    private static final int MAX_PORT = 65535;
+    private static final String USER_HOME = "user.home";
+    private static final String DAEMON_TOKEN_PREFIX = ".yippee-daemon-";
+    private static final String DAEMON_TOKEN_SUFFIX = ".token";
+
     public interface Transform {
     }
 
@@ -39,6 +49,9 @@ public class RunConfig {
     public interface ExportMarkdown {
     }
 
+    public interface Daemon {
+    }
+
     @NotBlank(groups = Transform.class)
     private String config;
     @NotBlank(groups = Transform.class)
@@ -68,6 +81,39 @@ public class RunConfig {
     private List<String> includes;
     @NotNull(groups = Transform.class)
     private List<String> excludes;
+    @Min(value = 1, groups = Transform.class)
+    private int parallelism;
+    @NotNull(groups = Transform.class)
+    private ExecutionMode executionMode;
+    @NotNull(groups = Transform.class)
+    private InputFormat inputFormat;
+    @NotBlank(groups = Transform.class)
+    private String streamArrayPath;
+    @NotNull(groups = Transform.class)
+    private OutputFormat outputFormat;
+    @Min(value = 0, groups = Transform.class)
+    private int outputIndent;
+    private boolean adaptivePredicates;
+    @NotNull(groups = Transform.class)
+    private SpelCompilerMode spelCompilerMode;
+    private String metricsPrometheusFile;
+    private String metricsJsonFile;
+    private boolean jfrEvents;
+    private boolean incremental;
+    private boolean recursive;
+    @Min(value = 1, groups = Transform.class)
+    private int discoveryParallelism;
+    @Min(value = 0, groups = Transform.class)
+    private long memoryBudget;
+    @DecimalMin(value = "1.0", groups = Transform.class)
+    private double memoryExpansionFactor;
+    @Min(value = 0, groups = Daemon.class)
+    @Max(value = MAX_PORT, groups = Daemon.class)
+    private int daemonPort;
+    private String daemonTokenFile;
+    private boolean watch;
+    @Min(value = 0, groups = Transform.class)
+    private long watchDebounce;
 
     public RunConfig() {
     }
@@ -85,6 +131,26 @@ public class RunConfig {
         this.charset = builder.charset;
         this.includes = builder.includes;
         this.excludes = builder.excludes;
+        this.parallelism = builder.parallelism;
+        this.executionMode = builder.executionMode;
+        this.inputFormat = builder.inputFormat;
+        this.streamArrayPath = builder.streamArrayPath;
+        this.outputFormat = builder.outputFormat;
+        this.outputIndent = builder.outputIndent;
+        this.adaptivePredicates = builder.adaptivePredicates;
+        this.spelCompilerMode = builder.spelCompilerMode;
+        this.metricsPrometheusFile = builder.metricsPrometheusFile;
+        this.metricsJsonFile = builder.metricsJsonFile;
+        this.jfrEvents = builder.jfrEvents;
+        this.incremental = builder.incremental;
+        this.recursive = builder.recursive;
+        this.discoveryParallelism = builder.discoveryParallelism;
+        this.memoryBudget = builder.memoryBudget;
+        this.memoryExpansionFactor = builder.memoryExpansionFactor;
+        this.daemonPort = builder.daemonPort;
+        this.daemonTokenFile = builder.daemonTokenFile;
+        this.watch = builder.watch;
+        this.watchDebounce = builder.watchDebounce;
     }
 
     public static RunConfigBuilder builder() {
@@ -151,6 +217,68 @@ public class RunConfig {
                         .builder().setWildcards(excludes).get(), DirectoryFileFilter.DIRECTORY)));
     }
 
+    /**
+     * Returns the Prometheus textfile receiving the metrics of the run as a file.
+     *
+     * @return the metrics file or null if blank
+     */
+    public File getMetricsPrometheusFileAsFile() {
+        return optionalNonBlankFile(metricsPrometheusFile);
+    }
+
+    /**
+     * Returns the JSON file receiving the metrics of the run as a file.
+     *
+     * @return the metrics file or null if blank
+     */
+    public File getMetricsJsonFileAsFile() {
+        return optionalNonBlankFile(metricsJsonFile);
+    }
+
+    /**
+     * Returns whether any of the metrics export files is set.
+     *
+     * @return true if the metrics need to be recorded
+     */
+    public boolean isMetricsEnabled() {
+        return StringUtils.hasText(metricsPrometheusFile) || StringUtils.hasText(metricsJsonFile);
+    }
+
+    /**
+     * Returns the manifest file used by incremental runs. The manifest is kept in the output directory,
+     * or next to the output file when a single file is transformed.
+     *
+     * @return the manifest file
+     */
+    public File getIncrementalManifestAsFile() {
+        final File outputFile = getOutputAsFile().getAbsoluteFile();
+        if (isOutputFileDirectory()) {
+            return new File(outputFile, INCREMENTAL_MANIFEST);
+        } else {
+            return new File(outputFile.getParentFile(), INCREMENTAL_MANIFEST);
+        }
+    }
+
+    private File optionalNonBlankFile(final String file) {
+        return Optional.ofNullable(file)
+                .filter(StringUtils::hasText)
+                .map(File::new)
+                .orElse(null);
+    }
+
+    /**
+     * Returns the file the daemon writes its access token to. Defaults to a file named after the port
+     * in the home directory of the user.
+     *
+     * @return the token file
+     */
+    public File getDaemonTokenFileAsFile() {
+        if (StringUtils.hasText(daemonTokenFile)) {
+            return optionalFile(daemonTokenFile);
+        }
+        return new File(System.getProperty(USER_HOME), DAEMON_TOKEN_PREFIX + daemonPort + DAEMON_TOKEN_SUFFIX);
+    }
+
     private File optionalFile(final String file) {
         return Optional.ofNullable(file)
                 .map(File::new)
@@ -159,6 +287,9 @@ public class RunConfig {
 
     @SuppressWarnings({"UnusedReturnValue", "checkstyle:HiddenField", "checkstyle:DesignForExtension"})
     public static class RunConfigBuilder {
+        private static final int DEFAULT_INDENT = 3;
+        private static final double DEFAULT_EXPANSION_FACTOR = 6.0D;
+        private static final long DEFAULT_WATCH_DEBOUNCE = 500L;
         private String config;
         private String action;
         private String input;
@@ -171,6 +302,26 @@ public class RunConfig {
         private Charset charset = StandardCharsets.UTF_8;
         private List<String> includes = Collections.emptyList();
         private List<String> excludes = Collections.emptyList();
+        private int parallelism = 1;
+        private ExecutionMode executionMode = ExecutionMode.THREAD_POOL;
+        private InputFormat inputFormat = InputFormat.JSON;
+        private String streamArrayPath = "$[*]";
+        private OutputFormat outputFormat = OutputFormat.PRETTY;
+        private int outputIndent = DEFAULT_INDENT;
+        private boolean adaptivePredicates;
+        private SpelCompilerMode spelCompilerMode = SpelCompilerMode.MIXED;
+        private String metricsPrometheusFile;
+        private String metricsJsonFile;
+        private boolean jfrEvents;
+        private boolean incremental;
+        private boolean recursive;
+        private int discoveryParallelism = 1;
+        private long memoryBudget;
+        private double memoryExpansionFactor = DEFAULT_EXPANSION_FACTOR;
+        private int daemonPort;
+        private String daemonTokenFile;
+        private boolean watch;
+        private long watchDebounce = DEFAULT_WATCH_DEBOUNCE;
 
         RunConfigBuilder() {
         }
@@ -235,6 +386,106 @@ public class RunConfig {
             return this;
         }
 
+        public RunConfigBuilder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public RunConfigBuilder executionMode(final ExecutionMode executionMode) {
+            this.executionMode = executionMode;
+            return this;
+        }
+
+        public RunConfigBuilder inputFormat(final InputFormat inputFormat) {
+            this.inputFormat = inputFormat;
+            return this;
+        }
+
+        public RunConfigBuilder streamArrayPath(final String streamArrayPath) {
+            this.streamArrayPath = streamArrayPath;
+            return this;
+        }
+
+        public RunConfigBuilder outputFormat(final OutputFormat outputFormat) {
+            this.outputFormat = outputFormat;
+            return this;
+        }
+
+        public RunConfigBuilder outputIndent(final int outputIndent) {
+            this.outputIndent = outputIndent;
+            return this;
+        }
+
+        public RunConfigBuilder adaptivePredicates(final boolean adaptivePredicates) {
+            this.adaptivePredicates = adaptivePredicates;
+            return this;
+        }
+
+        public RunConfigBuilder spelCompilerMode(final SpelCompilerMode spelCompilerMode) {
+            this.spelCompilerMode = spelCompilerMode;
+            return this;
+        }
+
+        public RunConfigBuilder metricsPrometheusFile(final String metricsPrometheusFile) {
+            this.metricsPrometheusFile = metricsPrometheusFile;
+            return this;
+        }
+
+        public RunConfigBuilder metricsJsonFile(final String metricsJsonFile) {
+            this.metricsJsonFile = metricsJsonFile;
+            return this;
+        }
+
+        public RunConfigBuilder jfrEvents(final boolean jfrEvents) {
+            this.jfrEvents = jfrEvents;
+            return this;
+        }
+
+        public RunConfigBuilder incremental(final boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        public RunConfigBuilder recursive(final boolean recursive) {
+            this.recursive = recursive;
+            return this;
+        }
+
+        public RunConfigBuilder discoveryParallelism(final int discoveryParallelism) {
+            this.discoveryParallelism = discoveryParallelism;
+            return this;
+        }
+
+        public RunConfigBuilder memoryBudget(final long memoryBudget) {
+            this.memoryBudget = memoryBudget;
+            return this;
+        }
+
+        public RunConfigBuilder memoryExpansionFactor(final double memoryExpansionFactor) {
+            this.memoryExpansionFactor = memoryExpansionFactor;
+            return this;
+        }
+
+        public RunConfigBuilder daemonPort(final int daemonPort) {
+            this.daemonPort = daemonPort;
+            return this;
+        }
+
+        public RunConfigBuilder daemonTokenFile(final String daemonTokenFile) {
+            this.daemonTokenFile = daemonTokenFile;
+            return this;
+        }
+
+        public RunConfigBuilder watch(final boolean watch) {
+            this.watch = watch;
+            return this;
+        }
+
+        public RunConfigBuilder watchDebounce(final long watchDebounce) {
+            this.watchDebounce = watchDebounce;
+            return this;
+        }
+
         public RunConfig build() {
             return new RunConfig(this);
         }
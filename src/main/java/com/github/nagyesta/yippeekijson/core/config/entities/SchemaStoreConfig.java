@@ -16,6 +16,9 @@ public class SchemaStoreConfig {
     private String mappingNameKey;
     private String mappingUrlKey;
     private String schemaArrayPath;
+    private String cacheDirectory;
+    private int cacheMaxAgeSeconds;
+    private boolean offline;
 
     public SchemaStoreConfig() {
     }
@@ -25,6 +28,9 @@ public class SchemaStoreConfig {
         this.mappingNameKey = builder.mappingNameKey;
         this.mappingUrlKey = builder.mappingUrlKey;
         this.schemaArrayPath = builder.schemaArrayPath;
+        this.cacheDirectory = builder.cacheDirectory;
+        this.cacheMaxAgeSeconds = builder.cacheMaxAgeSeconds;
+        this.offline = builder.offline;
     }
 
     public static SchemaStoreConfigBuilder builder() {
@@ -37,6 +43,9 @@ public class SchemaStoreConfig {
         private String mappingNameKey;
         private String mappingUrlKey;
         private String schemaArrayPath;
+        private String cacheDirectory;
+        private int cacheMaxAgeSeconds;
+        private boolean offline;
 
         SchemaStoreConfigBuilder() {
         }
@@ -61,6 +70,21 @@ public class SchemaStoreConfig {
             return this;
         }
 
+        public SchemaStoreConfigBuilder cacheDirectory(final String cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        public SchemaStoreConfigBuilder cacheMaxAgeSeconds(final int cacheMaxAgeSeconds) {
+            this.cacheMaxAgeSeconds = cacheMaxAgeSeconds;
+            return this;
+        }
+
+        public SchemaStoreConfigBuilder offline(final boolean offline) {
+            this.offline = offline;
+            return this;
+        }
+
         public SchemaStoreConfig build() {
             return new SchemaStoreConfig(this);
         }
@@ -15,6 +15,7 @@ public interface JsonMapper {
 
     /**
      * Returns the parser configuration we use in the context.
+     * The returned instance is shared and immutable, it is safe to use it from multiple threads.
      *
      * @return the parser config
      */
@@ -32,6 +33,8 @@ public interface JsonMapper {
 
     /**
      * Returns an ObjectMapper with the same configuration we use for parsing/mapping.
+     * The returned instance is shared and thread-safe as long as nobody reconfigures it, therefore callers must not
+     * change its configuration. Use {@link ObjectMapper#copy()} if a differently configured mapper is needed.
      *
      * @return objectMapper
      */
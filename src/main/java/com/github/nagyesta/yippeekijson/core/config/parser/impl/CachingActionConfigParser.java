@@ -0,0 +1,91 @@
+package com.github.nagyesta.yippeekijson.core.config.parser.impl;
+
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonActions;
+import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.ObservedPredicate;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ActionConfigParser} decorator keeping the parsed actions of the configuration files in memory.
+ * The cached actions are reused as long as the path, the last modification time and the size of the
+ * file are unchanged. Streams are always parsed by the wrapped parser. The predicates registered to the
+ * {@link PredicateStatistics} while parsing a file are unregistered when the cached actions are replaced.
+ */
+@Slf4j
+public class CachingActionConfigParser implements ActionConfigParser {
+
+    private final ActionConfigParser delegate;
+    private final PredicateStatistics predicateStatistics;
+    private final Map<String, CachedActions> cache = new ConcurrentHashMap<>();
+
+    public CachingActionConfigParser(@NonNull final ActionConfigParser delegate,
+                                     @NonNull final PredicateStatistics predicateStatistics) {
+        this.delegate = delegate;
+        this.predicateStatistics = predicateStatistics;
+    }
+
+    @Override
+    public JsonActions parse(@NonNull final InputStream stream, final boolean relaxed) throws ConfigParseException {
+        return delegate.parse(stream, relaxed);
+    }
+
+    @Override
+    public JsonActions parse(@NonNull final File config, final boolean relaxed) throws ConfigParseException {
+        final String key = key(config, relaxed);
+        final long lastModified = config.lastModified();
+        final long length = config.length();
+        final CachedActions cached = cache.get(key);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+            log.debug("Reusing parsed actions of: " + config);
+            return cached.actions;
+        }
+        predicateStatistics.startCollectingRegistrations();
+        final JsonActions actions;
+        try {
+            actions = delegate.parse(config, relaxed);
+        } catch (final ConfigParseException | RuntimeException e) {
+            predicateStatistics.unregister(predicateStatistics.stopCollectingRegistrations());
+            throw e;
+        }
+        final List<ObservedPredicate> predicates = predicateStatistics.stopCollectingRegistrations();
+        final CachedActions previous = cache.put(key, new CachedActions(lastModified, length, actions, predicates));
+        if (previous != null) {
+            predicateStatistics.unregister(previous.predicates);
+        }
+        return actions;
+    }
+
+    private String key(@NotNull final File config, final boolean relaxed) throws ConfigParseException {
+        try {
+            return config.getCanonicalPath() + "|" + relaxed;
+        } catch (final IOException e) {
+            throw new ConfigParseException("Failed to resolve config path: " + config, e);
+        }
+    }
+
+    private static final class CachedActions {
+        private final long lastModified;
+        private final long length;
+        private final JsonActions actions;
+        private final List<ObservedPredicate> predicates;
+
+        private CachedActions(final long lastModified, final long length,
+                              @NotNull final JsonActions actions, @NotNull final List<ObservedPredicate> predicates) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.actions = actions;
+            this.predicates = predicates;
+        }
+    }
+}
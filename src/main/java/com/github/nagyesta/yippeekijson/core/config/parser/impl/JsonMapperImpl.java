@@ -10,25 +10,45 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * {@link JsonMapper} implementation creating the {@link ObjectMapper} and the {@link Configuration} only once.
+ * Both are fully configured in the constructor and never changed afterwards, therefore the same instances can be
+ * shared between all callers and threads.
+ */
 @Injectable(forType = JsonMapper.class)
 public class JsonMapperImpl implements JsonMapper {
 
+    private final ObjectMapper objectMapper;
+    private final JacksonMappingProvider mappingProvider;
+    private final Configuration configuration;
+
+    public JsonMapperImpl() {
+        this.objectMapper = createObjectMapper();
+        this.mappingProvider = new JacksonMappingProvider(objectMapper);
+        this.configuration = Configuration.builder()
+                .jsonProvider(new JacksonJsonProvider(objectMapper))
+                .mappingProvider(mappingProvider)
+                .build();
+    }
+
     @Override
     public Configuration parserConfiguration() {
-        return Configuration.builder()
-                .jsonProvider(jsonProvider())
-                .mappingProvider(mappingProvider())
-                .build();
+        return configuration;
     }
 
     @Override
     public <T> T mapTo(@NonNull final Object input, @NonNull final TypeRef<T> typeRef) {
-        return mappingProvider().map(input, typeRef, parserConfiguration());
+        return mappingProvider.map(input, typeRef, configuration);
     }
 
     @Override
     @NotNull
     public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    @NotNull
+    private static ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         final SerializationConfig serializationConfig = objectMapper.getSerializationConfig()
                 .withoutFeatures(SerializationFeature.FAIL_ON_EMPTY_BEANS);
@@ -39,14 +59,4 @@ public class JsonMapperImpl implements JsonMapper {
         objectMapper.setConfig(deserializationConfig);
         return objectMapper;
     }
-
-    @NotNull
-    private JacksonMappingProvider mappingProvider() {
-        return new JacksonMappingProvider(objectMapper());
-    }
-
-    @NotNull
-    private JacksonJsonProvider jsonProvider() {
-        return new JacksonJsonProvider(objectMapper());
-    }
 }
@@ -0,0 +1,127 @@
+package com.github.nagyesta.yippeekijson.core.config.parser.impl;
+
+import com.github.nagyesta.yippeekijson.core.rule.JsonMappingRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.impl.helper.FusedMappingRule;
+import com.jayway.jsonpath.JsonPath;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Plans the execution of the rules of an action. Consecutive {@link JsonMappingRule} instances operating either on
+ * the same nodes, or on named properties of the same indefinite set of nodes are fused into a single
+ * {@link FusedMappingRule} traversing the document only once. Every other rule is kept as is, acting as a barrier,
+ * therefore the declared order of the rules is kept for every node.
+ */
+@Slf4j
+final class JsonRuleFusionPlanner {
+
+    private static final Pattern CHILD_PROPERTY = Pattern.compile("^(.*[^.])\\['([^']*)'\\]$");
+    private static final String FILTER = "[?";
+
+    private JsonRuleFusionPlanner() {
+        //util
+    }
+
+    /**
+     * Fuses the consecutive rules sharing a traversal.
+     *
+     * @param rules The rules in their declared order
+     * @return the planned rules in the same order
+     */
+    static List<JsonRule> plan(@NonNull final List<JsonRule> rules) {
+        final List<JsonRule> planned = new ArrayList<>();
+        Group group = null;
+        for (final JsonRule rule : rules) {
+            final Target target = target(rule);
+            if (group != null && target != null && group.path.equals(target.path)) {
+                group.add(target);
+                continue;
+            }
+            if (group != null) {
+                planned.add(group.toRule());
+                group = null;
+            }
+            if (target != null) {
+                group = new Group(target);
+            } else {
+                planned.add(rule);
+            }
+        }
+        if (group != null) {
+            planned.add(group.toRule());
+        }
+        if (planned.size() < rules.size()) {
+            log.info("Fused " + rules.size() + " rules into " + planned.size() + " document traversals.");
+        }
+        return planned;
+    }
+
+    @Nullable
+    private static Target target(@NotNull final JsonRule rule) {
+        if (!(rule instanceof JsonMappingRule)) {
+            return null;
+        }
+        final String path = rule.getJsonPath().getPath();
+        if (path.contains(FILTER)) {
+            return null;
+        }
+        final JsonMappingRule mappingRule = (JsonMappingRule) rule;
+        final Matcher matcher = CHILD_PROPERTY.matcher(path);
+        if (matcher.matches()) {
+            final JsonPath parent = JsonPath.compile(matcher.group(1));
+            if (!parent.isDefinite()) {
+                return new Target(parent.getPath(), matcher.group(2), mappingRule);
+            }
+        }
+        return new Target(path, null, mappingRule);
+    }
+
+    private static final class Target {
+        private final String path;
+        private final String property;
+        private final JsonMappingRule rule;
+
+        private Target(@NotNull final String path, @Nullable final String property, @NotNull final JsonMappingRule rule) {
+            this.path = path;
+            this.property = property;
+            this.rule = rule;
+        }
+    }
+
+    private static final class Group {
+        private final String path;
+        private final List<Target> targets = new ArrayList<>();
+
+        private Group(@NotNull final Target first) {
+            this.path = first.path;
+            this.targets.add(first);
+        }
+
+        private void add(@NotNull final Target target) {
+            targets.add(target);
+        }
+
+        private JsonRule toRule() {
+            if (targets.size() == 1) {
+                return targets.get(0).rule;
+            }
+            final FusedMappingRule.FusedMappingRuleBuilder builder = FusedMappingRule.builder(JsonPath.compile(path));
+            targets.forEach(target -> {
+                if (target.property == null) {
+                    builder.addRule(target.rule);
+                } else {
+                    builder.addPropertyRule(target.property, target.rule);
+                }
+            });
+            return builder.build();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.github.nagyesta.yippeekijson.core.config.parser.JsonRuleRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawJsonAction;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawJsonActions;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
@@ -35,6 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -158,7 +160,7 @@ public class YamlActionConfigParser implements ActionConfigParser {
     }
 
     /**
-     * Converts a single {@link RawJsonAction} into an action.
+     * Converts a single {@link RawJsonAction} into an action, fusing the rules which can share a traversal.
      *
      * @param rawJsonAction The RAW format
      * @return the converted action.
@@ -173,9 +175,10 @@ public class YamlActionConfigParser implements ActionConfigParser {
         final JsonAction.JsonActionBuilder actionBuilder = JsonAction.builder()
                 .name(rawJsonAction.getName());
 
-        rawJsonAction.getRules().stream()
+        final List<JsonRule> rules = rawJsonAction.getRules().stream()
                 .map(ruleRegistry::newInstanceFrom)
-                .forEach(actionBuilder::addRule);
+                .collect(Collectors.toList());
+        JsonRuleFusionPlanner.plan(rules).forEach(actionBuilder::addRule);
 
         return actionBuilder.build();
     }
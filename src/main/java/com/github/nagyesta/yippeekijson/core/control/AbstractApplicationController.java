@@ -2,6 +2,7 @@ package com.github.nagyesta.yippeekijson.core.control;
 
 import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigValidationException;
+import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.apache.commons.io.FileUtils;
@@ -11,13 +12,20 @@ import org.slf4j.Logger;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Set;
 
 public abstract class AbstractApplicationController implements ApplicationController {
 
+    private static final String TEMP_PREFIX = ".yippee-";
+    private static final String TEMP_SUFFIX = ".tmp";
     private final Validator validator;
     private final Logger log;
 
@@ -67,4 +75,79 @@ public abstract class AbstractApplicationController implements ApplicationContro
                                @NotNull final String transformed) throws IOException {
         FileUtils.write(value, transformed, charset, false);
     }
+
+    /**
+     * Streams the output of the content writer into the provided file. The content is written into a
+     * temporary file first, which replaces the target only after the writer completed successfully.
+     *
+     * @param value         the file we need to write to
+     * @param contentWriter the writer producing the content
+     * @throws IOException            When the file cannot be written.
+     * @throws JsonTransformException When the content writer fails.
+     */
+    protected void writeToFile(@NotNull final File value,
+                               @NotNull final ContentWriter contentWriter) throws IOException, JsonTransformException {
+        moveToFile(writeToTempFile(value, contentWriter), value);
+    }
+
+    /**
+     * Streams the output of the content writer into a new temporary file next to the provided file.
+     * The temporary file is deleted if the writer fails.
+     *
+     * @param value         the file we will need to replace with the temporary file
+     * @param contentWriter the writer producing the content
+     * @return the temporary file which must be passed to {@link #moveToFile(Path, File)}
+     * @throws IOException            When the file cannot be written.
+     * @throws JsonTransformException When the content writer fails.
+     */
+    @NotNull
+    protected Path writeToTempFile(@NotNull final File value,
+                                   @NotNull final ContentWriter contentWriter) throws IOException, JsonTransformException {
+        final File directory = value.getAbsoluteFile().getParentFile();
+        FileUtils.forceMkdir(directory);
+        final Path temp = Files.createTempFile(directory.toPath(), TEMP_PREFIX, TEMP_SUFFIX);
+        boolean written = false;
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                contentWriter.writeTo(outputStream);
+            }
+            written = true;
+            return temp;
+        } finally {
+            if (!written) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Replaces the provided file with the temporary file. The temporary file is deleted if the move fails.
+     *
+     * @param temp  the temporary file returned by {@link #writeToTempFile(File, ContentWriter)}
+     * @param value the file we need to replace
+     * @throws IOException When the file cannot be replaced.
+     */
+    protected void moveToFile(@NotNull final Path temp, @NotNull final File value) throws IOException {
+        try {
+            Files.move(temp, value.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Produces the content of a file directly on an {@link OutputStream}.
+     */
+    @FunctionalInterface
+    protected interface ContentWriter {
+
+        /**
+         * Writes the content to the stream.
+         *
+         * @param outputStream The stream we need to write to
+         * @throws IOException            When the stream cannot be written.
+         * @throws JsonTransformException When the content cannot be produced.
+         */
+        void writeTo(@NotNull OutputStream outputStream) throws IOException, JsonTransformException;
+    }
 }
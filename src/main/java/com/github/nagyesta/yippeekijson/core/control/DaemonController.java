@@ -0,0 +1,293 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigValidationException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Long-running implementation of {@link ApplicationController} accepting transformation jobs over
+ * loopback HTTP. The Spring context and the parsed action configurations are kept between the jobs,
+ * therefore only the transformation itself needs to be done for each request.
+ * <p>
+ * A job is a JSON object using the names of the command line options without the "yippee." prefix,
+ * e.g. {"config": "actions.yml", "action": "split-name", "input": "in.json", "output": "out.json"}.
+ * The missing options are inherited from the configuration of the daemon. Only the options of the file
+ * processing can be set by a job, the options used by the shared components created when the daemon starts
+ * (e.g. the daemon, watch, metrics, predicate and additional options) are rejected. The jobs are processed
+ * one at a time, the run metrics and the predicate statistics are reset when a job starts.
+ * <p>
+ * A random access token is generated when the daemon starts and written to a file only the owner can
+ * read. Each request must send it in the {@value #TOKEN_HEADER} header using the application/json
+ * content type. Requests with an Origin header are rejected to keep browsers out.
+ */
+@Slf4j
+public class DaemonController extends AbstractApplicationController {
+
+    /**
+     * The path accepting the transformation jobs using POST requests.
+     */
+    public static final String TRANSFORM_PATH = "/transform";
+    /**
+     * The path stopping the daemon using POST requests.
+     */
+    public static final String SHUTDOWN_PATH = "/shutdown";
+    /**
+     * The header which must contain the access token of the daemon.
+     */
+    public static final String TOKEN_HEADER = "X-Yippee-Token";
+    private static final String POST = "POST";
+    private static final String PREFIX = "yippee.";
+    private static final String THREAD_PREFIX = "yippee-daemon-";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String ORIGIN = "Origin";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String OWNER_ONLY = "rw-------";
+    private static final Set<String> JOB_OPTIONS = Set.of("config", "action", "input", "output", "outputdirectory",
+            "allowoverwrite", "relaxedymlschema", "charset", "includes", "excludes", "parallelism", "executionmode",
+            "inputformat", "streamarraypath", "outputformat", "outputindent", "jfrevents", "incremental", "recursive",
+            "discoveryparallelism", "memorybudget", "memoryexpansionfactor");
+    private static final Map<String, String> JOB_OVERRIDES = Map.of(PREFIX + "daemon-port", "0", PREFIX + "watch", "false");
+    private static final int TOKEN_BYTES = 32;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_UNPROCESSABLE = 422;
+    private static final int STATUS_ERROR = 500;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private final ApplicationController jobController;
+    private final Function<Map<String, String>, RunConfig> jobConfigFactory;
+    private final CountDownLatch shutdown = new CountDownLatch(1);
+    private final Lock jobLock = new ReentrantLock(true);
+    private final SecureRandom secureRandom = new SecureRandom();
+    private volatile byte[] token;
+    private volatile Path tokenFile;
+
+    public DaemonController(@NotNull final ApplicationController jobController,
+                            @NotNull final Function<Map<String, String>, RunConfig> jobConfigFactory,
+                            @NotNull final Validator validator) {
+        super(validator, log);
+        this.jobController = jobController;
+        this.jobConfigFactory = jobConfigFactory;
+    }
+
+    @Override
+    public void process(@NotNull final RunConfig runConfig) throws ConfigParseException, ConfigValidationException {
+        validateConfig(runConfig);
+        final HttpServer server = start(runConfig.getDaemonPort(), runConfig.getParallelism(), runConfig.getDaemonTokenFileAsFile());
+        try {
+            shutdown.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stop(server);
+        }
+    }
+
+    /**
+     * Starts the HTTP server on the loopback interface after writing a new access token to the token file.
+     *
+     * @param port          The port we need to listen on (0 for an ephemeral port)
+     * @param threads       The number of jobs processed concurrently
+     * @param tokenFileName The file the access token is written to
+     * @return the running server
+     */
+    @NotNull
+    public HttpServer start(final int port, final int threads, @NotNull final File tokenFileName) {
+        try {
+            writeToken(tokenFileName.toPath().toAbsolutePath());
+            final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.setExecutor(Executors.newFixedThreadPool(Math.max(1, threads), new CustomizableThreadFactory(THREAD_PREFIX)));
+            server.createContext(TRANSFORM_PATH, this::handleTransform);
+            server.createContext(SHUTDOWN_PATH, this::handleShutdown);
+            server.start();
+            log.info("Daemon is listening on: " + server.getAddress() + " using the token stored in: " + tokenFile);
+            return server;
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to start daemon: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stops the server and the executor processing the jobs, then deletes the token file.
+     *
+     * @param server The server returned by {@link #start(int, int, File)}
+     */
+    public void stop(@NotNull final HttpServer server) {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (final IOException e) {
+            log.warn("Failed to delete token file: " + tokenFile);
+        }
+        log.info("Daemon stopped.");
+    }
+
+    @Override
+    @NotNull
+    protected Class<?> getValidationGroup() {
+        return RunConfig.Daemon.class;
+    }
+
+    private void writeToken(final Path file) throws IOException {
+        final byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        final String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        final Path directory = file.getParent();
+        Files.createDirectories(directory);
+        final Path temp;
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            temp = Files.createTempFile(directory, file.getFileName().toString(), null,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY)));
+        } else {
+            temp = Files.createTempFile(directory, file.getFileName().toString(), null);
+            final File tempFile = temp.toFile();
+            if (!(tempFile.setReadable(false, false) && tempFile.setReadable(true, true))) {
+                log.warn("Failed to restrict the permissions of the token file: " + file);
+            }
+        }
+        try {
+            Files.writeString(temp, value, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        this.token = value.getBytes(StandardCharsets.UTF_8);
+        this.tokenFile = file;
+    }
+
+    private boolean isAccepted(final HttpExchange exchange) throws IOException {
+        if (!POST.equals(exchange.getRequestMethod())) {
+            respond(exchange, STATUS_METHOD_NOT_ALLOWED, "FAILURE", "Only POST is supported.");
+            return false;
+        }
+        if (exchange.getRequestHeaders().containsKey(ORIGIN)) {
+            respond(exchange, STATUS_FORBIDDEN, "FAILURE", "Cross-origin requests are not supported.");
+            return false;
+        }
+        final String providedToken = Objects.requireNonNullElse(exchange.getRequestHeaders().getFirst(TOKEN_HEADER), "");
+        if (!MessageDigest.isEqual(token, providedToken.getBytes(StandardCharsets.UTF_8))) {
+            respond(exchange, STATUS_UNAUTHORIZED, "FAILURE", "Missing or invalid " + TOKEN_HEADER + " header.");
+            return false;
+        }
+        final String contentType = Objects.requireNonNullElse(exchange.getRequestHeaders().getFirst(CONTENT_TYPE), "");
+        if (!contentType.split(";")[0].trim().equalsIgnoreCase(APPLICATION_JSON)) {
+            respond(exchange, STATUS_UNSUPPORTED_MEDIA_TYPE, "FAILURE", "Only " + APPLICATION_JSON + " is supported.");
+            return false;
+        }
+        return true;
+    }
+
+    private void handleTransform(final HttpExchange exchange) throws IOException {
+        if (!isAccepted(exchange)) {
+            return;
+        }
+        final Map<String, String> job;
+        try (InputStream body = exchange.getRequestBody()) {
+            job = flatten(OBJECT_MAPPER.readValue(body, new TypeReference<Map<String, Object>>() {
+            }));
+        } catch (final IOException | IllegalArgumentException e) {
+            respond(exchange, STATUS_BAD_REQUEST, "FAILURE", "Invalid job: " + e.getMessage());
+            return;
+        }
+        jobLock.lock();
+        try {
+            jobController.process(jobConfigFactory.apply(job));
+            respond(exchange, STATUS_OK, "SUCCESS", "Job completed.");
+        } catch (final ConfigValidationException e) {
+            respond(exchange, STATUS_BAD_REQUEST, "FAILURE", describe(e));
+        } catch (final ConfigParseException e) {
+            respond(exchange, STATUS_UNPROCESSABLE, "FAILURE", e.getMessage());
+        } catch (final Exception e) {
+            log.error(e.getMessage(), e);
+            respond(exchange, STATUS_ERROR, "FAILURE", String.valueOf(e.getMessage()));
+        } finally {
+            jobLock.unlock();
+        }
+    }
+
+    private void handleShutdown(final HttpExchange exchange) throws IOException {
+        if (!isAccepted(exchange)) {
+            return;
+        }
+        respond(exchange, STATUS_OK, "SUCCESS", "Shutting down.");
+        shutdown.countDown();
+    }
+
+    private Map<String, String> flatten(final Map<String, Object> job) {
+        final Map<String, String> result = new TreeMap<>();
+        job.forEach((key, value) -> {
+            final String canonical = key.replaceAll("\\[.*$|[-_]", "").toLowerCase(Locale.ROOT);
+            if (!JOB_OPTIONS.contains(canonical)) {
+                throw new IllegalArgumentException("Option cannot be set by a job: " + key);
+            }
+            if (value instanceof List) {
+                final List<?> list = (List<?>) value;
+                for (int i = 0; i < list.size(); i++) {
+                    result.put(PREFIX + key + "[" + i + "]", String.valueOf(list.get(i)));
+                }
+            } else if (value instanceof Map) {
+                throw new IllegalArgumentException("Nested objects are not supported: " + key);
+            } else {
+                result.put(PREFIX + key, String.valueOf(value));
+            }
+        });
+        result.putAll(JOB_OVERRIDES);
+        return result;
+    }
+
+    private String describe(final ConfigValidationException e) {
+        final String violations = e.getViolations().stream()
+                .map(v -> PREFIX + v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (violations.isEmpty()) {
+            return e.getMessage();
+        }
+        return e.getMessage() + " " + violations;
+    }
+
+    private void respond(final HttpExchange exchange, final int status,
+                         final String result, final String message) throws IOException {
+        final Map<String, String> response = new LinkedHashMap<>();
+        response.put("status", result);
+        response.put("message", message);
+        final byte[] body = OBJECT_MAPPER.writeValueAsBytes(response);
+        exchange.getResponseHeaders().set(CONTENT_TYPE, APPLICATION_JSON);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
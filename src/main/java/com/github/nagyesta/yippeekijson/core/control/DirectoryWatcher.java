@@ -0,0 +1,172 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a directory using the NIO {@link WatchService} and reports the files matching the
+ * {@link FileDiscovery} filters when they are created or modified. The events are debounced, a file is
+ * only reported once it was not changed for the debounce period, therefore files written in multiple
+ * steps are reported only once they settled. The files already present in a directory are reported
+ * when the directory is registered, so nothing is missed between a previous run and the start of the
+ * watch. Subdirectories (except the ignored one) are watched as well when the watch is recursive.
+ */
+@Slf4j
+public final class DirectoryWatcher {
+
+    private final Path root;
+    private final FileDiscovery filter;
+    private final boolean recursive;
+    private final long debounceMillis;
+    private final Map<Path, Long> pending = new LinkedHashMap<>();
+    private final Set<Path> registered = new HashSet<>();
+
+    public DirectoryWatcher(@NonNull final Path root,
+                            @NonNull final List<String> includes,
+                            @NonNull final List<String> excludes,
+                            final boolean recursive,
+                            @Nullable final Path ignored,
+                            final long debounceMillis) {
+        this.root = root.toAbsolutePath().normalize();
+        this.filter = new FileDiscovery(this.root, includes, excludes, ignored, recursive, 1);
+        this.recursive = recursive;
+        this.debounceMillis = Math.max(0L, debounceMillis);
+    }
+
+    /**
+     * Watches the directory until the current thread is interrupted, passing each settled file to the
+     * consumer on the calling thread.
+     *
+     * @param consumer The consumer processing the settled files
+     * @throws IOException When the directory cannot be watched.
+     */
+    public void watch(@NonNull final Consumer<Path> consumer) throws IOException {
+        try (WatchService watchService = root.getFileSystem().newWatchService()) {
+            register(watchService, root);
+            log.info("Watching directory: " + root);
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = watchService.poll(nextTimeout(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    handleEvents(watchService, key);
+                }
+                settled().forEach(consumer);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            log.debug("Watch service closed: " + e.getMessage());
+        }
+        log.info("Stopped watching directory: " + root);
+    }
+
+    private void handleEvents(final WatchService watchService, final WatchKey key) throws IOException {
+        final Path directory = (Path) key.watchable();
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                log.warn("Watch events were lost, rescanning: " + directory);
+                scan(watchService, directory);
+                continue;
+            }
+            final Path path = directory.resolve((Path) event.context());
+            if (isIgnored(path)) {
+                continue;
+            }
+            if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                if (recursive && event.kind() == ENTRY_CREATE) {
+                    register(watchService, path);
+                }
+            } else {
+                pending.put(path, System.currentTimeMillis());
+            }
+        }
+        if (!key.reset()) {
+            registered.remove(directory);
+        }
+    }
+
+    private void register(final WatchService watchService, final Path directory) throws IOException {
+        final List<Path> directories = new ArrayList<>();
+        if (recursive) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.filter(path -> Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+                        .filter(path -> !isIgnored(path))
+                        .forEach(directories::add);
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } else {
+            directories.add(directory);
+        }
+        for (final Path path : directories) {
+            if (registered.add(path)) {
+                path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+                scan(watchService, path);
+            }
+        }
+    }
+
+    private void scan(final WatchService watchService, final Path directory) throws IOException {
+        final List<Path> subdirectories = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            final long now = System.currentTimeMillis();
+            for (final Path entry : entries) {
+                if (isIgnored(entry)) {
+                    continue;
+                }
+                if (Files.isRegularFile(entry)) {
+                    pending.put(entry, now);
+                } else if (recursive && Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS) && !registered.contains(entry)) {
+                    subdirectories.add(entry);
+                }
+            }
+        }
+        //directories created after the walk but before the registration of their parent have no events
+        for (final Path subdirectory : subdirectories) {
+            register(watchService, subdirectory);
+        }
+    }
+
+    private long nextTimeout() {
+        final long now = System.currentTimeMillis();
+        long result = Long.MAX_VALUE;
+        for (final long changed : pending.values()) {
+            result = Math.min(result, Math.max(1L, changed + debounceMillis - now));
+        }
+        return result;
+    }
+
+    private List<Path> settled() {
+        final long threshold = System.currentTimeMillis() - debounceMillis;
+        final List<Path> result = new ArrayList<>();
+        pending.entrySet().removeIf(entry -> {
+            if (entry.getValue() > threshold) {
+                return false;
+            }
+            if (filter.matches(entry.getKey())) {
+                result.add(entry.getKey());
+            }
+            return true;
+        });
+        return result;
+    }
+
+    private boolean isIgnored(final Path path) {
+        return filter.isIgnored(path);
+    }
+}
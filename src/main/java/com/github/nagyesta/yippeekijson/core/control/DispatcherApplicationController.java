@@ -15,13 +15,16 @@ public class DispatcherApplicationController implements ApplicationController {
     private final ApplicationController filePairProcessorController;
     private final ApplicationController markdownExportController;
     private final ApplicationController yamlSchemaExportController;
+    private final ApplicationController daemonController;
 
     public DispatcherApplicationController(@NotNull final ApplicationController filePairProcessorController,
                                            @NotNull final ApplicationController markdownExportController,
-                                           @NotNull final ApplicationController yamlSchemaExportController) {
+                                           @NotNull final ApplicationController yamlSchemaExportController,
+                                           @NotNull final ApplicationController daemonController) {
         this.filePairProcessorController = filePairProcessorController;
         this.markdownExportController = markdownExportController;
         this.yamlSchemaExportController = yamlSchemaExportController;
+        this.daemonController = daemonController;
     }
 
     @Override
@@ -40,6 +43,8 @@ public class DispatcherApplicationController implements ApplicationController {
             controller = this.markdownExportController;
         } else if (runConfig.isExportYmlSchema()) {
             controller = this.yamlSchemaExportController;
+        } else if (runConfig.getDaemonPort() > 0) {
+            controller = this.daemonController;
         } else {
             controller = this.filePairProcessorController;
         }
@@ -0,0 +1,66 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Defines how the file pairs are scheduled for processing.
+ */
+@Slf4j
+public enum ExecutionMode {
+    /**
+     * Uses a fixed size pool of platform threads. The pool size is defined by the parallelism,
+     * the file pairs are processed on the calling thread if the parallelism is 1.
+     */
+    THREAD_POOL() {
+        @Override
+        @NotNull
+        public Optional<ExecutorService> executorService(final int parallelism) {
+            if (parallelism <= 1) {
+                return Optional.empty();
+            }
+            log.info("Processing files using " + parallelism + " threads.");
+            return Optional.of(Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory(THREAD_PREFIX)));
+        }
+    },
+    /**
+     * Starts a new virtual thread for each file pair regardless of the parallelism. Useful for
+     * I/O heavy actions which are spending most of their time waiting for HTTP responses.
+     * Falls back to {@link #THREAD_POOL} if the runtime does not support virtual threads.
+     */
+    VIRTUAL_THREADS() {
+        @Override
+        @NotNull
+        public Optional<ExecutorService> executorService(final int parallelism) {
+            try {
+                final ExecutorService executorService = (ExecutorService) Executors.class
+                        .getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY).invoke(null);
+                log.info("Processing files using virtual threads.");
+                return Optional.of(executorService);
+            } catch (final ReflectiveOperationException e) {
+                log.warn("Virtual threads are not supported by the runtime, falling back to " + THREAD_POOL.name() + ".");
+                return THREAD_POOL.executorService(parallelism);
+            }
+        }
+    };
+
+    private static final String THREAD_PREFIX = "yippee-worker-";
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * Creates the {@link ExecutorService} we need to use for processing the file pairs.
+     *
+     * The file pairs are submitted as they are discovered, therefore their number is not known
+     * in advance.
+     *
+     * @param parallelism The configured parallelism
+     * @return the executor or empty if the file pairs should be processed on the calling thread
+     */
+    @NotNull
+    public abstract Optional<ExecutorService> executorService(int parallelism);
+}
@@ -0,0 +1,286 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Discovers the input files of a directory using NIO directory traversal. The matching files are
+ * returned as a lazily populated {@link Stream}, therefore processing can start as soon as the first
+ * file is found and the file list is never kept in memory. The include and exclude patterns are globs
+ * matched against the name of the file, or against the path relative to the root directory if the
+ * pattern contains a '/' (e.g. 2024/**&#47;*.json). A leading **&#47; matches the files of the root directory
+ * as well. The ignored directory (typically the output directory nested under the input directory) is never
+ * traversed, therefore its content is never returned. The returned stream must be closed.
+ */
+@Slf4j
+public final class FileDiscovery {
+
+    private static final String GLOB = "glob:";
+    private static final String UNIX_SEPARATOR = "/";
+    private static final String ANY_DIRECTORY = "**/";
+    private static final String THREAD_PREFIX = "yippee-discovery-";
+    private static final int QUEUE_SIZE = 1024;
+    private final Path root;
+    private final Path ignored;
+    private final boolean recursive;
+    private final int parallelism;
+    private final List<Predicate<Path>> includes;
+    private final List<Predicate<Path>> excludes;
+
+    public FileDiscovery(@NonNull final Path root,
+                         @NonNull final List<String> includes,
+                         @NonNull final List<String> excludes,
+                         @Nullable final Path ignored,
+                         final boolean recursive,
+                         final int parallelism) {
+        this.root = root;
+        this.ignored = ignoredPath(root, ignored);
+        this.recursive = recursive;
+        this.parallelism = parallelism;
+        this.includes = matchers(includes);
+        this.excludes = matchers(excludes);
+    }
+
+    /**
+     * Starts the discovery on a background thread. Subdirectories are only visited if the discovery is recursive.
+     * When the parallelism is greater than 1, the directories are listed concurrently and the order of the files
+     * is not defined.
+     *
+     * @return the stream of the matching regular files
+     */
+    @NotNull
+    public Stream<Path> discover() {
+        if (recursive && parallelism > 1) {
+            return discoverConcurrently();
+        }
+        return discoverSequentially();
+    }
+
+    /**
+     * Checks whether the path is a regular file matching the include and exclude patterns.
+     *
+     * @param path The path we need to check
+     * @return true if the file should be processed
+     */
+    public boolean matches(@NonNull final Path path) {
+        return !isIgnored(path)
+                && Files.isRegularFile(path)
+                && includes.stream().anyMatch(p -> p.test(path))
+                && excludes.stream().noneMatch(p -> p.test(path));
+    }
+
+    /**
+     * Checks whether the path is the ignored directory or inside it.
+     *
+     * @param path The path we need to check
+     * @return true if the path must not be processed
+     */
+    public boolean isIgnored(@NonNull final Path path) {
+        return ignored != null && path.toAbsolutePath().normalize().startsWith(ignored);
+    }
+
+    @Nullable
+    private static Path ignoredPath(@NotNull final Path root, @Nullable final Path path) {
+        if (path == null) {
+            return null;
+        }
+        final Path normalized = path.toAbsolutePath().normalize();
+        if (root.toAbsolutePath().normalize().startsWith(normalized)) {
+            log.warn("The input directory is inside the output directory, outputs can be processed as inputs.");
+            return null;
+        }
+        return normalized;
+    }
+
+    private List<Predicate<Path>> matchers(final List<String> patterns) {
+        final FileSystem fileSystem = root.getFileSystem();
+        return patterns.stream()
+                .map(pattern -> {
+                    final PathMatcher matcher = fileSystem.getPathMatcher(GLOB + pattern);
+                    final Predicate<Path> predicate;
+                    if (pattern.startsWith(ANY_DIRECTORY)) {
+                        final PathMatcher topLevel = fileSystem.getPathMatcher(GLOB + pattern.substring(ANY_DIRECTORY.length()));
+                        predicate = path -> {
+                            final Path relative = root.relativize(path);
+                            return matcher.matches(relative) || topLevel.matches(relative);
+                        };
+                    } else if (pattern.contains(UNIX_SEPARATOR)) {
+                        predicate = path -> matcher.matches(root.relativize(path));
+                    } else {
+                        predicate = path -> matcher.matches(path.getFileName());
+                    }
+                    return predicate;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Stream<Path> discoverSequentially() {
+        final BlockingQueue<Optional<Path>> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        final ExecutorService executorService = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(THREAD_PREFIX));
+        executorService.submit(() -> walkDirectory(queue, failure));
+        return queueStream(queue, failure, executorService);
+    }
+
+    private Stream<Path> discoverConcurrently() {
+        final BlockingQueue<Optional<Path>> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        final AtomicInteger pending = new AtomicInteger(1);
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory(THREAD_PREFIX));
+        executorService.submit(() -> scanDirectory(root, queue, pending, failure, executorService));
+        return queueStream(queue, failure, executorService);
+    }
+
+    private Stream<Path> queueStream(final BlockingQueue<Optional<Path>> queue,
+                                     final AtomicReference<IOException> failure,
+                                     final ExecutorService executorService) {
+        final Iterator<Path> iterator = new QueueIterator(queue, failure);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .onClose(executorService::shutdownNow);
+    }
+
+    private void walkDirectory(final BlockingQueue<Optional<Path>> queue, final AtomicReference<IOException> failure) {
+        int maxDepth = 1;
+        if (recursive) {
+            maxDepth = Integer.MAX_VALUE;
+        }
+        try {
+            Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), maxDepth, new QueueingFileVisitor(queue));
+        } catch (final IOException e) {
+            failure.compareAndSet(null, e);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        try {
+            queue.put(Optional.empty());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scanDirectory(final Path directory,
+                               final BlockingQueue<Optional<Path>> queue,
+                               final AtomicInteger pending,
+                               final AtomicReference<IOException> failure,
+                               final ExecutorService executorService) {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (final Path entry : entries) {
+                if (isIgnored(entry)) {
+                    continue;
+                }
+                if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                    pending.incrementAndGet();
+                    executorService.submit(() -> scanDirectory(entry, queue, pending, failure, executorService));
+                } else if (matches(entry)) {
+                    queue.put(Optional.of(entry));
+                }
+            }
+        } catch (final IOException e) {
+            failure.compareAndSet(null, e);
+        } catch (final InterruptedException | RejectedExecutionException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (pending.decrementAndGet() == 0) {
+            try {
+                queue.put(Optional.empty());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private final class QueueingFileVisitor extends SimpleFileVisitor<Path> {
+        private final BlockingQueue<Optional<Path>> queue;
+
+        private QueueingFileVisitor(final BlockingQueue<Optional<Path>> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+            if (isIgnored(dir)) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            if (matches(file)) {
+                try {
+                    queue.put(Optional.of(file));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return FileVisitResult.TERMINATE;
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    private static final class QueueIterator implements Iterator<Path> {
+        private final BlockingQueue<Optional<Path>> queue;
+        private final AtomicReference<IOException> failure;
+        private Optional<Path> next;
+
+        private QueueIterator(final BlockingQueue<Optional<Path>> queue, final AtomicReference<IOException> failure) {
+            this.queue = queue;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while discovering files.", e);
+                }
+            }
+            if (next.isEmpty() && failure.get() != null) {
+                throw new UncheckedIOException(failure.get());
+            }
+            return next.isPresent();
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Path result = next.get();
+            next = null;
+            return result;
+        }
+    }
+}
@@ -7,65 +7,294 @@ import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigValidationException;
 import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
+import com.github.nagyesta.yippeekijson.core.metrics.RuleNames;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.FileProcessingEvent;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.JfrEvents;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 public class FilePairProcessorController extends AbstractApplicationController implements ApplicationController {
 
+    private static final String WATCH_THREAD_PREFIX = "yippee-watch-";
+    private static final String MANIFEST_THREAD_PREFIX = "yippee-manifest-";
+    private static final long MIN_MANIFEST_SAVE_PERIOD = 100L;
+    private static final int MAX_QUEUED_FILES = 1024;
+
     private final JsonTransformer jsonTransformer;
     private final FileSetTransformer fileSetTransformer;
     private final ActionConfigParser configParser;
+    private final PredicateStatistics predicateStatistics;
+    private final RunMetrics runMetrics;
+    private final String applicationVersion;
 
     public FilePairProcessorController(@NotNull final JsonTransformer jsonTransformer,
                                        @NotNull final FileSetTransformer fileSetTransformer,
                                        @NotNull final ActionConfigParser configParser,
+                                       @NotNull final PredicateStatistics predicateStatistics,
+                                       @NotNull final RunMetrics runMetrics,
+                                       @NotNull final String applicationVersion,
                                        @NotNull final Validator validator) {
         super(validator, log);
         this.jsonTransformer = jsonTransformer;
         this.fileSetTransformer = fileSetTransformer;
         this.configParser = configParser;
+        this.predicateStatistics = predicateStatistics;
+        this.runMetrics = runMetrics;
+        this.applicationVersion = applicationVersion;
     }
 
     @Override
     public void process(@NotNull final RunConfig runConfig) throws ConfigParseException, ConfigValidationException {
         validateConfig(runConfig);
+        if (runConfig.isJfrEvents()) {
+            JfrEvents.register();
+        }
 
         final JsonActions actions = configParser.parse(runConfig.getConfigAsFile(), runConfig.isRelaxedYmlSchema());
         final JsonAction jsonAction = actions.getActions().get(runConfig.getAction());
         Assert.notNull(jsonAction, "No action found: " + runConfig.getAction());
 
-        final Map<File, File> toDoMap = fileSetTransformer.transformToFilePairs(runConfig);
-        final Map<File, File> success = new TreeMap<>();
-        final Map<File, File> failure = new TreeMap<>();
+        final RunContext context = new RunContext(runConfig, jsonAction, loadManifest(runConfig, jsonAction));
+        runMetrics.reset();
+        predicateStatistics.reset();
+
+        try {
+            transformFiles(context);
+        } finally {
+            saveManifest(context.manifest, context.skipped);
+        }
+        logResults(context.success, context.failure);
+        exportMetrics(runConfig);
+    }
+
+    private void transformFiles(final RunContext context) {
+        final RunConfig runConfig = context.runConfig;
+        if (runConfig.isWatch()) {
+            watch(context);
+        } else {
+            try (Stream<Map.Entry<File, File>> pairs = fileSetTransformer.streamFilePairs(runConfig)) {
+                final Stream<Map.Entry<File, File>> toDo = orderForAdmission(context, pairs);
+                final Consumer<Map.Entry<File, File>> task = pair -> processFilePair(context, pair);
+                runConfig.getExecutionMode().executorService(runConfig.getParallelism())
+                        .ifPresentOrElse(executorService -> processConcurrently(executorService, toDo.iterator(), task),
+                                () -> toDo.forEach(task));
+            }
+        }
+    }
+
+    private void processFilePair(final RunContext context, final Map.Entry<File, File> pair) {
+        final FileTask task = new FileTask(pair);
+        try {
+            if (admit(context, task)) {
+                reserveMemory(context, task);
+                writeToFile(task.output, output -> context.runConfig.getInputFormat()
+                        .transform(jsonTransformer, task.input, context.jsonAction, context.runConfig, output));
+                completed(context, task);
+            }
+        } catch (final JsonTransformException | IOException | RuntimeException e) {
+            failed(context, task, e);
+        } finally {
+            finish(context, task);
+        }
+    }
+
+    private void watch(final RunContext context) {
+        final RunConfig runConfig = context.runConfig;
+        final int threads = Math.max(1, runConfig.getParallelism());
+        final ExecutorService executorService = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads), new CustomizableThreadFactory(WATCH_THREAD_PREFIX),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        final ScheduledExecutorService manifestSaver = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory(MANIFEST_THREAD_PREFIX));
+        if (context.manifest != null) {
+            final long period = Math.max(MIN_MANIFEST_SAVE_PERIOD, runConfig.getWatchDebounce());
+            manifestSaver.scheduleWithFixedDelay(() -> saveChangedManifest(context), period, period, TimeUnit.MILLISECONDS);
+        }
+        try {
+            fileSetTransformer.watchFilePairs(runConfig, pair -> executorService.execute(() -> processWatchedFilePair(context, pair)));
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to watch input directory: " + e.getMessage(), e);
+        } finally {
+            awaitWatchedFiles(executorService);
+            manifestSaver.shutdownNow();
+        }
+    }
+
+    private void processWatchedFilePair(final RunContext context, final Map.Entry<File, File> pair) {
+        processFilePair(context, pair);
+        final File input = pair.getKey();
+        if (context.success.remove(input) != null) {
+            log.info("Transformed: " + input + "\n -> " + pair.getValue());
+            context.manifestChanged.set(true);
+        } else if (context.skipped.remove(input) != null) {
+            log.info("Skipped unchanged: " + input);
+        }
+        context.failure.remove(input);
+    }
 
-        toDoMap.forEach((key, value) -> {
+    private void saveChangedManifest(final RunContext context) {
+        if (!context.manifestChanged.getAndSet(false)) {
+            return;
+        }
+        synchronized (context.manifest) {
             try {
-                if (value.exists() && !runConfig.isAllowOverwrite()) {
-                    failure.put(key, value);
-                    log.warn("Overwrite is not allowed: " + value);
-                    return;
-                }
-                writeToFile(value, runConfig.getCharset(),
-                        jsonTransformer.transform(key, runConfig.getCharset(), jsonAction));
-                success.put(key, value);
-            } catch (final JsonTransformException | IOException e) {
-                failure.put(key, value);
-                log.error("Failed to process file: " + value + " due to: " + e.getMessage());
+                context.manifest.save();
+            } catch (final IOException e) {
+                log.error("Failed to save incremental manifest due to: " + e.getMessage());
+            }
+        }
+    }
+
+    private void awaitWatchedFiles(final ExecutorService executorService) {
+        final boolean interrupted = Thread.interrupted();
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean admit(final RunContext context, final FileTask task) throws IOException {
+        boolean recorded = false;
+        if (context.manifest != null) {
+            task.fingerprint = context.manifest.fingerprint(task.input);
+            if (context.manifest.isUnchanged(task.input, task.output, task.fingerprint)) {
+                context.skipped.put(task.input, task.output);
+                task.skipped = true;
+                return false;
             }
-        });
+            recorded = context.manifest.isRecorded(task.input, task.output);
+        }
+        if (!recorded && task.output.exists() && !context.runConfig.isAllowOverwrite()) {
+            context.failure.put(task.input, task.output);
+            log.warn("Overwrite is not allowed: " + task.output);
+            return false;
+        }
+        return true;
+    }
+
+    private void completed(final RunContext context, final FileTask task) {
+        context.success.put(task.input, task.output);
+        task.transformed = true;
+        if (context.manifest != null) {
+            context.manifest.record(task.input, task.output, task.fingerprint);
+        }
+    }
+
+    private void failed(final RunContext context, final FileTask task, final Exception e) {
+        context.failure.put(task.input, task.output);
+        log.error("Failed to process file: " + task.output + " due to: " + e.getMessage());
+    }
+
+    private Stream<Map.Entry<File, File>> orderForAdmission(final RunContext context, final Stream<Map.Entry<File, File>> pairs) {
+        if (!context.memoryBudget.isEnabled()) {
+            return pairs;
+        }
+        return pairs
+                .map(pair -> Map.entry(pair, pair.getKey().length()))
+                .sorted(Map.Entry.<Map.Entry<File, File>, Long>comparingByValue().reversed())
+                .map(Map.Entry::getKey);
+    }
+
+    private void reserveMemory(final RunContext context, final FileTask task) {
+        try {
+            task.reserved = context.memoryBudget.acquire(context.memoryBudget.estimate(task.input));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for memory budget.", e);
+        }
+    }
+
+    private void finish(final RunContext context, final FileTask task) {
+        context.memoryBudget.release(task.reserved);
+        task.reserved = 0L;
+        recordFile(context, task);
+    }
+
+    private void recordFile(final RunContext context, final FileTask task) {
+        final FileProcessingEvent event = task.event;
+        event.end();
+        if (task.skipped || (!runMetrics.isEnabled() && !event.shouldCommit())) {
+            return;
+        }
+        long inputSize = 0L;
+        long outputSize = 0L;
+        if (task.transformed) {
+            inputSize = task.input.length();
+            outputSize = task.output.length();
+        }
+        if (runMetrics.isEnabled()) {
+            runMetrics.recordFile(task.transformed, inputSize, outputSize);
+        }
+        if (event.shouldCommit()) {
+            event.set(context.jsonAction.getName(), task.input.getAbsolutePath(), task.output.getAbsolutePath(),
+                    inputSize, outputSize, task.transformed);
+            event.commit();
+        }
+    }
 
-        logResults(success, failure);
+    private void processConcurrently(final ExecutorService executorService,
+                                     final Iterator<Map.Entry<File, File>> toDo,
+                                     final Consumer<Map.Entry<File, File>> task) {
+        final Semaphore queued = new Semaphore(MAX_QUEUED_FILES);
+        try {
+            while (toDo.hasNext()) {
+                final Map.Entry<File, File> pair = toDo.next();
+                acquire(queued, 1);
+                executorService.execute(() -> {
+                    try {
+                        task.accept(pair);
+                    } finally {
+                        queued.release();
+                    }
+                });
+            }
+            acquire(queued, MAX_QUEUED_FILES);
+        } finally {
+            executorService.shutdownNow();
+        }
     }
 
+    private void acquire(final Semaphore semaphore, final int permits) {
+        try {
+            semaphore.acquire(permits);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for file processing.", e);
+        }
+    }
 
     @Override
     @NotNull
@@ -90,6 +319,97 @@ public class FilePairProcessorController extends AbstractApplicationController i
             final String successResults = summarize(success);
             final String failureResults = summarize(failure);
             log.info("Conversion completed.\nSuccess:\n" + successResults + "\nFailed:\n" + failureResults);
+            final List<String> statistics = predicateStatistics.summary();
+            if (!statistics.isEmpty()) {
+                log.info("Predicate statistics:\n" + String.join("\n", statistics));
+            }
+        }
+    }
+
+    private IncrementalManifest loadManifest(final RunConfig runConfig, final JsonAction jsonAction) throws ConfigParseException {
+        if (!runConfig.isIncremental()) {
+            return null;
+        }
+        final File manifestFile = runConfig.getIncrementalManifestAsFile();
+        try {
+            final List<String> components = new ArrayList<>();
+            components.add(applicationVersion);
+            components.add(jsonAction.getName());
+            jsonAction.getRules().forEach(rule -> components.add(rule.getClass().getName() + ":" + RuleNames.of(rule)));
+            components.add(String.valueOf(runConfig.getCharset()));
+            components.add(String.valueOf(runConfig.getInputFormat()));
+            components.add(runConfig.getStreamArrayPath());
+            components.add(String.valueOf(runConfig.getOutputFormat()));
+            components.add(String.valueOf(runConfig.getOutputIndent()));
+            return IncrementalManifest.load(manifestFile,
+                    IncrementalManifest.actionFingerprint(runConfig.getConfigAsFile(), components));
+        } catch (final IOException e) {
+            throw new ConfigParseException("Failed to load incremental manifest: " + manifestFile, e);
+        }
+    }
+
+    private void saveManifest(final IncrementalManifest manifest, final Map<File, File> skipped) {
+        if (manifest == null) {
+            return;
+        }
+        log.info("Skipped " + skipped.size() + " unchanged files.");
+        synchronized (manifest) {
+            try {
+                manifest.save();
+            } catch (final IOException e) {
+                log.error("Failed to save incremental manifest due to: " + e.getMessage());
+            }
+        }
+    }
+
+    private void exportMetrics(final RunConfig runConfig) {
+        try {
+            final File prometheusFile = runConfig.getMetricsPrometheusFileAsFile();
+            if (prometheusFile != null) {
+                runMetrics.exportPrometheus(prometheusFile);
+                log.info("Metrics written to: " + prometheusFile);
+            }
+            final File jsonFile = runConfig.getMetricsJsonFileAsFile();
+            if (jsonFile != null) {
+                runMetrics.exportJson(jsonFile);
+                log.info("Metrics written to: " + jsonFile);
+            }
+        } catch (final IOException e) {
+            log.error("Failed to export metrics due to: " + e.getMessage());
+        }
+    }
+
+    private static final class RunContext {
+        private final RunConfig runConfig;
+        private final JsonAction jsonAction;
+        private final IncrementalManifest manifest;
+        private final Map<File, File> success = new ConcurrentSkipListMap<>();
+        private final Map<File, File> failure = new ConcurrentSkipListMap<>();
+        private final Map<File, File> skipped = new ConcurrentSkipListMap<>();
+        private final AtomicBoolean manifestChanged = new AtomicBoolean();
+        private final MemoryBudget memoryBudget;
+
+        private RunContext(final RunConfig runConfig, final JsonAction jsonAction, final IncrementalManifest manifest) {
+            this.runConfig = runConfig;
+            this.jsonAction = jsonAction;
+            this.manifest = manifest;
+            this.memoryBudget = new MemoryBudget(runConfig.getMemoryBudget(), runConfig.getMemoryExpansionFactor());
+        }
+    }
+
+    private static final class FileTask {
+        private final File input;
+        private final File output;
+        private final FileProcessingEvent event = new FileProcessingEvent();
+        private String fingerprint;
+        private boolean skipped;
+        private boolean transformed;
+        private long reserved;
+
+        private FileTask(final Map.Entry<File, File> pair) {
+            this.input = pair.getKey();
+            this.output = pair.getValue();
+            this.event.begin();
         }
     }
 }
@@ -4,7 +4,10 @@ import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
 import lombok.NonNull;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Calculates the file pairs needed for the transform operation using the input file
@@ -21,4 +24,27 @@ public interface FileSetTransformer {
      * is the value.
      */
     Map<File, File> transformToFilePairs(@NonNull RunConfig runConfig);
+
+    /**
+     * Reads the IO specific properties of the {@link RunConfig} and generates the
+     * file path for the output files for each matching input as they are discovered.
+     * The returned stream must be closed.
+     *
+     * @param runConfig The input configuration specifying the file sets.
+     * @return A lazily populated {@link Stream} of {@link File} pairs where the input
+     * is the key and output is the value.
+     */
+    Stream<Map.Entry<File, File>> streamFilePairs(@NonNull RunConfig runConfig);
+
+    /**
+     * Watches the input directory of the {@link RunConfig} and passes the file pair of each
+     * matching input file to the consumer once the file settled after being created or modified.
+     * Blocks until the current thread is interrupted.
+     *
+     * @param runConfig The input configuration specifying the file sets.
+     * @param consumer  The consumer of the file pairs where the input is the key and output
+     *                  is the value.
+     * @throws IOException When the input directory cannot be watched.
+     */
+    void watchFilePairs(@NonNull RunConfig runConfig, @NonNull Consumer<Map.Entry<File, File>> consumer) throws IOException;
 }
@@ -7,87 +7,81 @@ import org.apache.commons.io.FilenameUtils;
 import org.springframework.util.Assert;
 
 import java.io.File;
-import java.util.Arrays;
-import java.util.Collections;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 public class FileSetTransformerImpl implements FileSetTransformer {
 
-    private static final String UNIX_SEPARATOR = "/";
-    private static final String EMPTY = "";
+    private static final int SINGLE_OUTPUT_LIMIT = 2;
 
     @Override
     public Map<File, File> transformToFilePairs(@NonNull final RunConfig runConfig) {
-        final File inputAsFile = runConfig.getInputAsFile();
-        final List<File> toTransform = compileInputList(runConfig, inputAsFile);
-
-        if (!runConfig.isOutputFileDirectory()) {
-            Assert.isTrue(toTransform.size() == 1, "As output is file, we can only process 1 input at once.");
+        try (Stream<Map.Entry<File, File>> pairs = streamFilePairs(runConfig)) {
+            final Map<File, File> result = pairs.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (result.isEmpty()) {
+                log.warn("No file matched the include-exclude filters.");
+            }
+            return result;
         }
-        return formFilePairs(toTransform, runConfig);
     }
 
-    private Map<File, File> formFilePairs(final List<File> toTransform, final RunConfig runConfig) {
-        final String unixInputDirectory = getUnixInputDirectory(runConfig.getInputAsFile());
-
-        final File outputAsFile = runConfig.getOutputAsFile();
-        final boolean treatOutputAsDirectory = runConfig.isOutputFileDirectory();
-
-        return toTransform.stream()
-                .map(file -> {
-                    if (treatOutputAsDirectory) {
-                        final String relativePath = relativeToInputDirectory(unixInputDirectory, file);
-                        final File out = concatRelativeToOutputDirectory(outputAsFile, relativePath);
-                        return Map.entry(file, out);
-                    } else {
-                        return Map.entry(file, outputAsFile.getAbsoluteFile());
-                    }
-                })
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
+    @Override
+    public Stream<Map.Entry<File, File>> streamFilePairs(@NonNull final RunConfig runConfig) {
+        final File inputAsFile = runConfig.getInputAsFile();
+        final Stream<Path> toTransform = compileInputStream(runConfig, inputAsFile);
 
-    private File concatRelativeToOutputDirectory(final File outputAsFile, final String relativePath) {
-        final String fullPath = FilenameUtils.normalizeNoEndSeparator(outputAsFile.getAbsolutePath(), true)
-                + UNIX_SEPARATOR + relativePath;
-        return new File(FilenameUtils.separatorsToSystem(fullPath));
+        if (!runConfig.isOutputFileDirectory()) {
+            final List<Path> inputs;
+            try (toTransform) {
+                inputs = toTransform.limit(SINGLE_OUTPUT_LIMIT).collect(Collectors.toList());
+            }
+            Assert.isTrue(inputs.size() == 1, "As output is file, we can only process 1 input at once.");
+            return Stream.of(Map.entry(inputs.get(0).toFile(), runConfig.getOutputAsFile().getAbsoluteFile()));
+        }
+        final Path inputDirectory = getInputDirectory(inputAsFile);
+        final Path outputDirectory = Path.of(FilenameUtils.normalizeNoEndSeparator(runConfig.getOutputAsFile().getAbsolutePath()));
+        return toTransform
+                .map(file -> Map.entry(file.toFile(), outputDirectory.resolve(inputDirectory.relativize(file.toAbsolutePath())).toFile()));
     }
 
-    private String relativeToInputDirectory(final String unixInputDirectory, final File file) {
-        final String normalized = FilenameUtils.normalize(file.getAbsolutePath(), true);
-        return normalized.replaceFirst(Pattern.quote(unixInputDirectory), EMPTY);
+    @Override
+    public void watchFilePairs(@NonNull final RunConfig runConfig,
+                               @NonNull final Consumer<Map.Entry<File, File>> consumer) throws IOException {
+        final File inputAsFile = runConfig.getInputAsFile();
+        Assert.isTrue(inputAsFile.isDirectory(), "As we are watching, input must be a directory.");
+        Assert.isTrue(runConfig.isOutputFileDirectory(), "As we are watching, output must be a directory.");
+        final Path inputDirectory = getInputDirectory(inputAsFile).normalize();
+        final Path outputDirectory = Path.of(FilenameUtils.normalizeNoEndSeparator(runConfig.getOutputAsFile().getAbsolutePath()));
+        new DirectoryWatcher(inputDirectory, runConfig.getIncludes(), runConfig.getExcludes(),
+                runConfig.isRecursive(), outputDirectory, runConfig.getWatchDebounce())
+                .watch(file -> consumer.accept(Map.entry(file.toFile(),
+                        outputDirectory.resolve(inputDirectory.relativize(file.toAbsolutePath())).toFile())));
     }
 
-    private String getUnixInputDirectory(final File inputAsFile) {
+    private Path getInputDirectory(final File inputAsFile) {
         if (inputAsFile.isDirectory()) {
-            return FilenameUtils.normalizeNoEndSeparator(inputAsFile.getAbsolutePath(), true) + UNIX_SEPARATOR;
+            return inputAsFile.getAbsoluteFile().toPath();
         } else {
-            return FilenameUtils.normalizeNoEndSeparator(inputAsFile.getParent(), true) + UNIX_SEPARATOR;
+            return inputAsFile.getAbsoluteFile().getParentFile().toPath();
         }
     }
 
-    private List<File> compileInputList(final RunConfig runConfig, final File inputAsFile) {
-        final List<File> toTransform;
+    private Stream<Path> compileInputStream(final RunConfig runConfig, final File inputAsFile) {
         if (inputAsFile.isDirectory()) {
-            toTransform = filterDirectory(runConfig, inputAsFile);
-        } else {
-            toTransform = Collections.singletonList(inputAsFile);
-        }
-        return toTransform;
-    }
-
-    private List<File> filterDirectory(final RunConfig runConfig, final File inputAsFile) {
-        List<File> toTransform;
-        final File[] files = inputAsFile.listFiles(runConfig.getWildcardFileFilter());
-        if (files != null && files.length > 0) {
-            toTransform = Arrays.asList(files);
+            Path outputDirectory = null;
+            if (runConfig.isOutputFileDirectory()) {
+                outputDirectory = runConfig.getOutputAsFile().toPath();
+            }
+            return new FileDiscovery(inputAsFile.toPath(), runConfig.getIncludes(), runConfig.getExcludes(),
+                    outputDirectory, runConfig.isRecursive(), runConfig.getDiscoveryParallelism()).discover();
         } else {
-            toTransform = Collections.emptyList();
-            log.warn("No file matched the include-exclude filters.");
+            return Stream.of(inputAsFile.toPath());
         }
-        return toTransform;
     }
 }
@@ -0,0 +1,190 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import lombok.NonNull;
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps track of the fingerprints of the inputs transformed by the previous incremental runs.
+ * The fingerprint of an input covers the content of the file and the fingerprint of the action,
+ * therefore any change of either of them triggers a new transformation. The output written for each
+ * input is recorded as well, so only the outputs produced by a previous run are treated as ours.
+ */
+public final class IncrementalManifest {
+
+    private static final String SHA_256 = "SHA-256";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final char SEPARATOR = '\n';
+    private static final char OUTPUT_SEPARATOR = '|';
+    private static final int BUFFER_SIZE = 8192;
+    private final File file;
+    private final String actionFingerprint;
+    private final Map<String, String> entries;
+
+    private IncrementalManifest(@NotNull final File file,
+                                @NotNull final String actionFingerprint,
+                                @NotNull final Map<String, String> entries) {
+        this.file = file;
+        this.actionFingerprint = actionFingerprint;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the manifest from the given file. A missing file results in an empty manifest.
+     *
+     * @param file              The manifest file
+     * @param actionFingerprint The fingerprint of the action, see {@link #actionFingerprint(File, List)}
+     * @return the manifest
+     * @throws IOException When the manifest file exists but cannot be read.
+     */
+    public static IncrementalManifest load(@NonNull final File file, @NonNull final String actionFingerprint) throws IOException {
+        final Map<String, String> entries = new ConcurrentSkipListMap<>();
+        if (file.isFile()) {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                final Properties properties = new Properties();
+                properties.load(reader);
+                properties.stringPropertyNames().forEach(key -> entries.put(key, properties.getProperty(key)));
+            }
+        }
+        return new IncrementalManifest(file, actionFingerprint, entries);
+    }
+
+    /**
+     * Calculates the fingerprint of an action using the content of the configuration file and the
+     * additional components (action name, component versions, options) affecting the output.
+     *
+     * @param config     The configuration file
+     * @param components The additional components
+     * @return the fingerprint
+     * @throws IOException When the configuration cannot be read.
+     */
+    public static String actionFingerprint(@NonNull final File config, @NonNull final List<String> components) throws IOException {
+        final MessageDigest digest = newDigest();
+        digest(digest, config);
+        components.forEach(component -> digest.update((SEPARATOR + component).getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Calculates the fingerprint of the input using the content of the file and the action fingerprint.
+     *
+     * @param input The input file
+     * @return the fingerprint
+     * @throws IOException When the input cannot be read.
+     */
+    public String fingerprint(@NonNull final File input) throws IOException {
+        final MessageDigest digest = newDigest();
+        digest.update((actionFingerprint + SEPARATOR).getBytes(StandardCharsets.UTF_8));
+        digest(digest, input);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Checks whether the input was transformed with the same fingerprint before and the output is still there.
+     *
+     * @param input       The input file
+     * @param output      The output file
+     * @param fingerprint The current fingerprint of the input
+     * @return true if the transformation can be skipped
+     */
+    public boolean isUnchanged(@NonNull final File input, @NonNull final File output, @NonNull final String fingerprint) {
+        return output.isFile() && value(output, fingerprint).equals(entries.get(key(input)));
+    }
+
+    /**
+     * Checks whether the output was written for the input by a previous run, regardless of the fingerprint.
+     *
+     * @param input  The input file
+     * @param output The output file
+     * @return true if the manifest recorded the output for the input
+     */
+    public boolean isRecorded(@NonNull final File input, @NonNull final File output) {
+        final String value = entries.get(key(input));
+        return value != null && value.endsWith(OUTPUT_SEPARATOR + output.getAbsolutePath());
+    }
+
+    /**
+     * Records the fingerprint of a successfully transformed input together with its output.
+     *
+     * @param input       The input file
+     * @param output      The output file
+     * @param fingerprint The fingerprint of the input
+     */
+    public void record(@NonNull final File input, @NonNull final File output, @NonNull final String fingerprint) {
+        entries.put(key(input), value(output, fingerprint));
+    }
+
+    /**
+     * Removes the input from the manifest to make sure it is transformed again by the next run.
+     *
+     * @param input The input file
+     */
+    public void forget(@NonNull final File input) {
+        entries.remove(key(input));
+    }
+
+    /**
+     * Replaces the manifest file atomically with the current entries.
+     *
+     * @throws IOException When the manifest cannot be written.
+     */
+    public void save() throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        FileUtils.forceMkdir(directory);
+        final Properties properties = new Properties();
+        properties.putAll(entries);
+        final Path temp = Files.createTempFile(directory.toPath(), file.getName(), TEMP_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String key(@NotNull final File input) {
+        return input.getAbsolutePath();
+    }
+
+    private static String value(@NotNull final File output, @NotNull final String fingerprint) {
+        return fingerprint + OUTPUT_SEPARATOR + output.getAbsolutePath();
+    }
+
+    private static void digest(@NotNull final MessageDigest digest, @NotNull final File file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read = inputStream.read(buffer);
+            while (read >= 0) {
+                digest.update(buffer, 0, read);
+                read = inputStream.read(buffer);
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonAction;
+import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
+import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.OutputStream;
+
+/**
+ * Defines how the input files are split into JSON documents.
+ */
+public enum InputFormat {
+    /**
+     * The whole input file is a single JSON document.
+     */
+    JSON() {
+        @Override
+        public void transform(@NotNull final JsonTransformer jsonTransformer,
+                              @NotNull final File input,
+                              @NotNull final JsonAction action,
+                              @NotNull final RunConfig runConfig,
+                              @NotNull final OutputStream output) throws JsonTransformException {
+            jsonTransformer.transform(input, runConfig.getCharset(), action, output,
+                    runConfig.getOutputFormat(), runConfig.getOutputIndent());
+        }
+    },
+    /**
+     * Newline delimited JSON (also known as JSON Lines), every non-blank line of the input file is a separate
+     * JSON document. The records are transformed one at a time and written as a single line each.
+     */
+    NDJSON() {
+        @Override
+        public void transform(@NotNull final JsonTransformer jsonTransformer,
+                              @NotNull final File input,
+                              @NotNull final JsonAction action,
+                              @NotNull final RunConfig runConfig,
+                              @NotNull final OutputStream output) throws JsonTransformException {
+            jsonTransformer.transformLines(input, runConfig.getCharset(), action, output);
+        }
+    },
+    /**
+     * The input file is a single JSON document containing a large array. The elements of the array are read from
+     * a token stream, transformed and written one at a time, therefore the whole document is never kept in memory.
+     */
+    ARRAY_STREAM() {
+        @Override
+        public void transform(@NotNull final JsonTransformer jsonTransformer,
+                              @NotNull final File input,
+                              @NotNull final JsonAction action,
+                              @NotNull final RunConfig runConfig,
+                              @NotNull final OutputStream output) throws JsonTransformException {
+            jsonTransformer.transformArrayElements(input, runConfig.getCharset(), action, runConfig.getStreamArrayPath(),
+                    output, runConfig.getOutputFormat(), runConfig.getOutputIndent());
+        }
+    };
+
+    /**
+     * Transforms the input file using the transformer and writes the result to the output stream.
+     *
+     * @param jsonTransformer The transformer doing the actual work
+     * @param input           The input file
+     * @param action          The action we need to apply
+     * @param runConfig       The run configuration defining the charset and the output format
+     * @param output          The output stream receiving the transformed content
+     * @throws JsonTransformException When the transform operation is not possible.
+     */
+    public abstract void transform(@NotNull JsonTransformer jsonTransformer,
+                                   @NotNull File input,
+                                   @NotNull JsonAction action,
+                                   @NotNull RunConfig runConfig,
+                                   @NotNull OutputStream output) throws JsonTransformException;
+}
@@ -0,0 +1,55 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Jackson pretty printer producing the same layout as {@link com.jayway.jsonpath.internal.JsonFormatter#prettyPrint(String)}
+ * (indented arrays and objects, " : " as key-value separator and empty containers spanning multiple lines) while
+ * writing the document directly to the generator.
+ */
+public final class JsonFormatterPrettyPrinter extends DefaultPrettyPrinter {
+
+    private static final long serialVersionUID = 1L;
+    private final String indent;
+
+    public JsonFormatterPrettyPrinter(@NotNull final String indent) {
+        this.indent = indent;
+        final DefaultIndenter indenter = new DefaultIndenter(indent, System.lineSeparator());
+        indentArraysWith(indenter);
+        indentObjectsWith(indenter);
+    }
+
+    @Override
+    public DefaultPrettyPrinter createInstance() {
+        return new JsonFormatterPrettyPrinter(indent);
+    }
+
+    @Override
+    public void writeEndObject(final JsonGenerator generator, final int nrOfEntries) throws IOException {
+        if (!_objectIndenter.isInline()) {
+            --_nesting;
+        }
+        if (nrOfEntries == 0) {
+            _objectIndenter.writeIndentation(generator, _nesting + 1);
+        }
+        _objectIndenter.writeIndentation(generator, _nesting);
+        generator.writeRaw('}');
+    }
+
+    @Override
+    public void writeEndArray(final JsonGenerator generator, final int nrOfValues) throws IOException {
+        if (!_arrayIndenter.isInline()) {
+            --_nesting;
+        }
+        if (nrOfValues == 0) {
+            _arrayIndenter.writeIndentation(generator, _nesting + 1);
+        }
+        _arrayIndenter.writeIndentation(generator, _nesting);
+        generator.writeRaw(']');
+    }
+}
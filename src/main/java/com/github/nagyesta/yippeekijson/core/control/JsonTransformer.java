@@ -6,6 +6,7 @@ import lombok.NonNull;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 
 /**
@@ -34,4 +35,108 @@ public interface JsonTransformer {
      * @throws JsonTransformException When the transform operation is not possible.
      */
     String transform(@NonNull File json, @NonNull Charset charset, @NonNull JsonAction action) throws JsonTransformException;
+
+    /**
+     * Applies the rules from the action parameter to the JSON file on the input stream and writes the
+     * result to the output stream using the given format without building the whole output in memory.
+     * The output stream is not closed.
+     *
+     * @param json         The input stream.
+     * @param charset      The character set used on the streams.
+     * @param action       The action to be applied.
+     * @param output       The output stream receiving the transformed JSON.
+     * @param outputFormat The format of the output.
+     * @param indent       The number of spaces used for indentation (if the format is indented).
+     * @throws JsonTransformException When the transform operation is not possible.
+     */
+    void transform(@NonNull InputStream json, @NonNull Charset charset, @NonNull JsonAction action,
+                   @NonNull OutputStream output, @NonNull OutputFormat outputFormat, int indent) throws JsonTransformException;
+
+    /**
+     * Applies the rules from the action parameter to the JSON file and writes the result to the output
+     * stream using the given format without building the whole output in memory.
+     * The output stream is not closed.
+     *
+     * @param json         The input file.
+     * @param charset      The character set used on the file and the output stream.
+     * @param action       The action to be applied.
+     * @param output       The output stream receiving the transformed JSON.
+     * @param outputFormat The format of the output.
+     * @param indent       The number of spaces used for indentation (if the format is indented).
+     * @throws JsonTransformException When the transform operation is not possible.
+     */
+    void transform(@NonNull File json, @NonNull Charset charset, @NonNull JsonAction action,
+                   @NonNull OutputStream output, @NonNull OutputFormat outputFormat, int indent) throws JsonTransformException;
+
+    /**
+     * Applies the rules from the action parameter to each record of the newline delimited JSON input stream
+     * and writes every transformed record as a single line to the output stream. Only one record is kept in
+     * memory at a time. Records failing to parse or transform are logged and skipped without stopping the
+     * processing of the remaining records. The output stream is not closed.
+     *
+     * @param json    The input stream containing one JSON document per line.
+     * @param charset The character set used on the streams.
+     * @param action  The action to be applied.
+     * @param output  The output stream receiving the transformed records.
+     * @return The number of records skipped due to failures.
+     * @throws JsonTransformException When the streams cannot be read or written.
+     */
+    long transformLines(@NonNull InputStream json, @NonNull Charset charset, @NonNull JsonAction action,
+                        @NonNull OutputStream output) throws JsonTransformException;
+
+    /**
+     * Applies the rules from the action parameter to each record of the newline delimited JSON file
+     * and writes every transformed record as a single line to the output stream. Only one record is kept in
+     * memory at a time. Records failing to parse or transform are logged and skipped without stopping the
+     * processing of the remaining records. The output stream is not closed.
+     *
+     * @param json    The input file containing one JSON document per line.
+     * @param charset The character set used on the file and the output stream.
+     * @param action  The action to be applied.
+     * @param output  The output stream receiving the transformed records.
+     * @return The number of records skipped due to failures.
+     * @throws JsonTransformException When the file or the stream cannot be read or written.
+     */
+    long transformLines(@NonNull File json, @NonNull Charset charset, @NonNull JsonAction action,
+                        @NonNull OutputStream output) throws JsonTransformException;
+
+    /**
+     * Applies the rules from the action parameter to each element of the array found at the array path of the
+     * JSON input stream one element at a time, writing the transformed elements to the output stream in the
+     * original order. Everything outside the array is copied without change. Only one element is kept in memory
+     * at a time, therefore every rule must operate on the elements of the array (their path must start with the
+     * array path). The output stream is not closed.
+     *
+     * @param json         The input stream.
+     * @param charset      The character set used on the streams.
+     * @param action       The action to be applied.
+     * @param arrayPath    The definite path of the streamed array using a trailing wildcard, e.g. $.items[*]
+     * @param output       The output stream receiving the transformed JSON.
+     * @param outputFormat The format of the output.
+     * @param indent       The number of spaces used for indentation (if the format is indented).
+     * @throws JsonTransformException When the transform operation is not possible.
+     */
+    void transformArrayElements(@NonNull InputStream json, @NonNull Charset charset, @NonNull JsonAction action,
+                                @NonNull String arrayPath, @NonNull OutputStream output,
+                                @NonNull OutputFormat outputFormat, int indent) throws JsonTransformException;
+
+    /**
+     * Applies the rules from the action parameter to each element of the array found at the array path of the
+     * JSON file one element at a time, writing the transformed elements to the output stream in the
+     * original order. Everything outside the array is copied without change. Only one element is kept in memory
+     * at a time, therefore every rule must operate on the elements of the array (their path must start with the
+     * array path). The output stream is not closed.
+     *
+     * @param json         The input file.
+     * @param charset      The character set used on the file and the output stream.
+     * @param action       The action to be applied.
+     * @param arrayPath    The definite path of the streamed array using a trailing wildcard, e.g. $.items[*]
+     * @param output       The output stream receiving the transformed JSON.
+     * @param outputFormat The format of the output.
+     * @param indent       The number of spaces used for indentation (if the format is indented).
+     * @throws JsonTransformException When the transform operation is not possible.
+     */
+    void transformArrayElements(@NonNull File json, @NonNull Charset charset, @NonNull JsonAction action,
+                                @NonNull String arrayPath, @NonNull OutputStream output,
+                                @NonNull OutputFormat outputFormat, int indent) throws JsonTransformException;
 }
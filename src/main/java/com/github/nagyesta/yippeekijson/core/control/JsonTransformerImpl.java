@@ -1,30 +1,59 @@
 package com.github.nagyesta.yippeekijson.core.control;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.nagyesta.yippeekijson.core.config.entities.JsonAction;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
 import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
 import com.github.nagyesta.yippeekijson.core.exception.StopRuleProcessingException;
+import com.github.nagyesta.yippeekijson.core.metrics.PredicateOutcomes;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import com.github.nagyesta.yippeekijson.core.metrics.RuleNames;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetricsImpl;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.RuleApplicationEvent;
+import com.github.nagyesta.yippeekijson.core.rule.JsonMappingRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.impl.helper.FusedMappingRule;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.MapFunction;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.internal.JsonFormatter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
 import org.springframework.util.StreamUtils;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.*;
 import java.nio.charset.Charset;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class JsonTransformerImpl implements JsonTransformer {
 
+    private static final char RECORD_SEPARATOR = '\n';
+    private static final String ROOT = "$";
+    private static final String WILDCARD = "[*]";
+    private static final Pattern PROPERTY_SEGMENT = Pattern.compile("\\['([^']*)'\\]");
     private final JsonMapper mapper;
+    private final RunMetrics runMetrics;
 
     public JsonTransformerImpl(@NonNull final JsonMapper mapper) {
+        this(mapper, new RunMetricsImpl(false));
+    }
+
+    public JsonTransformerImpl(@NonNull final JsonMapper mapper,
+                               @NonNull final RunMetrics runMetrics) {
         this.mapper = mapper;
+        this.runMetrics = runMetrics;
     }
 
     @Override
@@ -36,22 +65,289 @@ public class JsonTransformerImpl implements JsonTransformer {
                 log.info("No rules found for action: " + action.getName() + ". Copying JSON without change.");
                 return StreamUtils.copyToString(json, charset);
             }
-            final Configuration configuration = mapper.parserConfiguration();
-            final DocumentContext documentContext = JsonPath.parse(json, configuration);
-            log.info("Parsed JSON document.");
+            final DocumentContext documentContext = applyRules(json, action);
+            final long start = System.nanoTime();
+            final String result = JsonFormatter.prettyPrint(documentContext.jsonString());
+            runMetrics.recordSerialize(System.nanoTime() - start);
+            return result;
+        } catch (final Exception e) {
+            log.error(e.getMessage(), e);
+            throw new JsonTransformException("failed to transform JSON document.", e);
+        }
+    }
 
-            try {
-                action.getRules().forEach(rule -> rule.accept(documentContext));
-            } catch (final StopRuleProcessingException e) {
-                log.error("Rule processing is stopped: " + e.getMessage());
+    @Override
+    public void transform(@NonNull final InputStream json,
+                          @NonNull final Charset charset,
+                          @NonNull final JsonAction action,
+                          @NonNull final OutputStream output,
+                          @NonNull final OutputFormat outputFormat,
+                          final int indent) throws JsonTransformException {
+        try {
+            if (action.getRules().isEmpty()) {
+                log.info("No rules found for action: " + action.getName() + ". Copying JSON without change.");
+                StreamUtils.copy(json, output);
+                return;
+            }
+            final DocumentContext documentContext = applyRules(json, action);
+            final long start = System.nanoTime();
+            final Writer writer = new OutputStreamWriter(output, charset);
+            try (JsonGenerator generator = mapper.objectMapper().getFactory().createGenerator(writer)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                outputFormat.configure(generator, indent);
+                mapper.objectMapper().writeValue(generator, documentContext.json());
             }
-            return JsonFormatter.prettyPrint(documentContext.jsonString());
+            writer.flush();
+            runMetrics.recordSerialize(System.nanoTime() - start);
         } catch (final Exception e) {
             log.error(e.getMessage(), e);
             throw new JsonTransformException("failed to transform JSON document.", e);
         }
     }
 
+    @Override
+    public long transformLines(@NonNull final InputStream json,
+                               @NonNull final Charset charset,
+                               @NonNull final JsonAction action,
+                               @NonNull final OutputStream output) throws JsonTransformException {
+        try {
+            if (action.getRules().isEmpty()) {
+                log.info("No rules found for action: " + action.getName() + ". Copying JSON without change.");
+                StreamUtils.copy(json, output);
+                return 0L;
+            }
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(json, charset));
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(output, charset));
+            final Configuration configuration = mapper.parserConfiguration();
+            long lineNumber = 0L;
+            long processed = 0L;
+            long skipped = 0L;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                final String record;
+                try {
+                    final long parseStart = System.nanoTime();
+                    final DocumentContext documentContext = JsonPath.parse(line, configuration);
+                    runMetrics.recordParse(System.nanoTime() - parseStart);
+                    applyRules(documentContext, action);
+                    final long serializeStart = System.nanoTime();
+                    record = mapper.objectMapper().writeValueAsString(documentContext.json());
+                    runMetrics.recordSerialize(System.nanoTime() - serializeStart);
+                } catch (final Exception e) {
+                    skipped++;
+                    log.warn("Skipping record at line " + lineNumber + " due to: " + e.getMessage());
+                    continue;
+                }
+                writer.write(record);
+                writer.write(RECORD_SEPARATOR);
+                processed++;
+            }
+            writer.flush();
+            log.info("Transformed " + processed + " records, skipped " + skipped + " records.");
+            return skipped;
+        } catch (final IOException e) {
+            log.error(e.getMessage(), e);
+            throw new JsonTransformException("failed to transform JSON records.", e);
+        }
+    }
+
+    @Override
+    public void transformArrayElements(@NonNull final InputStream json,
+                                       @NonNull final Charset charset,
+                                       @NonNull final JsonAction action,
+                                       @NonNull final String arrayPath,
+                                       @NonNull final OutputStream output,
+                                       @NonNull final OutputFormat outputFormat,
+                                       final int indent) throws JsonTransformException {
+        try {
+            if (action.getRules().isEmpty()) {
+                log.info("No rules found for action: " + action.getName() + ". Copying JSON without change.");
+                StreamUtils.copy(json, output);
+                return;
+            }
+            final String normalizedPath = JsonPath.compile(arrayPath).getPath();
+            final List<String> parents = arrayParents(normalizedPath);
+            verifyRulesOperateOnElements(action, normalizedPath);
+            final Writer writer = new OutputStreamWriter(output, charset);
+            final JsonFactory factory = mapper.objectMapper().getFactory();
+            final ObjectWriter elementWriter = mapper.objectMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonParser parser = factory.createParser(new InputStreamReader(json, charset));
+                 JsonGenerator generator = factory.createGenerator(writer)) {
+                parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                outputFormat.configure(generator, indent);
+                parser.nextToken();
+                final long elements = streamValue(new ArrayStreamContext(parser, generator, elementWriter, parents, action), 0);
+                log.info("Transformed " + elements + " array elements.");
+            }
+            writer.flush();
+        } catch (final Exception e) {
+            log.error(e.getMessage(), e);
+            throw new JsonTransformException("failed to transform JSON array elements.", e);
+        }
+    }
+
+    private List<String> arrayParents(final String normalizedPath) {
+        Assert.isTrue(normalizedPath.endsWith(WILDCARD), "Streamed array path must end with " + WILDCARD + ": " + normalizedPath);
+        final String parentPath = normalizedPath.substring(ROOT.length(), normalizedPath.length() - WILDCARD.length());
+        final Matcher matcher = PROPERTY_SEGMENT.matcher(parentPath);
+        final List<String> parents = new ArrayList<>();
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            parents.add(matcher.group(1));
+            end = matcher.end();
+        }
+        Assert.isTrue(end == parentPath.length(),
+                "Streamed array path must contain only property names before " + WILDCARD + ": " + normalizedPath);
+        return parents;
+    }
+
+    private void verifyRulesOperateOnElements(final JsonAction action, final String normalizedPath) {
+        final String unsupported = action.getRules().stream()
+                .map(JsonRule::getJsonPath)
+                .map(JsonPath::getPath)
+                .filter(path -> !path.startsWith(normalizedPath))
+                .collect(Collectors.joining(", "));
+        Assert.isTrue(unsupported.isEmpty(), "Rules must operate on the elements of " + normalizedPath + " but found: " + unsupported);
+    }
+
+    private long streamValue(final ArrayStreamContext context, final int depth) throws IOException {
+        final JsonParser parser = context.parser;
+        final JsonGenerator generator = context.generator;
+        if (depth == context.parents.size()) {
+            Assert.isTrue(parser.currentToken() == JsonToken.START_ARRAY,
+                    "Expected array but found: " + parser.currentToken() + " at: " + parser.currentLocation());
+            generator.writeStartArray();
+            long elements = 0L;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                final long parseStart = System.nanoTime();
+                final Object element = mapper.objectMapper().readValue(parser, Object.class);
+                runMetrics.recordParse(System.nanoTime() - parseStart);
+                final List<?> transformedElements = transformElement(element, context);
+                final long serializeStart = System.nanoTime();
+                for (final Object transformed : transformedElements) {
+                    context.elementWriter.writeValue(generator, transformed);
+                }
+                runMetrics.recordSerialize(System.nanoTime() - serializeStart);
+                elements++;
+            }
+            generator.writeEndArray();
+            return elements;
+        }
+        Assert.isTrue(parser.currentToken() == JsonToken.START_OBJECT,
+                "Expected object but found: " + parser.currentToken() + " at: " + parser.currentLocation());
+        generator.writeStartObject();
+        long elements = 0L;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            generator.writeFieldName(name);
+            parser.nextToken();
+            if (name.equals(context.parents.get(depth))) {
+                elements += streamValue(context, depth + 1);
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        generator.writeEndObject();
+        return elements;
+    }
+
+    private List<?> transformElement(final Object element, final ArrayStreamContext context) {
+        final List<Object> array = new ArrayList<>();
+        array.add(element);
+        Object root = array;
+        for (int i = context.parents.size() - 1; i >= 0; i--) {
+            final Map<String, Object> parent = new LinkedHashMap<>();
+            parent.put(context.parents.get(i), root);
+            root = parent;
+        }
+        final DocumentContext documentContext = JsonPath.parse(root, mapper.parserConfiguration());
+        applyElementRules(documentContext, context.action);
+        Object current = documentContext.json();
+        for (final String name : context.parents) {
+            if (!(current instanceof Map)) {
+                return Collections.emptyList();
+            }
+            current = ((Map<?, ?>) current).get(name);
+        }
+        if (current instanceof List) {
+            return (List<?>) current;
+        }
+        return Collections.emptyList();
+    }
+
+    private DocumentContext applyRules(final InputStream json, final JsonAction action) {
+        final Configuration configuration = mapper.parserConfiguration();
+        final long start = System.nanoTime();
+        final DocumentContext documentContext = JsonPath.parse(json, configuration);
+        runMetrics.recordParse(System.nanoTime() - start);
+        log.info("Parsed JSON document.");
+        applyRules(documentContext, action);
+        return documentContext;
+    }
+
+    private void applyRules(final DocumentContext documentContext, final JsonAction action) {
+        try {
+            action.getRules().forEach(rule -> applyRule(documentContext, action, rule));
+        } catch (final StopRuleProcessingException e) {
+            log.error("Rule processing is stopped: " + e.getMessage());
+        }
+    }
+
+    private void applyElementRules(final DocumentContext documentContext, final JsonAction action) {
+        try {
+            for (final JsonRule rule : action.getRules()) {
+                try {
+                    applyRule(documentContext, action, rule);
+                } catch (final PathNotFoundException e) {
+                    log.debug("Rule path did not match the array element: " + rule.getJsonPath().getPath());
+                }
+            }
+        } catch (final StopRuleProcessingException e) {
+            log.error("Rule processing is stopped: " + e.getMessage());
+        }
+    }
+
+    private void applyRule(final DocumentContext documentContext, final JsonAction action, final JsonRule rule) {
+        final RuleApplicationEvent event = new RuleApplicationEvent();
+        if (!runMetrics.isEnabled() && !event.isEnabled()) {
+            rule.accept(documentContext);
+            return;
+        }
+        if (rule instanceof FusedMappingRule) {
+            //observed runs apply the fused rules one by one to report each of them separately
+            ((FusedMappingRule) rule).getRules().forEach(fused -> applyRule(documentContext, action, fused));
+            return;
+        }
+        final NodeCountingMapFunction counter = new NodeCountingMapFunction(rule);
+        final PredicateOutcomes outcomes = PredicateOutcomes.start();
+        event.begin();
+        final long start = System.nanoTime();
+        try {
+            if (rule instanceof JsonMappingRule) {
+                documentContext.map(rule.getJsonPath(), counter);
+            } else {
+                rule.accept(documentContext);
+            }
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            event.end();
+            PredicateOutcomes.stop();
+            if (runMetrics.isEnabled()) {
+                runMetrics.recordRule(action.getName(), rule, elapsed, counter.visited, counter.matched, outcomes);
+            }
+            if (event.shouldCommit()) {
+                event.set(action.getName(), RuleNames.of(rule), rule.getOrder(), rule.getJsonPath().getPath(),
+                        counter.visited, counter.matched);
+                event.commit();
+            }
+        }
+    }
+
     @Override
     public String transform(@NonNull final File json,
                             @NonNull final Charset charset,
@@ -64,4 +360,94 @@ public class JsonTransformerImpl implements JsonTransformer {
             throw new JsonTransformException("IOException happened while processing JSON.", e);
         }
     }
+
+    @Override
+    public void transform(@NonNull final File json,
+                          @NonNull final Charset charset,
+                          @NonNull final JsonAction action,
+                          @NonNull final OutputStream output,
+                          @NonNull final OutputFormat outputFormat,
+                          final int indent) throws JsonTransformException {
+        log.info("Processing file: " + json.getAbsolutePath() + " using action: " + action.getName());
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(json))) {
+            transform(inputStream, charset, action, output, outputFormat, indent);
+        } catch (final IOException e) {
+            log.error(e.getMessage(), e);
+            throw new JsonTransformException("IOException happened while processing JSON.", e);
+        }
+    }
+
+    @Override
+    public long transformLines(@NonNull final File json,
+                               @NonNull final Charset charset,
+                               @NonNull final JsonAction action,
+                               @NonNull final OutputStream output) throws JsonTransformException {
+        log.info("Processing records of file: " + json.getAbsolutePath() + " using action: " + action.getName());
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(json))) {
+            return transformLines(inputStream, charset, action, output);
+        } catch (final IOException e) {
+            log.error(e.getMessage(), e);
+            throw new JsonTransformException("IOException happened while processing JSON.", e);
+        }
+    }
+
+    @Override
+    public void transformArrayElements(@NonNull final File json,
+                                       @NonNull final Charset charset,
+                                       @NonNull final JsonAction action,
+                                       @NonNull final String arrayPath,
+                                       @NonNull final OutputStream output,
+                                       @NonNull final OutputFormat outputFormat,
+                                       final int indent) throws JsonTransformException {
+        log.info("Streaming array elements of file: " + json.getAbsolutePath() + " using action: " + action.getName());
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(json))) {
+            transformArrayElements(inputStream, charset, action, arrayPath, output, outputFormat, indent);
+        } catch (final IOException e) {
+            log.error(e.getMessage(), e);
+            throw new JsonTransformException("IOException happened while processing JSON.", e);
+        }
+    }
+
+    private static final class ArrayStreamContext {
+        private final JsonParser parser;
+        private final JsonGenerator generator;
+        private final ObjectWriter elementWriter;
+        private final List<String> parents;
+        private final JsonAction action;
+
+        private ArrayStreamContext(final JsonParser parser,
+                                   final JsonGenerator generator,
+                                   final ObjectWriter elementWriter,
+                                   final List<String> parents,
+                                   final JsonAction action) {
+            this.parser = parser;
+            this.generator = generator;
+            this.elementWriter = elementWriter;
+            this.parents = parents;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Counts the nodes visited by a mapping rule and the ones it has replaced with a new value.
+     */
+    private static final class NodeCountingMapFunction implements MapFunction {
+        private final JsonRule rule;
+        private long visited;
+        private long matched;
+
+        private NodeCountingMapFunction(final JsonRule rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        public Object map(final Object currentValue, final Configuration configuration) {
+            visited++;
+            final Object result = ((JsonMappingRule) rule).map(currentValue, configuration);
+            if (result != currentValue) {
+                matched++;
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+
+/**
+ * Limits the estimated heap usage of the files processed concurrently. The footprint of a file is
+ * estimated by multiplying its size with the expansion factor, a file is admitted for processing only
+ * if its footprint fits into the remaining budget. Files larger than the whole budget are admitted
+ * when nothing else is in progress. A budget with 0 capacity admits everything immediately.
+ */
+@Slf4j
+public final class MemoryBudget {
+
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private final long capacity;
+    private final double expansionFactor;
+    private long available;
+
+    public MemoryBudget(final long capacityMegabytes, final double expansionFactor) {
+        this.capacity = Math.max(0L, capacityMegabytes) * BYTES_PER_MEGABYTE;
+        this.expansionFactor = expansionFactor;
+        this.available = capacity;
+    }
+
+    /**
+     * Returns whether the budget is limiting the admission at all.
+     *
+     * @return true if the capacity is positive
+     */
+    public boolean isEnabled() {
+        return capacity > 0L;
+    }
+
+    /**
+     * Estimates the in-memory footprint of the file using its size.
+     *
+     * @param file The file we need to process
+     * @return the estimated footprint in bytes or 0 if the budget is disabled
+     */
+    public long estimate(@NonNull final File file) {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        return (long) Math.ceil(file.length() * expansionFactor);
+    }
+
+    /**
+     * Blocks until the footprint fits into the remaining budget, then reserves it.
+     *
+     * @param footprint The estimated footprint
+     * @return the reserved amount which must be released after processing
+     * @throws InterruptedException When the thread is interrupted while waiting.
+     */
+    public synchronized long acquire(final long footprint) throws InterruptedException {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        final long reserved = Math.min(footprint, capacity);
+        if (reserved < footprint) {
+            log.warn("Estimated footprint (" + footprint + " bytes) exceeds the memory budget, processing it alone.");
+        }
+        while (available < reserved) {
+            wait();
+        }
+        available -= reserved;
+        return reserved;
+    }
+
+    /**
+     * Releases a previously reserved amount.
+     *
+     * @param reserved The amount returned by {@link #acquire(long)}
+     */
+    public synchronized void release(final long reserved) {
+        if (reserved > 0L) {
+            available += reserved;
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines how the transformed JSON documents are formatted.
+ */
+public enum OutputFormat {
+    /**
+     * Indents nested arrays and objects using the configured number of spaces, putting every value on a new line.
+     */
+    PRETTY() {
+        @Override
+        public void configure(@NotNull final JsonGenerator generator, final int indent) {
+            generator.setPrettyPrinter(new JsonFormatterPrettyPrinter(SPACE.repeat(Math.max(0, indent))));
+        }
+    },
+    /**
+     * Writes the whole document without any whitespace. Ideal for output consumed by machines.
+     */
+    COMPACT() {
+        @Override
+        public void configure(@NotNull final JsonGenerator generator, final int indent) {
+            generator.setPrettyPrinter(null);
+        }
+    };
+
+    private static final String SPACE = " ";
+
+    /**
+     * Configures the generator to produce the desired format.
+     *
+     * @param generator The generator we will use for writing the document
+     * @param indent    The number of spaces used for a single level of indentation
+     */
+    public abstract void configure(@NotNull JsonGenerator generator, int indent);
+}
@@ -9,6 +9,8 @@ import com.github.nagyesta.yippeekijson.metadata.schema.annotation.WikiLink;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.StringJoiner;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -16,6 +18,9 @@ import java.util.regex.Pattern;
 
 /**
  * {@link java.util.function.Function} for replacing {@link String} values using a RegExp.
+ * The replacement is split into literal and named group segments once, then the result is assembled in a single
+ * pass using a builder reused by the current thread. The captured values are inserted literally, groups which did
+ * not participate in the match are replaced by an empty {@link String}.
  */
 @Slf4j
 public final class RegexReplaceFunction implements Function<String, String> {
@@ -25,8 +30,12 @@ public final class RegexReplaceFunction implements Function<String, String> {
     static final String PARAM_REPLACEMENT = "replacement";
     private static final Pattern NAMED_GROUP_PATTERN = Pattern.compile("(?:\\$\\{(?<groupName>[a-zA-Z0-9]+)})");
     private static final String GROUP_NAME_KEY = "groupName";
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
     private final Pattern pattern;
     private final String replacement;
+    private final List<Segment> segments;
+    private final boolean literalOnly;
 
     @SuppressWarnings("DefaultAnnotationParam")
     @SchemaDefinition(
@@ -57,6 +66,25 @@ public final class RegexReplaceFunction implements Function<String, String> {
             @NonNull final String replacement) {
         this.pattern = Pattern.compile(pattern);
         this.replacement = replacement;
+        this.segments = compileTemplate(replacement);
+        this.literalOnly = segments.stream().allMatch(segment -> segment.groupName == null);
+    }
+
+    private static List<Segment> compileTemplate(final String replacement) {
+        final List<Segment> result = new ArrayList<>();
+        final Matcher matcher = NAMED_GROUP_PATTERN.matcher(replacement);
+        int end = 0;
+        while (matcher.find()) {
+            if (matcher.start() > end) {
+                result.add(new Segment(replacement.substring(end, matcher.start()), null));
+            }
+            result.add(new Segment(null, matcher.group(GROUP_NAME_KEY)));
+            end = matcher.end();
+        }
+        if (end < replacement.length()) {
+            result.add(new Segment(replacement.substring(end), null));
+        }
+        return List.copyOf(result);
     }
 
     @Override
@@ -70,17 +98,31 @@ public final class RegexReplaceFunction implements Function<String, String> {
             return s;
         }
 
-        String result = replacement;
-        for (Matcher r = NAMED_GROUP_PATTERN.matcher(replacement); r.find(); r = NAMED_GROUP_PATTERN.matcher(result)) {
-            try {
-                final String groupName = r.group(GROUP_NAME_KEY);
-                result = r.replaceFirst(matcher.group(groupName));
-            } catch (final IllegalArgumentException e) {
-                log.error(String.format("Pattern: \"%s\" replacement of input: \"%s\" failed due to: %s", pattern, s, e.getMessage()));
-                return s;
+        if (literalOnly) {
+            return replacement;
+        }
+        final StringBuilder builder = BUILDER.get();
+        try {
+            for (final Segment segment : segments) {
+                if (segment.groupName == null) {
+                    builder.append(segment.literal);
+                } else {
+                    final String value = matcher.group(segment.groupName);
+                    if (value != null) {
+                        builder.append(value);
+                    }
+                }
+            }
+            return builder.toString();
+        } catch (final IllegalArgumentException e) {
+            log.error(String.format("Pattern: \"%s\" replacement of input: \"%s\" failed due to: %s", pattern, s, e.getMessage()));
+            return s;
+        } finally {
+            builder.setLength(0);
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                builder.trimToSize();
             }
         }
-        return result;
     }
 
     @Override
@@ -90,4 +132,14 @@ public final class RegexReplaceFunction implements Function<String, String> {
                 .add("replacement='" + replacement + "'")
                 .toString();
     }
+
+    private static final class Segment {
+        private final String literal;
+        private final String groupName;
+
+        private Segment(final String literal, final String groupName) {
+            this.literal = literal;
+            this.groupName = groupName;
+        }
+    }
 }
@@ -29,4 +29,14 @@ public interface HttpClient {
      */
     String fetch(@NonNull HttpRequestContext baseContext,
                  @NonNull HttpRequestContext overrides) throws AbortTransformationException;
+
+    /**
+     * Fetches a resource over HTTP based on the {@link HttpRequestContext} allowing conditional requests.
+     * In addition to the successful status codes, a 304 (Not Modified) response is accepted as well.
+     *
+     * @param requestContext The context defining how the resource should be accessed
+     * @return The status, body and validator headers of the response
+     * @throws AbortTransformationException If the fetching fails for any reason.
+     */
+    HttpResponseContent fetchResponse(@NonNull HttpRequestContext requestContext) throws AbortTransformationException;
 }
@@ -0,0 +1,50 @@
+package com.github.nagyesta.yippeekijson.core.http;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.StringJoiner;
+
+/**
+ * Entity class containing the parts of an HTTP response we need for cache revalidation.
+ */
+@Getter
+public final class HttpResponseContent {
+
+    /**
+     * The HTTP status code of Not Modified responses.
+     */
+    public static final int NOT_MODIFIED = 304;
+    private final int statusCode;
+    private final String body;
+    private final String eTag;
+    private final String lastModified;
+
+    public HttpResponseContent(final int statusCode,
+                               @Nullable final String body,
+                               @Nullable final String eTag,
+                               @Nullable final String lastModified) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Tells us whether the server confirmed that our cached representation is still valid.
+     *
+     * @return true if the status code is 304
+     */
+    public boolean isNotModified() {
+        return statusCode == NOT_MODIFIED;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", HttpResponseContent.class.getSimpleName() + "[", "]")
+                .add("statusCode=" + statusCode)
+                .add("eTag='" + eTag + "'")
+                .add("lastModified='" + lastModified + "'")
+                .toString();
+    }
+}
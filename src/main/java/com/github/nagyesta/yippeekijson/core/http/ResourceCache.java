@@ -0,0 +1,20 @@
+package com.github.nagyesta.yippeekijson.core.http;
+
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import lombok.NonNull;
+
+/**
+ * Defines how rarely changing remote resources (like the SchemaStore catalog) can be reused between runs.
+ */
+public interface ResourceCache {
+
+    /**
+     * Returns the content of the resource defined by the {@link HttpRequestContext} either from the cache
+     * or by fetching (or revalidating) it over HTTP.
+     *
+     * @param requestContext The context defining how the resource should be accessed
+     * @return The {@link String} contents of the resource
+     * @throws AbortTransformationException If the resource is neither cached nor can be fetched.
+     */
+    String fetch(@NonNull HttpRequestContext requestContext) throws AbortTransformationException;
+}
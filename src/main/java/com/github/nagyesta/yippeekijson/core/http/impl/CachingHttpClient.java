@@ -0,0 +1,184 @@
+package com.github.nagyesta.yippeekijson.core.http.impl;
+
+import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.HttpMethod;
+import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.HttpResponseContent;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link HttpClient} decorator remembering the responses of the wrapped client for a limited time.
+ * The least recently used responses are evicted when the entry count or the byte budget is exceeded.
+ * Only the responses of GET requests are cached, the requests using any other method are always passed to the wrapped client.
+ */
+@Slf4j
+@Injectable(forType = HttpClient.class)
+public class CachingHttpClient implements HttpClient, AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private final HttpClient delegate;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Clock clock;
+    private final Map<HttpRequestContext, CacheEntry> cache = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long usedBytes;
+
+    public CachingHttpClient(@NotNull final HttpClient delegate,
+                             @NotNull final Duration ttl,
+                             final int maxEntries,
+                             final long maxBytes) {
+        this(delegate, ttl, maxEntries, maxBytes, Clock.systemUTC());
+    }
+
+    CachingHttpClient(@NotNull final HttpClient delegate,
+                      @NotNull final Duration ttl,
+                      final int maxEntries,
+                      final long maxBytes,
+                      @NotNull final Clock clock) {
+        Assert.isTrue(maxEntries > 0, "MaxEntries must be positive.");
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    @Override
+    public String fetch(@NonNull final HttpRequestContext requestContext) throws AbortTransformationException {
+        if (requestContext.getHttpMethod() != HttpMethod.GET) {
+            return delegate.fetch(requestContext);
+        }
+        final String cached = lookup(requestContext);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        final String response = delegate.fetch(requestContext);
+        store(requestContext, response);
+        return response;
+    }
+
+    @Override
+    public String fetch(@NonNull final HttpRequestContext baseContext,
+                        @NonNull final HttpRequestContext overrides) throws AbortTransformationException {
+        return this.fetch(baseContext.withOverrides(overrides));
+    }
+
+    @Override
+    public HttpResponseContent fetchResponse(@NonNull final HttpRequestContext requestContext) throws AbortTransformationException {
+        return delegate.fetchResponse(requestContext);
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of requests passed to the wrapped client.
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public void close() throws Exception {
+        log.info("HTTP response cache hits: " + getHits() + ", misses: " + getMisses() + ".");
+        if (delegate instanceof AutoCloseable) {
+            ((AutoCloseable) delegate).close();
+        }
+    }
+
+    private synchronized String lookup(@NotNull final HttpRequestContext requestContext) {
+        final CacheEntry entry = cache.get(requestContext);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            remove(requestContext);
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    private synchronized void store(@NotNull final HttpRequestContext requestContext, final String response) {
+        if (response == null) {
+            return;
+        }
+        final long bytes = (long) response.length() * Character.BYTES;
+        if (maxBytes > 0 && bytes > maxBytes) {
+            log.debug("Response is too large to be cached: " + requestContext.getUri());
+            return;
+        }
+        remove(requestContext);
+        long expiresAt = Long.MAX_VALUE;
+        if (!ttl.isZero() && !ttl.isNegative()) {
+            expiresAt = clock.millis() + ttl.toMillis();
+        }
+        cache.put(requestContext, new CacheEntry(response, bytes, expiresAt));
+        usedBytes += bytes;
+        evict();
+    }
+
+    private void remove(@NotNull final HttpRequestContext requestContext) {
+        final CacheEntry removed = cache.remove(requestContext);
+        if (removed != null) {
+            usedBytes -= removed.getBytes();
+        }
+    }
+
+    private void evict() {
+        final Iterator<CacheEntry> iterator = cache.values().iterator();
+        while (iterator.hasNext() && (cache.size() > maxEntries || (maxBytes > 0 && usedBytes > maxBytes))) {
+            usedBytes -= iterator.next().getBytes();
+            iterator.remove();
+        }
+    }
+
+    private static final class CacheEntry {
+        private final String value;
+        private final long bytes;
+        private final long expiresAt;
+
+        private CacheEntry(final String value, final long bytes, final long expiresAt) {
+            this.value = value;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private long getBytes() {
+            return bytes;
+        }
+
+        private boolean isExpired(final long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -5,47 +5,156 @@ import com.github.nagyesta.yippeekijson.core.config.entities.HttpConfig;
 import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
 import com.github.nagyesta.yippeekijson.core.http.HttpClient;
 import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.HttpResponseContent;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.HttpFetchEvent;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 
 @Slf4j
 @Injectable(forType = HttpClient.class)
-public class DefaultHttpClient implements HttpClient {
+public class DefaultHttpClient implements HttpClient, AutoCloseable {
 
     private static final String ACCEPT = "Accept";
     private static final String USER_AGENT = "User-Agent";
+    private static final String E_TAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String THREAD_PREFIX = "yippee-http-";
     private final HttpConfig httpConfig;
+    private final Semaphore requestPermits;
+    private final ExecutorService executorService;
+    private final java.net.http.HttpClient client;
 
     public DefaultHttpClient(final HttpConfig httpConfig) {
         this.httpConfig = httpConfig;
+        if (httpConfig.getMaxConcurrentRequests() > 0) {
+            this.requestPermits = new Semaphore(httpConfig.getMaxConcurrentRequests(), true);
+        } else {
+            this.requestPermits = null;
+        }
+        if (httpConfig.getExecutorThreads() > 0) {
+            this.executorService = Executors.newFixedThreadPool(httpConfig.getExecutorThreads(),
+                    new CustomizableThreadFactory(THREAD_PREFIX));
+        } else {
+            this.executorService = null;
+        }
+        this.client = buildClient(httpConfig, executorService);
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
     }
 
     @Override
     public String fetch(@NonNull final HttpRequestContext requestContext) {
+        return exchange(requestContext, false).body();
+    }
+
+    @Override
+    public HttpResponseContent fetchResponse(@NonNull final HttpRequestContext requestContext) {
+        final HttpResponse<String> httpResponse = exchange(requestContext, true);
+        if (httpResponse.statusCode() == HttpResponseContent.NOT_MODIFIED) {
+            return new HttpResponseContent(httpResponse.statusCode(), null,
+                    header(httpResponse, E_TAG), header(httpResponse, LAST_MODIFIED));
+        }
+        return new HttpResponseContent(httpResponse.statusCode(), httpResponse.body(),
+                header(httpResponse, E_TAG), header(httpResponse, LAST_MODIFIED));
+    }
+
+    private HttpResponse<String> exchange(@NotNull final HttpRequestContext requestContext, final boolean allowNotModified) {
+        final HttpFetchEvent event = new HttpFetchEvent();
+        event.begin();
+        HttpResponse<String> httpResponse = null;
         try {
             log.info("Sending request: " + requestContext);
             HttpRequest httpRequest = buildHttpRequest(requestContext);
-            final HttpResponse<String> httpResponse = java.net.http.HttpClient.newHttpClient()
-                    .send(httpRequest, HttpResponse.BodyHandlers.ofString(requestContext.getCharset()));
+            httpResponse = send(httpRequest, requestContext);
             final int statusCode = httpResponse.statusCode();
             if (httpConfig.getMinSuccessStatus() <= statusCode && statusCode <= httpConfig.getMaxSuccessStatus()) {
-                return httpResponse.body();
+                return httpResponse;
+            } else if (allowNotModified && statusCode == HttpResponseContent.NOT_MODIFIED) {
+                return httpResponse;
             } else {
                 throw new IllegalStateException("Http request failed with status: " + statusCode);
             }
         } catch (final Exception e) {
             log.error("Failed to fetch resource from: " + requestContext.getUri() + " due to: " + e.getMessage(), e);
             throw new AbortTransformationException("Failed to fetch resource from: " + requestContext.getUri());
+        } finally {
+            commitEvent(event, requestContext, httpResponse);
         }
     }
 
+    private void commitEvent(@NotNull final HttpFetchEvent event,
+                             @NotNull final HttpRequestContext requestContext,
+                             @Nullable final HttpResponse<String> httpResponse) {
+        event.end();
+        if (event.shouldCommit()) {
+            int status = 0;
+            long responseSize = 0L;
+            if (httpResponse != null) {
+                status = httpResponse.statusCode();
+                responseSize = Optional.ofNullable(httpResponse.body())
+                        .map(body -> body.getBytes(requestContext.getCharset()).length)
+                        .orElse(0);
+            }
+            event.set(requestContext.getUri(), String.valueOf(requestContext.getHttpMethod()), status, responseSize);
+            event.commit();
+        }
+    }
+
+    @Nullable
+    private String header(@NotNull final HttpResponse<String> httpResponse, @NotNull final String name) {
+        return httpResponse.headers().firstValue(name).orElse(null);
+    }
+
+    private HttpResponse<String> send(@NotNull final HttpRequest httpRequest,
+                                      @NotNull final HttpRequestContext requestContext) throws IOException, InterruptedException {
+        if (requestPermits == null) {
+            return doSend(httpRequest, requestContext);
+        }
+        requestPermits.acquire();
+        try {
+            return doSend(httpRequest, requestContext);
+        } finally {
+            requestPermits.release();
+        }
+    }
+
+    private HttpResponse<String> doSend(@NotNull final HttpRequest httpRequest,
+                                        @NotNull final HttpRequestContext requestContext) throws IOException, InterruptedException {
+        return client.send(httpRequest, HttpResponse.BodyHandlers.ofString(requestContext.getCharset()));
+    }
+
+    @NotNull
+    private static java.net.http.HttpClient buildClient(@NotNull final HttpConfig httpConfig,
+                                                        @Nullable final ExecutorService executorService) {
+        final java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                .followRedirects(java.net.http.HttpClient.Redirect.NEVER);
+        Optional.ofNullable(httpConfig.getHttpVersion()).ifPresent(builder::version);
+        if (httpConfig.getConnectTimeoutSeconds() > 0) {
+            builder.connectTimeout(Duration.ofSeconds(httpConfig.getConnectTimeoutSeconds()));
+        }
+        Optional.ofNullable(executorService).ifPresent(builder::executor);
+        return builder.build();
+    }
+
     private HttpRequest buildHttpRequest(@NotNull final HttpRequestContext requestContext) {
         final HttpRequest.Builder builder = requestContext.toHttpRequestBuilder();
         if (httpConfig.getTimeoutSeconds() > 0) {
@@ -0,0 +1,63 @@
+package com.github.nagyesta.yippeekijson.core.http.impl;
+
+import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.HttpResponseContent;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link HttpClient} decorator recording the latency of every request sent by the wrapped client.
+ */
+@Injectable(forType = HttpClient.class)
+public class MetricsRecordingHttpClient implements HttpClient, AutoCloseable {
+
+    private final HttpClient delegate;
+    private final RunMetrics runMetrics;
+
+    public MetricsRecordingHttpClient(@NonNull final HttpClient delegate,
+                                      @NonNull final RunMetrics runMetrics) {
+        this.delegate = delegate;
+        this.runMetrics = runMetrics;
+    }
+
+    @Override
+    public String fetch(@NonNull final HttpRequestContext requestContext) throws AbortTransformationException {
+        return record(() -> delegate.fetch(requestContext));
+    }
+
+    @Override
+    public String fetch(@NonNull final HttpRequestContext baseContext,
+                        @NonNull final HttpRequestContext overrides) throws AbortTransformationException {
+        return this.fetch(baseContext.withOverrides(overrides));
+    }
+
+    @Override
+    public HttpResponseContent fetchResponse(@NonNull final HttpRequestContext requestContext) throws AbortTransformationException {
+        return record(() -> delegate.fetchResponse(requestContext));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable) {
+            ((AutoCloseable) delegate).close();
+        }
+    }
+
+    private <T> T record(@NotNull final Supplier<T> request) {
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final T result = request.get();
+            success = true;
+            return result;
+        } finally {
+            runMetrics.recordHttpFetch(success, System.nanoTime() - start);
+        }
+    }
+}
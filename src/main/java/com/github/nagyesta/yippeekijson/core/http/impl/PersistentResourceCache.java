@@ -0,0 +1,301 @@
+package com.github.nagyesta.yippeekijson.core.http.impl;
+
+import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
+import com.github.nagyesta.yippeekijson.core.config.entities.SchemaStoreConfig;
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.HttpResponseContent;
+import com.github.nagyesta.yippeekijson.core.http.ResourceCache;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ResourceCache} keeping the resources in memory and optionally persisting them in a content-addressed
+ * directory. Both the in-memory and the persisted resources are revalidated using their ETag or Last-Modified
+ * headers once they are older than the configured max age. If the max age is zero, the resources are revalidated
+ * once per process and the in-memory resources never expire. Each resource is loaded by a single thread at a time,
+ * the other threads fetching the same resource wait for the result without blocking unrelated resources.
+ */
+@Slf4j
+@Injectable(forType = ResourceCache.class)
+public class PersistentResourceCache implements ResourceCache {
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String CONTENT_SUFFIX = ".json";
+    private static final String META_SUFFIX = ".properties";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String KEY_CONTENT = "content";
+    private static final String KEY_E_TAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_VALIDATED_AT = "validatedAt";
+    private static final String KEY_REQUEST = "request";
+    private static final String SHA_256 = "SHA-256";
+
+    private final HttpClient httpClient;
+    private final Path cacheDirectory;
+    private final Duration maxAge;
+    private final boolean offline;
+    private final Clock clock;
+    private final Map<HttpRequestContext, CompletableFuture<CachedResource>> resolved = new ConcurrentHashMap<>();
+
+    public PersistentResourceCache(@NonNull final HttpClient httpClient,
+                                   @NonNull final SchemaStoreConfig schemaStoreConfig) {
+        this(httpClient, schemaStoreConfig, Clock.systemUTC());
+    }
+
+    PersistentResourceCache(@NotNull final HttpClient httpClient,
+                            @NotNull final SchemaStoreConfig schemaStoreConfig,
+                            @NotNull final Clock clock) {
+        this.httpClient = httpClient;
+        this.cacheDirectory = Optional.ofNullable(StringUtils.trimToNull(schemaStoreConfig.getCacheDirectory()))
+                .map(Path::of)
+                .orElse(null);
+        this.maxAge = Duration.ofSeconds(Math.max(0, schemaStoreConfig.getCacheMaxAgeSeconds()));
+        this.offline = schemaStoreConfig.isOffline();
+        this.clock = clock;
+    }
+
+    @Override
+    public String fetch(@NonNull final HttpRequestContext requestContext) throws AbortTransformationException {
+        while (true) {
+            final CompletableFuture<CachedResource> existing = resolved.get(requestContext);
+            if (existing != null && !isExpired(existing)) {
+                return await(existing).getContent();
+            }
+            final CompletableFuture<CachedResource> created = new CompletableFuture<>();
+            if (claim(requestContext, existing, created)) {
+                return load(requestContext, existing, created).getContent();
+            }
+        }
+    }
+
+    private boolean claim(@NotNull final HttpRequestContext requestContext,
+                          @Nullable final CompletableFuture<CachedResource> existing,
+                          @NotNull final CompletableFuture<CachedResource> created) {
+        if (existing == null) {
+            return resolved.putIfAbsent(requestContext, created) == null;
+        }
+        return resolved.replace(requestContext, existing, created);
+    }
+
+    private boolean isExpired(@NotNull final CompletableFuture<CachedResource> future) {
+        return !maxAge.isZero() && future.isDone() && !future.isCompletedExceptionally() && !isFresh(future.join());
+    }
+
+    private boolean isFresh(@NotNull final CachedResource resource) {
+        return resource.getValidatedAt() + maxAge.toMillis() > clock.millis();
+    }
+
+    @NotNull
+    private CachedResource await(@NotNull final CompletableFuture<CachedResource> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @NotNull
+    private CachedResource load(@NotNull final HttpRequestContext requestContext,
+                                @Nullable final CompletableFuture<CachedResource> expired,
+                                @NotNull final CompletableFuture<CachedResource> future) {
+        try {
+            CachedResource previous = null;
+            if (expired != null) {
+                previous = expired.join();
+            }
+            final CachedResource resource = load(requestContext, previous);
+            future.complete(resource);
+            return resource;
+        } catch (final RuntimeException e) {
+            resolved.remove(requestContext, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @NotNull
+    private CachedResource load(@NotNull final HttpRequestContext requestContext, @Nullable final CachedResource previous) {
+        final Optional<CachedResource> cached = Optional.ofNullable(previous).or(() -> read(requestContext));
+        if (offline) {
+            return cached.orElseThrow(() -> new AbortTransformationException(
+                    "Resource is not available in offline mode: " + requestContext.getUri()));
+        }
+        final long now = clock.millis();
+        if (cached.isPresent() && isFresh(cached.get())) {
+            log.debug("Using cached resource without revalidation: " + requestContext.getUri());
+            return cached.get();
+        }
+        try {
+            final HttpResponseContent response = httpClient.fetchResponse(conditionalRequest(requestContext, cached.orElse(null)));
+            if (response.isNotModified() && cached.isPresent()) {
+                log.debug("Cached resource is still valid: " + requestContext.getUri());
+                final CachedResource resource = cached.get().revalidatedAt(now);
+                if (previous == null) {
+                    //the in-memory resources were already persisted in this run, only the validation time would change
+                    write(requestContext, resource);
+                }
+                return resource;
+            }
+            final CachedResource resource = new CachedResource(response.getBody(), response.getETag(), response.getLastModified(), now);
+            write(requestContext, resource);
+            return resource;
+        } catch (final AbortTransformationException e) {
+            if (cached.isPresent()) {
+                log.warn("Failed to revalidate resource, using cached content: " + requestContext.getUri());
+                return cached.get();
+            }
+            throw e;
+        }
+    }
+
+    @NotNull
+    private HttpRequestContext conditionalRequest(@NotNull final HttpRequestContext requestContext,
+                                                  @Nullable final CachedResource cached) {
+        final HttpRequestContext.HttpRequestContextBuilder builder = HttpRequestContext.builder()
+                .uri(requestContext.getUri())
+                .httpMethod(requestContext.getHttpMethod())
+                .charset(requestContext.getCharset());
+        requestContext.getHeaders().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        if (cached != null) {
+            Optional.ofNullable(cached.getETag()).ifPresent(eTag -> builder.addHeader(IF_NONE_MATCH, eTag));
+            Optional.ofNullable(cached.getLastModified()).ifPresent(date -> builder.addHeader(IF_MODIFIED_SINCE, date));
+        }
+        return builder.build();
+    }
+
+    private Optional<CachedResource> read(@NotNull final HttpRequestContext requestContext) {
+        if (cacheDirectory == null) {
+            return Optional.empty();
+        }
+        final Path metaFile = cacheDirectory.resolve(sha256(requestContext.toString()) + META_SUFFIX);
+        if (!Files.isRegularFile(metaFile)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+            final Properties meta = new Properties();
+            meta.load(reader);
+            final String contentHash = meta.getProperty(KEY_CONTENT);
+            final String content = Files.readString(cacheDirectory.resolve(contentHash + CONTENT_SUFFIX), StandardCharsets.UTF_8);
+            if (!contentHash.equals(sha256(content))) {
+                log.warn("Ignoring corrupted cache entry of: " + requestContext.getUri());
+                return Optional.empty();
+            }
+            return Optional.of(new CachedResource(content,
+                    meta.getProperty(KEY_E_TAG),
+                    meta.getProperty(KEY_LAST_MODIFIED),
+                    Long.parseLong(meta.getProperty(KEY_VALIDATED_AT))));
+        } catch (final Exception e) {
+            log.warn("Failed to read cache entry of: " + requestContext.getUri() + " due to: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(@NotNull final HttpRequestContext requestContext, @NotNull final CachedResource resource) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheDirectory);
+            final String contentHash = sha256(resource.getContent());
+            final Path contentFile = cacheDirectory.resolve(contentHash + CONTENT_SUFFIX);
+            if (!Files.isRegularFile(contentFile)) {
+                final Path tempFile = Files.createTempFile(cacheDirectory, contentHash, TEMP_SUFFIX);
+                Files.writeString(tempFile, resource.getContent(), StandardCharsets.UTF_8);
+                moveAtomically(tempFile, contentFile);
+            }
+            final Properties meta = new Properties();
+            meta.setProperty(KEY_REQUEST, requestContext.toString());
+            meta.setProperty(KEY_CONTENT, contentHash);
+            meta.setProperty(KEY_VALIDATED_AT, String.valueOf(resource.getValidatedAt()));
+            Optional.ofNullable(resource.getETag()).ifPresent(eTag -> meta.setProperty(KEY_E_TAG, eTag));
+            Optional.ofNullable(resource.getLastModified()).ifPresent(date -> meta.setProperty(KEY_LAST_MODIFIED, date));
+            final String metaName = sha256(requestContext.toString());
+            final Path tempFile = Files.createTempFile(cacheDirectory, metaName, TEMP_SUFFIX);
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            moveAtomically(tempFile, cacheDirectory.resolve(metaName + META_SUFFIX));
+        } catch (final IOException e) {
+            log.warn("Failed to write cache entry of: " + requestContext.getUri() + " due to: " + e.getMessage());
+        }
+    }
+
+    private void moveAtomically(@NotNull final Path source, @NotNull final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @NotNull
+    private String sha256(@NotNull final String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256).digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static final class CachedResource {
+        private final String content;
+        private final String eTag;
+        private final String lastModified;
+        private final long validatedAt;
+
+        private CachedResource(final String content, final String eTag, final String lastModified, final long validatedAt) {
+            this.content = content;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.validatedAt = validatedAt;
+        }
+
+        private CachedResource revalidatedAt(final long time) {
+            return new CachedResource(content, eTag, lastModified, time);
+        }
+
+        private String getContent() {
+            return content;
+        }
+
+        private String getETag() {
+            return eTag;
+        }
+
+        private String getLastModified() {
+            return lastModified;
+        }
+
+        private long getValidatedAt() {
+            return validatedAt;
+        }
+    }
+}
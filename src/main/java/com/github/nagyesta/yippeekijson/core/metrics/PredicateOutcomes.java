@@ -0,0 +1,63 @@
+package com.github.nagyesta.yippeekijson.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the outcomes of the predicates evaluated by the rule executed on the current thread.
+ * The counters are only maintained between {@link #start()} and {@link #stop()}, the predicates
+ * evaluated outside of an observed rule execution are not counted at all.
+ */
+public final class PredicateOutcomes {
+
+    private static final ThreadLocal<PredicateOutcomes> ACTIVE = new ThreadLocal<>();
+    private long trueCount;
+    private long falseCount;
+
+    private PredicateOutcomes() {
+    }
+
+    /**
+     * Starts counting the predicate outcomes on the current thread.
+     *
+     * @return the counters collecting the outcomes until {@link #stop()} is called
+     */
+    @NotNull
+    public static PredicateOutcomes start() {
+        final PredicateOutcomes outcomes = new PredicateOutcomes();
+        ACTIVE.set(outcomes);
+        return outcomes;
+    }
+
+    /**
+     * Stops counting the predicate outcomes on the current thread.
+     */
+    public static void stop() {
+        ACTIVE.remove();
+    }
+
+    /**
+     * Records the outcome of a predicate evaluation if counting is active on the current thread.
+     *
+     * @param outcome The result of the predicate
+     * @return the outcome to allow wrapping the evaluation
+     */
+    public static boolean record(final boolean outcome) {
+        final PredicateOutcomes outcomes = ACTIVE.get();
+        if (outcomes != null) {
+            if (outcome) {
+                outcomes.trueCount++;
+            } else {
+                outcomes.falseCount++;
+            }
+        }
+        return outcome;
+    }
+
+    public long getTrueCount() {
+        return trueCount;
+    }
+
+    public long getFalseCount() {
+        return falseCount;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.nagyesta.yippeekijson.core.metrics;
+
+import com.github.nagyesta.yippeekijson.core.NamedComponentUtil;
+import com.github.nagyesta.yippeekijson.core.annotation.NamedRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Utility class resolving the names used for reporting the rules.
+ */
+public final class RuleNames {
+
+    private static final String FUSED = "fused";
+    private static final ConcurrentMap<Class<?>, String> RULE_NAMES = new ConcurrentHashMap<>();
+
+    private RuleNames() {
+    }
+
+    /**
+     * Returns the name of the rule as defined by the {@link NamedRule} annotation of its constructor.
+     * Rules created internally (without a {@link NamedRule} constructor) are named as fused rules.
+     *
+     * @param rule The rule
+     * @return the name of the rule
+     */
+    @NotNull
+    public static String of(@NotNull final JsonRule rule) {
+        return RULE_NAMES.computeIfAbsent(rule.getClass(), type -> NamedComponentUtil
+                .findAnnotatedConstructorOfNamedComponent(type, NamedRule.class)
+                .map(c -> c.getAnnotation(NamedRule.class).value())
+                .orElse(FUSED));
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.nagyesta.yippeekijson.core.metrics;
+
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Collects the runtime metrics of a transformation run and exports them when the run is completed.
+ */
+public interface RunMetrics {
+
+    /**
+     * Returns whether the metrics should be recorded at all. The callers can skip measuring the
+     * elapsed time when the metrics are disabled.
+     *
+     * @return true if recording is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Records a single execution of a rule on a document.
+     *
+     * @param action       The name of the action containing the rule
+     * @param rule         The rule we have executed
+     * @param elapsedNanos The time spent executing the rule
+     * @param visitedNodes The number of nodes matching the path of the rule (only counted for mapping rules)
+     * @param matchedNodes The number of visited nodes the rule replaced with a new value
+     * @param outcomes     The outcomes of the predicate evaluations of the rule
+     */
+    void recordRule(@NotNull String action, @NotNull JsonRule rule, long elapsedNanos, long visitedNodes, long matchedNodes,
+                    @NotNull PredicateOutcomes outcomes);
+
+    /**
+     * Records the parsing of a JSON document or array element.
+     *
+     * @param elapsedNanos The time spent parsing
+     */
+    void recordParse(long elapsedNanos);
+
+    /**
+     * Records the serialization of a JSON document or array element.
+     *
+     * @param elapsedNanos The time spent serializing
+     */
+    void recordSerialize(long elapsedNanos);
+
+    /**
+     * Records the result of processing a file pair.
+     *
+     * @param success      True if the file was transformed successfully
+     * @param bytesRead    The size of the input file
+     * @param bytesWritten The size of the output file
+     */
+    void recordFile(boolean success, long bytesRead, long bytesWritten);
+
+    /**
+     * Records an HTTP request sent by the HTTP client.
+     *
+     * @param success      True if the resource was fetched successfully
+     * @param elapsedNanos The latency of the request
+     */
+    void recordHttpFetch(boolean success, long elapsedNanos);
+
+    /**
+     * Discards the metrics recorded so far, e.g. when a new daemon job starts.
+     */
+    void reset();
+
+    /**
+     * Writes the recorded metrics using the Prometheus text exposition format.
+     * The file is replaced atomically to let the node_exporter textfile collector pick it up safely.
+     *
+     * @param file The target file
+     * @throws IOException When the file cannot be written.
+     */
+    void exportPrometheus(@NotNull File file) throws IOException;
+
+    /**
+     * Writes the recorded metrics as a JSON document.
+     *
+     * @param file The target file
+     * @throws IOException When the file cannot be written.
+     */
+    void exportJson(@NotNull File file) throws IOException;
+}
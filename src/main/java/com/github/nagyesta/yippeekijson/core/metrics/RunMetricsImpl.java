@@ -0,0 +1,306 @@
+package com.github.nagyesta.yippeekijson.core.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import lombok.NonNull;
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Default {@link RunMetrics} implementation keeping the counters in memory until the end of the run.
+ */
+@Injectable(forType = RunMetrics.class)
+public class RunMetricsImpl implements RunMetrics {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0D;
+    private static final double MILLIS_PER_SECOND = 1_000.0D;
+    private static final String PREFIX = "yippee_";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writerWithDefaultPrettyPrinter();
+    private final boolean enabled;
+    private final Clock clock;
+    private final ConcurrentMap<Map<String, String>, RuleMetrics> rules = new ConcurrentHashMap<>();
+    private final Timer parse = new Timer();
+    private final Timer serialize = new Timer();
+    private final Timer httpSuccess = new Timer();
+    private final Timer httpFailure = new Timer();
+    private final LongAdder filesSucceeded = new LongAdder();
+    private final LongAdder filesFailed = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public RunMetricsImpl(final boolean enabled) {
+        this(enabled, Clock.systemUTC());
+    }
+
+    RunMetricsImpl(final boolean enabled, @NotNull final Clock clock) {
+        this.enabled = enabled;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void recordRule(@NonNull final String action, @NonNull final JsonRule rule,
+                           final long elapsedNanos, final long visitedNodes, final long matchedNodes,
+                           @NonNull final PredicateOutcomes outcomes) {
+        final RuleMetrics metrics = rules.computeIfAbsent(RuleMetrics.labels(action, rule.getOrder(), RuleNames.of(rule)),
+                labels -> new RuleMetrics(action, rule.getOrder(), RuleNames.of(rule)));
+        metrics.timer.record(elapsedNanos);
+        metrics.visited.add(visitedNodes);
+        metrics.matched.add(matchedNodes);
+        metrics.predicateTrue.add(outcomes.getTrueCount());
+        metrics.predicateFalse.add(outcomes.getFalseCount());
+    }
+
+    @Override
+    public void recordParse(final long elapsedNanos) {
+        parse.record(elapsedNanos);
+    }
+
+    @Override
+    public void recordSerialize(final long elapsedNanos) {
+        serialize.record(elapsedNanos);
+    }
+
+    @Override
+    public void recordFile(final boolean success, final long read, final long written) {
+        if (success) {
+            filesSucceeded.increment();
+        } else {
+            filesFailed.increment();
+        }
+        bytesRead.add(read);
+        bytesWritten.add(written);
+    }
+
+    @Override
+    public void recordHttpFetch(final boolean success, final long elapsedNanos) {
+        if (success) {
+            httpSuccess.record(elapsedNanos);
+        } else {
+            httpFailure.record(elapsedNanos);
+        }
+    }
+
+    @Override
+    public void reset() {
+        rules.clear();
+        List.of(parse, serialize, httpSuccess, httpFailure).forEach(Timer::reset);
+        List.of(filesSucceeded, filesFailed, bytesRead, bytesWritten).forEach(LongAdder::reset);
+    }
+
+    @Override
+    public void exportPrometheus(@NonNull final File file) throws IOException {
+        writeAtomically(file, prometheusText());
+    }
+
+    @Override
+    public void exportJson(@NonNull final File file) throws IOException {
+        writeAtomically(file, JSON_WRITER.writeValueAsString(snapshot()) + "\n");
+    }
+
+    /**
+     * Formats the recorded metrics using the Prometheus text exposition format.
+     *
+     * @return the formatted metrics
+     */
+    @NotNull
+    public String prometheusText() {
+        final StringBuilder builder = new StringBuilder();
+        final List<RuleMetrics> ruleMetrics = sortedRules();
+        header(builder, "rule_executions_total", "counter", "Number of rule executions.");
+        ruleMetrics.forEach(r -> sample(builder, "rule_executions_total", r.labels(), r.timer.count.sum()));
+        header(builder, "rule_seconds_total", "counter", "Time spent executing the rule.");
+        ruleMetrics.forEach(r -> sample(builder, "rule_seconds_total", r.labels(), r.timer.seconds()));
+        header(builder, "rule_nodes_visited_total", "counter", "Nodes matching the path of the mapping rules.");
+        ruleMetrics.forEach(r -> sample(builder, "rule_nodes_visited_total", r.labels(), r.visited.sum()));
+        header(builder, "rule_nodes_matched_total", "counter", "Nodes replaced with a new value by the mapping rules.");
+        ruleMetrics.forEach(r -> sample(builder, "rule_nodes_matched_total", r.labels(), r.matched.sum()));
+        header(builder, "rule_predicate_outcomes_total", "counter", "Outcomes of the predicates evaluated by the rule.");
+        ruleMetrics.forEach(r -> {
+            sample(builder, "rule_predicate_outcomes_total", r.labels("true"), r.predicateTrue.sum());
+            sample(builder, "rule_predicate_outcomes_total", r.labels("false"), r.predicateFalse.sum());
+        });
+        timer(builder, "parse", "Number of parsed documents.", "Time spent parsing documents.", parse);
+        timer(builder, "serialize", "Number of serialized documents.", "Time spent serializing documents.", serialize);
+        header(builder, "files_total", "counter", "Number of processed files.");
+        sample(builder, "files_total", Map.of("result", "success"), filesSucceeded.sum());
+        sample(builder, "files_total", Map.of("result", "failure"), filesFailed.sum());
+        header(builder, "read_bytes_total", "counter", "Bytes read from the input files.");
+        sample(builder, "read_bytes_total", Map.of(), bytesRead.sum());
+        header(builder, "written_bytes_total", "counter", "Bytes written to the output files.");
+        sample(builder, "written_bytes_total", Map.of(), bytesWritten.sum());
+        header(builder, "http_fetch_total", "counter", "Number of HTTP requests.");
+        sample(builder, "http_fetch_total", Map.of("result", "success"), httpSuccess.count.sum());
+        sample(builder, "http_fetch_total", Map.of("result", "failure"), httpFailure.count.sum());
+        header(builder, "http_fetch_seconds_total", "counter", "Latency of the HTTP requests.");
+        sample(builder, "http_fetch_seconds_total", Map.of("result", "success"), httpSuccess.seconds());
+        sample(builder, "http_fetch_seconds_total", Map.of("result", "failure"), httpFailure.seconds());
+        header(builder, "last_run_timestamp_seconds", "gauge", "Completion time of the run.");
+        sample(builder, "last_run_timestamp_seconds", Map.of(), clock.millis() / MILLIS_PER_SECOND);
+        return builder.toString();
+    }
+
+    /**
+     * Creates a snapshot of the recorded metrics suitable for JSON serialization.
+     *
+     * @return the snapshot
+     */
+    @NotNull
+    public Map<String, Object> snapshot() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", clock.instant().toString());
+        result.put("rules", sortedRules().stream().map(RuleMetrics::toMap).collect(Collectors.toList()));
+        result.put("parse", parse.toMap());
+        result.put("serialize", serialize.toMap());
+        result.put("files", pair("success", filesSucceeded.sum(), "failure", filesFailed.sum()));
+        result.put("bytes", pair("read", bytesRead.sum(), "written", bytesWritten.sum()));
+        result.put("httpFetch", pair("success", httpSuccess.toMap(), "failure", httpFailure.toMap()));
+        return result;
+    }
+
+    private List<RuleMetrics> sortedRules() {
+        return rules.values().stream()
+                .sorted(Comparator.comparing((RuleMetrics r) -> r.action).thenComparingInt(r -> r.order).thenComparing(r -> r.name))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> pair(@NotNull final String firstKey, @NotNull final Object firstValue,
+                                            @NotNull final String secondKey, @NotNull final Object secondValue) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put(firstKey, firstValue);
+        result.put(secondKey, secondValue);
+        return result;
+    }
+
+    private static void timer(@NotNull final StringBuilder builder, @NotNull final String name,
+                              @NotNull final String countHelp, @NotNull final String secondsHelp,
+                              @NotNull final Timer timer) {
+        header(builder, name + "_total", "counter", countHelp);
+        sample(builder, name + "_total", Map.of(), timer.count.sum());
+        header(builder, name + "_seconds_total", "counter", secondsHelp);
+        sample(builder, name + "_seconds_total", Map.of(), timer.seconds());
+    }
+
+    private static void header(@NotNull final StringBuilder builder, @NotNull final String name,
+                               @NotNull final String type, @NotNull final String help) {
+        builder.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(@NotNull final StringBuilder builder, @NotNull final String name,
+                               @NotNull final Map<String, String> labels, final Number value) {
+        builder.append(PREFIX).append(name);
+        if (!labels.isEmpty()) {
+            builder.append(new TreeMap<>(labels).entrySet().stream()
+                    .map(e -> e.getKey() + "=\"" + escapeLabel(e.getValue()) + "\"")
+                    .collect(Collectors.joining(",", "{", "}")));
+        }
+        builder.append(' ').append(value).append('\n');
+    }
+
+    private static String escapeLabel(@NotNull final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static void writeAtomically(@NotNull final File file, @NotNull final String content) throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        FileUtils.forceMkdir(directory);
+        final Path temp = Files.createTempFile(directory.toPath(), file.getName(), TEMP_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(content);
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void record(final long elapsedNanos) {
+            count.increment();
+            nanos.add(elapsedNanos);
+        }
+
+        private void reset() {
+            count.reset();
+            nanos.reset();
+        }
+
+        private double seconds() {
+            return nanos.sum() / NANOS_PER_SECOND;
+        }
+
+        private Map<String, Object> toMap() {
+            return pair("count", count.sum(), "seconds", seconds());
+        }
+    }
+
+    private static final class RuleMetrics {
+        private final String action;
+        private final int order;
+        private final String name;
+        private final Timer timer = new Timer();
+        private final LongAdder visited = new LongAdder();
+        private final LongAdder matched = new LongAdder();
+        private final LongAdder predicateTrue = new LongAdder();
+        private final LongAdder predicateFalse = new LongAdder();
+
+        private RuleMetrics(@NotNull final String action, final int order, @NotNull final String name) {
+            this.action = action;
+            this.order = order;
+            this.name = name;
+        }
+
+        private static Map<String, String> labels(@NotNull final String action, final int order, @NotNull final String name) {
+            return Map.of("action", action, "order", String.valueOf(order), "rule", name);
+        }
+
+        private Map<String, String> labels() {
+            return labels(action, order, name);
+        }
+
+        private Map<String, String> labels(@NotNull final String outcome) {
+            final Map<String, String> result = new HashMap<>(labels());
+            result.put("outcome", outcome);
+            return result;
+        }
+
+        private Map<String, Object> toMap() {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            result.put("action", action);
+            result.put("order", order);
+            result.put("rule", name);
+            result.putAll(timer.toMap());
+            result.put("nodesVisited", visited.sum());
+            result.put("nodesMatched", matched.sum());
+            result.put("predicateTrue", predicateTrue.sum());
+            result.put("predicateFalse", predicateFalse.sum());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.nagyesta.yippeekijson.core.metrics.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event covering the transformation of a single input file.
+ */
+@Name(JfrEvents.PREFIX + "FileProcessing")
+@Label("File Processing")
+@Category(JfrEvents.CATEGORY)
+@Description("Transformation of a single input file into an output file.")
+@Registered(false)
+@StackTrace(false)
+public final class FileProcessingEvent extends Event {
+
+    @Label("Action")
+    private String action;
+    @Label("Input Path")
+    private String inputPath;
+    @Label("Output Path")
+    private String outputPath;
+    @Label("Input Size")
+    @DataAmount
+    private long inputSize;
+    @Label("Output Size")
+    @DataAmount
+    private long outputSize;
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Sets the fields of the event.
+     *
+     * @param action     The name of the action
+     * @param inputPath  The path of the input file
+     * @param outputPath The path of the output file
+     * @param inputSize  The size of the input file
+     * @param outputSize The size of the output file
+     * @param success    True if the file was transformed successfully
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public void set(final String action, final String inputPath, final String outputPath,
+                    final long inputSize, final long outputSize, final boolean success) {
+        this.action = action;
+        this.inputPath = inputPath;
+        this.outputPath = outputPath;
+        this.inputSize = inputSize;
+        this.outputSize = outputSize;
+        this.success = success;
+    }
+}
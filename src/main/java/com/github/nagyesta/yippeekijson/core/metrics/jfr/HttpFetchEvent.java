@@ -0,0 +1,41 @@
+package com.github.nagyesta.yippeekijson.core.metrics.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event covering a single HTTP request.
+ */
+@Name(JfrEvents.PREFIX + "HttpFetch")
+@Label("HTTP Fetch")
+@Category(JfrEvents.CATEGORY)
+@Description("HTTP request sent to fetch a remote resource.")
+@Registered(false)
+@StackTrace(false)
+public final class HttpFetchEvent extends Event {
+
+    @Label("URI")
+    private String uri;
+    @Label("Method")
+    private String method;
+    @Label("Status")
+    private int status;
+    @Label("Response Size")
+    @DataAmount
+    private long responseSize;
+
+    /**
+     * Sets the fields of the event.
+     *
+     * @param uri          The requested URI
+     * @param method       The HTTP method
+     * @param status       The status code of the response or 0 if there was no response
+     * @param responseSize The size of the response body
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public void set(final String uri, final String method, final int status, final long responseSize) {
+        this.uri = uri;
+        this.method = method;
+        this.status = status;
+        this.responseSize = responseSize;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.nagyesta.yippeekijson.core.metrics.jfr;
+
+import jdk.jfr.FlightRecorder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class for the custom JFR events. The events are not registered by default, therefore they are
+ * never recorded (and cost nothing) unless {@link #register()} is called.
+ */
+@Slf4j
+public final class JfrEvents {
+
+    /**
+     * The common prefix of the event names.
+     */
+    public static final String PREFIX = "com.github.nagyesta.yippeekijson.";
+    /**
+     * The category of the events.
+     */
+    public static final String CATEGORY = "Yippee-Ki-JSON";
+
+    private JfrEvents() {
+    }
+
+    /**
+     * Registers the custom events to let JDK Flight Recorder record them.
+     */
+    public static void register() {
+        FlightRecorder.register(FileProcessingEvent.class);
+        FlightRecorder.register(RuleApplicationEvent.class);
+        FlightRecorder.register(HttpFetchEvent.class);
+        log.info("Registered JFR events.");
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.nagyesta.yippeekijson.core.metrics.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event covering the application of a single rule on a document.
+ */
+@Name(JfrEvents.PREFIX + "RuleApplication")
+@Label("Rule Application")
+@Category(JfrEvents.CATEGORY)
+@Description("Application of a single rule on a JSON document or array element.")
+@Registered(false)
+@StackTrace(false)
+public final class RuleApplicationEvent extends Event {
+
+    @Label("Action")
+    private String action;
+    @Label("Rule Name")
+    private String ruleName;
+    @Label("Order")
+    private int order;
+    @Label("Path")
+    private String path;
+    @Label("Visited Nodes")
+    private long visitedNodes;
+    @Label("Matched Nodes")
+    private long matchedNodes;
+
+    /**
+     * Sets the fields of the event.
+     *
+     * @param action       The name of the action
+     * @param ruleName     The name of the rule
+     * @param order        The order of the rule
+     * @param path         The JSON Path of the rule
+     * @param visitedNodes The number of nodes matching the path (only counted for mapping rules)
+     * @param matchedNodes The number of nodes replaced with a new value
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public void set(final String action, final String ruleName, final int order, final String path,
+                    final long visitedNodes, final long matchedNodes) {
+        this.action = action;
+        this.ruleName = ruleName;
+        this.order = order;
+        this.path = path;
+        this.visitedNodes = visitedNodes;
+        this.matchedNodes = matchedNodes;
+    }
+}
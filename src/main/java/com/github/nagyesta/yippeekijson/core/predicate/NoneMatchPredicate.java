@@ -5,6 +5,7 @@ import com.github.nagyesta.yippeekijson.core.annotation.NamedPredicate;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawConfigParam;
 import com.github.nagyesta.yippeekijson.core.predicate.helper.CombiningPredicateSupport;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
 import com.github.nagyesta.yippeekijson.metadata.schema.WikiConstants;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.*;
 import org.jetbrains.annotations.NotNull;
@@ -46,13 +47,14 @@ public final class NoneMatchPredicate extends CombiningPredicateSupport {
     @NamedPredicate(NAME)
     public NoneMatchPredicate(@EmbedParam(PARAM_FROM)
                               @NotNull final Collection<Map<String, RawConfigParam>> fromPredicates,
-                              @NotNull final FunctionRegistry functionRegistry) {
-        super(fromPredicates, functionRegistry);
+                              @NotNull final FunctionRegistry functionRegistry,
+                              @NotNull final PredicateStatistics predicateStatistics) {
+        super(fromPredicates, functionRegistry, predicateStatistics);
     }
 
     @Override
     public boolean test(@Nullable final Object o) {
-        return getWrappedPredicates().stream().noneMatch(p -> p.test(o));
+        return !anyWrappedPredicateMatches(o);
     }
 
 }
@@ -49,6 +49,15 @@ public final class RegexPredicate implements Predicate<Object> {
         return (o instanceof String) && pattern.matcher((String) o).matches();
     }
 
+    /**
+     * Returns the compiled pattern used for matching.
+     *
+     * @return the pattern
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", RegexPredicate.class.getSimpleName() + "[", "]")
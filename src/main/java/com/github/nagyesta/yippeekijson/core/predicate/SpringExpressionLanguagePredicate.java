@@ -2,27 +2,44 @@ package com.github.nagyesta.yippeekijson.core.predicate;
 
 import com.github.nagyesta.yippeekijson.core.annotation.NamedPredicate;
 import com.github.nagyesta.yippeekijson.core.annotation.ValueParam;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.ObservedPredicate;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
 import com.github.nagyesta.yippeekijson.metadata.schema.WikiConstants;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.Example;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.SchemaDefinition;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.WikiLink;
 import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 /**
  * {@link Predicate} using SpEL to evaluate expressions on {@link Object} values.
+ * The expression is compiled to byte code by the SpEL compiler using the {@link SpelCompilerMode} provided by
+ * {@link PredicateStatistics}. The evaluation contexts are reused, each predicate has one context per thread allowing
+ * access to the values of {@link java.util.Map} instances (JSON objects) as properties. The variables assigned by the
+ * expression are removed before each evaluation, therefore they cannot leak between evaluations.
+ * The number of matching and not matching evaluations is reported at the end of the run.
  */
-public final class SpringExpressionLanguagePredicate implements Predicate<Object> {
+public final class SpringExpressionLanguagePredicate implements Predicate<Object>, ObservedPredicate {
 
     static final String NAME = "SpEL";
 
     private final SpelExpression expression;
+    private final ThreadLocal<ResettableEvaluationContext> contexts = ThreadLocal.withInitial(ResettableEvaluationContext::new);
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder notMatched = new LongAdder();
 
     @SchemaDefinition(
             inputType = Object.class,
@@ -42,9 +59,17 @@ public final class SpringExpressionLanguagePredicate implements Predicate<Object
     )
     @NamedPredicate(NAME)
     public SpringExpressionLanguagePredicate(@ValueParam(docs = "The SpEL expression we want to match.")
-                                             @NonNull final String expression) {
+                                             @NonNull final String expression,
+                                             @NonNull final PredicateStatistics predicateStatistics) {
+        this(expression, predicateStatistics.getSpelCompilerMode());
+        predicateStatistics.register(this);
+    }
+
+    public SpringExpressionLanguagePredicate(@NonNull final String expression,
+                                             @NonNull final SpelCompilerMode compilerMode) {
         try {
-            this.expression = new SpelExpressionParser().parseRaw(expression);
+            final SpelParserConfiguration configuration = new SpelParserConfiguration(compilerMode, getClass().getClassLoader());
+            this.expression = new SpelExpressionParser(configuration).parseRaw(expression);
         } catch (final Exception e) {
             throw new IllegalArgumentException("Invalid SpEL expression found: " + expression, e);
         }
@@ -53,17 +78,85 @@ public final class SpringExpressionLanguagePredicate implements Predicate<Object
     @Override
     public boolean test(@Nullable final Object o) {
         try {
-            final Boolean expressionValue = expression.getValue(new StandardEvaluationContext(o), Boolean.class);
-            return o != null && expressionValue != null && expressionValue;
+            final Boolean expressionValue = evaluate(o);
+            final boolean result = o != null && expressionValue != null && expressionValue;
+            if (result) {
+                matched.increment();
+            } else {
+                notMatched.increment();
+            }
+            return result;
         } catch (final Exception e) {
             throw new IllegalArgumentException(e.getMessage(), e);
         }
     }
 
+    private Boolean evaluate(@Nullable final Object o) {
+        final ResettableEvaluationContext context = contexts.get();
+        context.reset();
+        return expression.getValue(context, o, Boolean.class);
+    }
+
+    /**
+     * Returns the number of evaluations matching the expression.
+     *
+     * @return the number of matching evaluations
+     */
+    public long getMatched() {
+        return matched.sum();
+    }
+
+    /**
+     * Returns the number of evaluations not matching the expression (including the null values).
+     *
+     * @return the number of evaluations not matching
+     */
+    public long getNotMatched() {
+        return notMatched.sum();
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return getMatched() + getNotMatched() > 0;
+    }
+
+    @Override
+    @NotNull
+    public String describeStatistics() {
+        return this + " matched: " + getMatched() + ", not matched: " + getNotMatched();
+    }
+
+    @Override
+    public void reset() {
+        matched.reset();
+        notMatched.reset();
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", SpringExpressionLanguagePredicate.class.getSimpleName() + "[", "]")
                 .add("expression=" + expression.getExpressionString())
                 .toString();
     }
+
+    private static final class ResettableEvaluationContext extends StandardEvaluationContext {
+        private final Set<String> variableNames = new HashSet<>();
+
+        private ResettableEvaluationContext() {
+            addPropertyAccessor(new MapAccessor(false));
+        }
+
+        @Override
+        public void setVariable(@Nullable final String name, @Nullable final Object value) {
+            super.setVariable(name, value);
+            if (name != null) {
+                variableNames.add(name);
+            }
+        }
+
+        private void reset() {
+            variableNames.forEach(name -> super.setVariable(name, null));
+            variableNames.clear();
+        }
+    }
 }
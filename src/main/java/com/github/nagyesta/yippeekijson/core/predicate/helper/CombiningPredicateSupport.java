@@ -2,24 +2,187 @@ package com.github.nagyesta.yippeekijson.core.predicate.helper;
 
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawConfigParam;
+import com.github.nagyesta.yippeekijson.core.predicate.RegexPredicate;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * {@link Predicate} combining a collection of embedded predicates.
+ * When every embedded predicate is a {@link RegexPredicate}, their patterns are compiled into a single alternation
+ * as well, allowing {@link #anyWrappedPredicateMatches(Object)} to match each value only once.
+ * Otherwise, if adaptive ordering is enabled by {@link PredicateStatistics}, the cost and the outcome of each
+ * embedded predicate evaluation is recorded and the evaluation order is periodically changed to evaluate the cheap
+ * predicates which are most likely to short-circuit the evaluation first. As the embedded predicates are pure
+ * functions, the order does not change the result.
  */
-public abstract class CombiningPredicateSupport implements Predicate<Object> {
+@Slf4j
+public abstract class CombiningPredicateSupport implements Predicate<Object>, ObservedPredicate {
 
+    private static final Pattern NUMBERED_BACK_REFERENCE = Pattern.compile("\\\\[1-9]");
+    static final long REORDER_INTERVAL = 1024L;
     private final List<Predicate<Object>> wrappedPredicates;
+    private final Pattern combinedPattern;
+    private final ChildStatistics[] statistics;
+    private final AtomicLong evaluations = new AtomicLong();
+    private volatile int[] order;
 
     public CombiningPredicateSupport(@NonNull final Collection<Map<String, RawConfigParam>> fromPredicates,
-                                     @NonNull final FunctionRegistry functionRegistry) {
+                                     @NonNull final FunctionRegistry functionRegistry,
+                                     @NonNull final PredicateStatistics predicateStatistics) {
         wrappedPredicates = fromPredicates.stream()
                 .map(functionRegistry::lookupPredicate)
                 .collect(Collectors.toList());
+        combinedPattern = combineRegexPatterns(wrappedPredicates);
+        order = IntStream.range(0, wrappedPredicates.size()).toArray();
+        if (combinedPattern == null && wrappedPredicates.size() > 1 && predicateStatistics.isAdaptiveOrdering()) {
+            statistics = wrappedPredicates.stream().map(p -> new ChildStatistics()).toArray(ChildStatistics[]::new);
+            predicateStatistics.register(this);
+        } else {
+            statistics = null;
+        }
+    }
+
+    @Nullable
+    private static Pattern combineRegexPatterns(final List<Predicate<Object>> predicates) {
+        if (predicates.size() < 2 || !predicates.stream().allMatch(RegexPredicate.class::isInstance)) {
+            return null;
+        }
+        final List<String> patterns = predicates.stream()
+                .map(RegexPredicate.class::cast)
+                .map(RegexPredicate::getPattern)
+                .map(Pattern::pattern)
+                .collect(Collectors.toList());
+        if (patterns.stream().anyMatch(pattern -> NUMBERED_BACK_REFERENCE.matcher(pattern).find())) {
+            log.debug("Regex patterns are using numbered back references, they cannot be combined.");
+            return null;
+        }
+        try {
+            return Pattern.compile(patterns.stream().collect(Collectors.joining(")|(?:", "(?:", ")")));
+        } catch (final PatternSyntaxException e) {
+            log.debug("Regex patterns cannot be combined: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Evaluates whether any of the wrapped predicates matches the value. Uses the combined pattern if available.
+     *
+     * @param o The value we need to test
+     * @return true if at least one of the wrapped predicates matched
+     */
+    protected boolean anyWrappedPredicateMatches(@Nullable final Object o) {
+        if (combinedPattern != null) {
+            return (o instanceof String) && combinedPattern.matcher((String) o).matches();
+        }
+        if (statistics != null) {
+            return evaluateAdaptively(o, true);
+        }
+        return wrappedPredicates.stream().anyMatch(p -> p.test(o));
+    }
+
+    /**
+     * Evaluates whether all of the wrapped predicates match the value.
+     *
+     * @param o The value we need to test
+     * @return true if all of the wrapped predicates matched
+     */
+    protected boolean allWrappedPredicatesMatch(@Nullable final Object o) {
+        if (statistics != null) {
+            return !evaluateAdaptively(o, false);
+        }
+        return wrappedPredicates.stream().allMatch(p -> p.test(o));
+    }
+
+    /**
+     * Evaluates the wrapped predicates in the adaptive order until one of them returns the short-circuit value.
+     *
+     * @param o              The value we need to test
+     * @param shortCircuitOn The result which can short-circuit the evaluation
+     * @return true if the evaluation was short-circuited
+     */
+    private boolean evaluateAdaptively(@Nullable final Object o, final boolean shortCircuitOn) {
+        boolean shortCircuited = false;
+        for (final int index : order) {
+            final long start = System.nanoTime();
+            final boolean result = wrappedPredicates.get(index).test(o);
+            statistics[index].record(System.nanoTime() - start, result == shortCircuitOn);
+            if (result == shortCircuitOn) {
+                shortCircuited = true;
+                break;
+            }
+        }
+        if (evaluations.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return shortCircuited;
+    }
+
+    private synchronized void reorder() {
+        order = IntStream.range(0, statistics.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> statistics[i].score()).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Returns whether the predicate was evaluated using adaptive ordering at least once.
+     *
+     * @return true if statistics are available
+     */
+    @Override
+    public boolean isEvaluated() {
+        return statistics != null && evaluations.get() > 0;
+    }
+
+    /**
+     * Describes the observed statistics of the wrapped predicates in their current evaluation order.
+     *
+     * @return the statistics
+     */
+    @Override
+    @NotNull
+    public String describeStatistics() {
+        final StringJoiner joiner = new StringJoiner("\n", this.getClass().getSimpleName()
+                + " evaluations: " + evaluations.get() + "\n", "");
+        if (statistics != null) {
+            for (final int index : order) {
+                joiner.add(" - " + wrappedPredicates.get(index) + " " + statistics[index]);
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Discards the statistics of the wrapped predicates. The current evaluation order is kept until the
+     * next reordering.
+     */
+    @Override
+    public void reset() {
+        evaluations.set(0L);
+        if (statistics != null) {
+            Arrays.stream(statistics).forEach(ChildStatistics::reset);
+        }
+    }
+
+    /**
+     * Returns whether the wrapped predicates are evaluated using a single combined pattern.
+     *
+     * @return true if the patterns are combined
+     */
+    protected boolean isCombinedPattern() {
+        return combinedPattern != null;
     }
 
     /**
@@ -37,4 +200,39 @@ public abstract class CombiningPredicateSupport implements Predicate<Object> {
                 .add("wrappedPredicates=" + wrappedPredicates)
                 .toString();
     }
+
+    private static final class ChildStatistics {
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder shortCircuits = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void record(final long elapsedNanos, final boolean shortCircuit) {
+            evaluations.increment();
+            nanos.add(elapsedNanos);
+            if (shortCircuit) {
+                shortCircuits.increment();
+            }
+        }
+
+        private void reset() {
+            evaluations.reset();
+            shortCircuits.reset();
+            nanos.reset();
+        }
+
+        private double score() {
+            final long count = evaluations.sum();
+            final double probability = (shortCircuits.sum() + 1.0D) / (count + 2.0D);
+            final double averageNanos = (nanos.sum() + 1.0D) / (count + 1.0D);
+            return probability / averageNanos;
+        }
+
+        @Override
+        public String toString() {
+            final long count = evaluations.sum();
+            return "evaluations: " + count
+                    + ", short-circuits: " + shortCircuits.sum()
+                    + ", average nanos: " + nanos.sum() / Math.max(1L, count);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.github.nagyesta.yippeekijson.core.predicate.helper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Predicate collecting runtime statistics which are reported at the end of the run by {@link PredicateStatistics}.
+ */
+public interface ObservedPredicate {
+
+    /**
+     * Returns whether the predicate has statistics worth reporting.
+     *
+     * @return true if statistics are available
+     */
+    boolean isEvaluated();
+
+    /**
+     * Describes the observed statistics of the predicate.
+     *
+     * @return the statistics
+     */
+    @NotNull
+    String describeStatistics();
+
+    /**
+     * Discards the statistics observed so far.
+     */
+    void reset();
+}
@@ -0,0 +1,70 @@
+package com.github.nagyesta.yippeekijson.core.predicate.helper;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Collects the runtime statistics of the {@link ObservedPredicate} instances, e.g. the {@link CombiningPredicateSupport}
+ * instances using adaptive ordering.
+ */
+public interface PredicateStatistics {
+
+    /**
+     * Returns whether the combining predicates should reorder their wrapped predicates based on the observed
+     * cost and selectivity.
+     *
+     * @return true if adaptive ordering is enabled
+     */
+    boolean isAdaptiveOrdering();
+
+    /**
+     * Returns the compiler mode the SpEL predicates should use.
+     *
+     * @return the compiler mode
+     */
+    @NotNull
+    SpelCompilerMode getSpelCompilerMode();
+
+    /**
+     * Registers a predicate for reporting.
+     *
+     * @param predicate The predicate collecting statistics
+     */
+    void register(@NotNull ObservedPredicate predicate);
+
+    /**
+     * Starts collecting the predicates registered by the current thread, e.g. while a configuration is parsed.
+     */
+    void startCollectingRegistrations();
+
+    /**
+     * Stops collecting the predicates registered by the current thread.
+     *
+     * @return the predicates registered since {@link #startCollectingRegistrations()} was called
+     */
+    @NotNull
+    List<ObservedPredicate> stopCollectingRegistrations();
+
+    /**
+     * Removes the predicates from the reporting, e.g. when the configuration they were parsed from is discarded.
+     *
+     * @param predicates The predicates we no longer need to report
+     */
+    void unregister(@NotNull Collection<ObservedPredicate> predicates);
+
+    /**
+     * Discards the statistics observed by the registered predicates so far.
+     */
+    void reset();
+
+    /**
+     * Returns the statistics of every registered predicate which was evaluated at least once.
+     *
+     * @return the formatted statistics, one entry per predicate
+     */
+    @NotNull
+    List<String> summary();
+}
@@ -0,0 +1,85 @@
+package com.github.nagyesta.yippeekijson.core.predicate.helper;
+
+import com.github.nagyesta.yippeekijson.core.annotation.Injectable;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Default {@link PredicateStatistics} implementation keeping the registered predicates in memory.
+ */
+@Injectable(forType = PredicateStatistics.class)
+public class PredicateStatisticsImpl implements PredicateStatistics {
+
+    private final boolean adaptiveOrdering;
+    private final SpelCompilerMode spelCompilerMode;
+    private final List<ObservedPredicate> predicates = new ArrayList<>();
+    private final ThreadLocal<List<ObservedPredicate>> collected = new ThreadLocal<>();
+
+    public PredicateStatisticsImpl(final boolean adaptiveOrdering) {
+        this(adaptiveOrdering, SpelCompilerMode.MIXED);
+    }
+
+    public PredicateStatisticsImpl(final boolean adaptiveOrdering,
+                                   @NonNull final SpelCompilerMode spelCompilerMode) {
+        this.adaptiveOrdering = adaptiveOrdering;
+        this.spelCompilerMode = spelCompilerMode;
+    }
+
+    @Override
+    public boolean isAdaptiveOrdering() {
+        return adaptiveOrdering;
+    }
+
+    @Override
+    @NotNull
+    public SpelCompilerMode getSpelCompilerMode() {
+        return spelCompilerMode;
+    }
+
+    @Override
+    public synchronized void register(@NonNull final ObservedPredicate predicate) {
+        predicates.add(predicate);
+        final List<ObservedPredicate> registrations = collected.get();
+        if (registrations != null) {
+            registrations.add(predicate);
+        }
+    }
+
+    @Override
+    public void startCollectingRegistrations() {
+        collected.set(new ArrayList<>());
+    }
+
+    @Override
+    @NotNull
+    public List<ObservedPredicate> stopCollectingRegistrations() {
+        final List<ObservedPredicate> registrations = Objects.requireNonNullElse(collected.get(), List.of());
+        collected.remove();
+        return registrations;
+    }
+
+    @Override
+    public synchronized void unregister(@NonNull final Collection<ObservedPredicate> registered) {
+        final Set<ObservedPredicate> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(registered);
+        predicates.removeIf(removed::contains);
+    }
+
+    @Override
+    public synchronized void reset() {
+        predicates.forEach(ObservedPredicate::reset);
+    }
+
+    @Override
+    @NotNull
+    public synchronized List<String> summary() {
+        return predicates.stream()
+                .filter(ObservedPredicate::isEvaluated)
+                .map(ObservedPredicate::describeStatistics)
+                .collect(Collectors.toList());
+    }
+}
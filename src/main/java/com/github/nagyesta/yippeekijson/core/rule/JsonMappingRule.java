@@ -0,0 +1,10 @@
+package com.github.nagyesta.yippeekijson.core.rule;
+
+import com.jayway.jsonpath.MapFunction;
+
+/**
+ * Defines the behavior of {@link JsonRule} implementations replacing each value matching their path with a new
+ * value calculated only from the current one. These rules can share a single traversal of the document.
+ */
+public interface JsonMappingRule extends JsonRule, MapFunction {
+}
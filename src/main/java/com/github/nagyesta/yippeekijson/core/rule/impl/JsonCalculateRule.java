@@ -3,10 +3,13 @@ package com.github.nagyesta.yippeekijson.core.rule.impl;
 import com.github.nagyesta.yippeekijson.core.annotation.NamedRule;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawJsonRule;
+import com.github.nagyesta.yippeekijson.core.metrics.PredicateOutcomes;
 import com.github.nagyesta.yippeekijson.core.predicate.NotNullPredicate;
 import com.github.nagyesta.yippeekijson.core.rule.AbstractJsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonMappingRule;
 import com.github.nagyesta.yippeekijson.metadata.schema.WikiConstants;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.*;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +26,7 @@ import java.util.function.Predicate;
  * {@link String} representing a number) fields at a {@link JsonPath}, matching a {@link Predicate}.
  */
 @Slf4j
-public final class JsonCalculateRule extends AbstractJsonRule {
+public final class JsonCalculateRule extends AbstractJsonRule implements JsonMappingRule {
 
     static final String RULE_NAME = "calculate";
     static final String PARAM_PREDICATE = "predicate";
@@ -65,19 +68,22 @@ public final class JsonCalculateRule extends AbstractJsonRule {
 
     @Override
     public void accept(@NotNull final DocumentContext documentContext) {
-        documentContext.map(getJsonPath(), (currentValue, configuration) -> {
-            Optional<BigDecimal> number = convertToNumber(currentValue);
-            if (number.isPresent()) {
-                final BigDecimal bigDecimal = number.get();
-                if (predicate.test(bigDecimal)) {
-                    return numberFunction.apply(bigDecimal);
-                } else {
-                    log.info(String.format("Object at jsonPath: \"%s\", did not match predicate. Ignoring.",
-                            getJsonPath().getPath()));
-                }
+        documentContext.map(getJsonPath(), this);
+    }
+
+    @Override
+    public Object map(final Object currentValue, final Configuration configuration) {
+        Optional<BigDecimal> number = convertToNumber(currentValue);
+        if (number.isPresent()) {
+            final BigDecimal bigDecimal = number.get();
+            if (PredicateOutcomes.record(predicate.test(bigDecimal))) {
+                return numberFunction.apply(bigDecimal);
+            } else {
+                log.info(String.format("Object at jsonPath: \"%s\", did not match predicate. Ignoring.",
+                        getJsonPath().getPath()));
             }
-            return currentValue;
-        });
+        }
+        return currentValue;
     }
 
     private Optional<BigDecimal> convertToNumber(final Object currentValue) {
@@ -3,10 +3,13 @@ package com.github.nagyesta.yippeekijson.core.rule.impl;
 import com.github.nagyesta.yippeekijson.core.annotation.NamedRule;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawJsonRule;
+import com.github.nagyesta.yippeekijson.core.metrics.PredicateOutcomes;
 import com.github.nagyesta.yippeekijson.core.predicate.AnyStringPredicate;
 import com.github.nagyesta.yippeekijson.core.rule.AbstractJsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonMappingRule;
 import com.github.nagyesta.yippeekijson.metadata.schema.WikiConstants;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.*;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +22,7 @@ import java.util.function.Predicate;
  * A simple rule to replace {@link String} valued fields at a {@link JsonPath}, matching a {@link Predicate}.
  */
 @Slf4j
-public final class JsonReplaceRule extends AbstractJsonRule {
+public final class JsonReplaceRule extends AbstractJsonRule implements JsonMappingRule {
 
     static final String RULE_NAME = "replace";
     static final String PARAM_PREDICATE = "predicate";
@@ -60,20 +63,23 @@ public final class JsonReplaceRule extends AbstractJsonRule {
 
     @Override
     public void accept(@NotNull final DocumentContext documentContext) {
-        documentContext.map(getJsonPath(), (currentValue, configuration) -> {
-            if (currentValue instanceof String) {
-                if (predicate.test(currentValue)) {
-                    return stringFunction.apply((String) currentValue);
-                } else {
-                    log.info(String.format("Object at jsonPath: \"%s\", did not match predicate. Ignoring.",
-                            getJsonPath().getPath()));
-                }
+        documentContext.map(getJsonPath(), this);
+    }
+
+    @Override
+    public Object map(final Object currentValue, final Configuration configuration) {
+        if (currentValue instanceof String) {
+            if (PredicateOutcomes.record(predicate.test(currentValue))) {
+                return stringFunction.apply((String) currentValue);
             } else {
-                log.error(String.format("Attempted String replace on jsonPath: \"%s\", found value: \"%s\". Ignoring.",
-                        getJsonPath().getPath(), currentValue));
+                log.info(String.format("Object at jsonPath: \"%s\", did not match predicate. Ignoring.",
+                        getJsonPath().getPath()));
             }
-            return currentValue;
-        });
+        } else {
+            log.error(String.format("Attempted String replace on jsonPath: \"%s\", found value: \"%s\". Ignoring.",
+                    getJsonPath().getPath(), currentValue));
+        }
+        return currentValue;
     }
 
     @Override
@@ -0,0 +1,110 @@
+package com.github.nagyesta.yippeekijson.core.rule.impl.helper;
+
+import com.github.nagyesta.yippeekijson.core.rule.AbstractJsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonMappingRule;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Rule applying several {@link JsonMappingRule} instances during a single traversal of the document.
+ * Each fused rule is either operating on the nodes matching the path of this rule, or on a named property of them.
+ * The fused rules are applied node by node in their original order. When metrics or JFR events are recorded,
+ * the fused rules are applied one by one instead, so each of them is reported separately.
+ */
+public final class FusedMappingRule extends AbstractJsonRule implements JsonMappingRule {
+
+    private final List<Part> parts;
+
+    private FusedMappingRule(@NotNull final JsonPath jsonPath, @NotNull final List<Part> parts) {
+        super(parts.get(0).rule.getOrder(), jsonPath);
+        this.parts = List.copyOf(parts);
+    }
+
+    public static FusedMappingRuleBuilder builder(@NonNull final JsonPath jsonPath) {
+        return new FusedMappingRuleBuilder(jsonPath);
+    }
+
+    /**
+     * Returns the rules fused into this one in their original order.
+     *
+     * @return the fused rules
+     */
+    public List<JsonMappingRule> getRules() {
+        return parts.stream().map(part -> part.rule).collect(Collectors.toList());
+    }
+
+    @Override
+    public void accept(@NotNull final DocumentContext documentContext) {
+        documentContext.map(getJsonPath(), this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object map(final Object currentValue, final Configuration configuration) {
+        Object value = currentValue;
+        for (final Part part : parts) {
+            if (part.property == null) {
+                value = part.rule.map(value, configuration);
+            } else if (value instanceof Map && ((Map<String, Object>) value).containsKey(part.property)) {
+                final Map<String, Object> map = (Map<String, Object>) value;
+                map.put(part.property, part.rule.map(map.get(part.property), configuration));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRule['fused']"
+                + "\n\t\torder: " + getOrder()
+                + "\n\t\tpath: '" + getJsonPath().getPath() + "'"
+                + "\n\t\trules: " + parts.stream().map(part -> part.rule.toString()).collect(Collectors.joining("\t"))
+                + "\n";
+    }
+
+    private static final class Part {
+        private final String property;
+        private final JsonMappingRule rule;
+
+        private Part(@Nullable final String property, @NotNull final JsonMappingRule rule) {
+            this.property = property;
+            this.rule = rule;
+        }
+    }
+
+    @SuppressWarnings({"UnusedReturnValue", "checkstyle:HiddenField", "checkstyle:DesignForExtension"})
+    public static class FusedMappingRuleBuilder {
+        private final JsonPath jsonPath;
+        private final List<Part> parts = new ArrayList<>();
+
+        FusedMappingRuleBuilder(@NotNull final JsonPath jsonPath) {
+            this.jsonPath = jsonPath;
+        }
+
+        public FusedMappingRuleBuilder addRule(@NonNull final JsonMappingRule rule) {
+            this.parts.add(new Part(null, rule));
+            return this;
+        }
+
+        public FusedMappingRuleBuilder addPropertyRule(@NonNull final String property, @NonNull final JsonMappingRule rule) {
+            this.parts.add(new Part(property, rule));
+            return this;
+        }
+
+        public FusedMappingRule build() {
+            if (parts.isEmpty()) {
+                throw new IllegalStateException("At least one rule must be fused.");
+            }
+            return new FusedMappingRule(jsonPath, parts);
+        }
+    }
+}
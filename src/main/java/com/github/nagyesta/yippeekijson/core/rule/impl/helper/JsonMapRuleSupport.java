@@ -3,6 +3,7 @@ package com.github.nagyesta.yippeekijson.core.rule.impl.helper;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawJsonRule;
+import com.github.nagyesta.yippeekijson.core.metrics.PredicateOutcomes;
 import com.github.nagyesta.yippeekijson.core.predicate.NotNullPredicate;
 import com.github.nagyesta.yippeekijson.core.rule.AbstractJsonRule;
 import com.jayway.jsonpath.DocumentContext;
@@ -73,7 +74,7 @@ public abstract class JsonMapRuleSupport extends AbstractJsonRule {
         try {
             final Map<String, Object> map = jsonMapper.mapTo(currentValue, JsonMapper.MapTypeRef.INSTANCE);
             Map<String, Object> result = map;
-            if (predicate.test(map)) {
+            if (PredicateOutcomes.record(predicate.test(map))) {
                 result = applyChanges(map);
             }
             return result;
@@ -1,5 +1,6 @@
 package com.github.nagyesta.yippeekijson.core.supplier;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.nagyesta.yippeekijson.core.annotation.EmbedParam;
@@ -28,6 +29,7 @@ public class JsonSchemaSupplier implements Supplier<JsonSchema> {
 
     private final Supplier<String> sourceSupplier;
     private final JsonMapper jsonMapper;
+    private volatile CompiledSchema compiledSchema;
 
     @SchemaDefinition(
             outputType = JsonSchema.class,
@@ -57,24 +59,45 @@ public class JsonSchemaSupplier implements Supplier<JsonSchema> {
 
     @Override
     public JsonSchema get() {
-        final ObjectMapper objectMapper = jsonMapper.objectMapper();
         try {
-            final JsonNode schemaNode = objectMapper.readTree(sourceSupplier.get());
-            JsonSchemaFactory factory = JsonSchemaFactory
-                    .builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7))
-                    .objectMapper(objectMapper)
-                    .build();
-            return factory.getSchema(schemaNode);
+            final String source = sourceSupplier.get();
+            final CompiledSchema cached = compiledSchema;
+            if (cached != null && cached.source.equals(source)) {
+                return cached.schema;
+            }
+            final JsonSchema schema = compile(source);
+            compiledSchema = new CompiledSchema(source, schema);
+            return schema;
         } catch (final Exception e) {
             log.error("Failed to supply schema: " + e.getMessage(), e);
             throw new AbortTransformationException("Failed to supply schema: " + e.getMessage());
         }
     }
 
+    private JsonSchema compile(final String source) throws JsonProcessingException {
+        final ObjectMapper objectMapper = jsonMapper.objectMapper();
+        final JsonNode schemaNode = objectMapper.readTree(source);
+        JsonSchemaFactory factory = JsonSchemaFactory
+                .builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7))
+                .objectMapper(objectMapper)
+                .build();
+        return factory.getSchema(schemaNode);
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", JsonSchemaSupplier.class.getSimpleName() + "[", "]")
                 .add("sourceSupplier=" + sourceSupplier)
                 .toString();
     }
+
+    private static final class CompiledSchema {
+        private final String source;
+        private final JsonSchema schema;
+
+        private CompiledSchema(final String source, final JsonSchema schema) {
+            this.source = source;
+            this.schema = schema;
+        }
+    }
 }
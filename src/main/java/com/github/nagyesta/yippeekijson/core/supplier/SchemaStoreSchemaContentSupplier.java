@@ -4,8 +4,8 @@ import com.github.nagyesta.yippeekijson.core.annotation.NamedSupplier;
 import com.github.nagyesta.yippeekijson.core.annotation.ValueParam;
 import com.github.nagyesta.yippeekijson.core.config.entities.SchemaStoreConfig;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
-import com.github.nagyesta.yippeekijson.core.http.HttpClient;
 import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.ResourceCache;
 import com.github.nagyesta.yippeekijson.metadata.schema.WikiConstants;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.Example;
 import com.github.nagyesta.yippeekijson.metadata.schema.annotation.SchemaDefinition;
@@ -32,8 +32,9 @@ public class SchemaStoreSchemaContentSupplier implements Supplier<String> {
 
     private final JsonMapper jsonMapper;
     private final String schemaName;
-    private final HttpClient httpClient;
+    private final ResourceCache resourceCache;
     private final SchemaStoreConfig schemaStoreConfig;
+    private volatile ParsedCatalog parsedCatalog;
 
     @SchemaDefinition(
             outputType = String.class,
@@ -52,12 +53,12 @@ public class SchemaStoreSchemaContentSupplier implements Supplier<String> {
     @NamedSupplier(NAME)
     public SchemaStoreSchemaContentSupplier(@ValueParam(docs = "The name of the JSON schema as found in the SchemaStore.org catalog.")
                                             @NonNull final String schemaName,
-                                            @NonNull final HttpClient httpClient,
+                                            @NonNull final ResourceCache resourceCache,
                                             @NonNull final JsonMapper jsonMapper,
                                             @NonNull final SchemaStoreConfig schemaStoreConfig) {
         this.jsonMapper = jsonMapper;
         this.schemaName = schemaName;
-        this.httpClient = httpClient;
+        this.resourceCache = resourceCache;
         this.schemaStoreConfig = schemaStoreConfig;
     }
 
@@ -69,7 +70,7 @@ public class SchemaStoreSchemaContentSupplier implements Supplier<String> {
                 .uri(uri.get().toString())
                 .addHeader(ACCEPT, MimeTypeUtils.ALL_VALUE)
                 .build();
-        return httpClient.fetch(requestContext);
+        return resourceCache.fetch(requestContext);
     }
 
     private Map<String, URI> fetchDescriptor() {
@@ -77,7 +78,17 @@ public class SchemaStoreSchemaContentSupplier implements Supplier<String> {
                 .uri(schemaStoreConfig.getCatalogUri())
                 .addHeader(ACCEPT, MimeTypeUtils.ALL_VALUE)
                 .build();
-        final String schemaStoreCatalog = httpClient.fetch(requestContext);
+        final String schemaStoreCatalog = resourceCache.fetch(requestContext);
+        final ParsedCatalog cached = parsedCatalog;
+        if (cached != null && cached.source.equals(schemaStoreCatalog)) {
+            return cached.catalog;
+        }
+        final Map<String, URI> schemaCatalog = parseDescriptor(schemaStoreCatalog);
+        parsedCatalog = new ParsedCatalog(schemaStoreCatalog, schemaCatalog);
+        return schemaCatalog;
+    }
+
+    private Map<String, URI> parseDescriptor(final String schemaStoreCatalog) {
         Map<String, URI> schemaCatalog = new HashMap<>();
         try {
             final List<Object> result = JsonPath.parse(schemaStoreCatalog,
@@ -95,7 +106,7 @@ public class SchemaStoreSchemaContentSupplier implements Supplier<String> {
         } catch (final Exception e) {
             log.error(e.getMessage(), e);
         }
-        return schemaCatalog;
+        return Collections.unmodifiableMap(schemaCatalog);
     }
 
     @NotNull
@@ -112,4 +123,14 @@ public class SchemaStoreSchemaContentSupplier implements Supplier<String> {
                 .add("schemaName='" + schemaName + "'")
                 .toString();
     }
+
+    private static final class ParsedCatalog {
+        private final String source;
+        private final Map<String, URI> catalog;
+
+        private ParsedCatalog(final String source, final Map<String, URI> catalog) {
+            this.source = source;
+            this.catalog = catalog;
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.github.nagyesta.yippeekijson.core.config.parser.impl;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonActions;
+import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.ObservedPredicate;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatisticsImpl;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class CachingActionConfigParserTest {
+
+    private static final String CONFIG = "actions:";
+    private static final String CHANGED_CONFIG = "actions: []";
+    private static final long ONE_MINUTE = 60_000L;
+    private static final String ORIGINAL = "original";
+    private static final String CHANGED = "changed";
+
+    @Test
+    void testParseShouldReuseActionsWhenFileIsUnchanged() throws IOException, ConfigParseException {
+        //given
+        final File config = Files.createTempFile("yippee-caching", ".yml").toFile();
+        FileUtils.write(config, CONFIG, StandardCharsets.UTF_8);
+        final ActionConfigParser delegate = mock(ActionConfigParser.class);
+        when(delegate.parse(any(File.class), anyBoolean())).thenReturn(JsonActions.builder().build());
+        final CachingActionConfigParser underTest = new CachingActionConfigParser(delegate, new PredicateStatisticsImpl(false));
+
+        //when
+        final JsonActions first = underTest.parse(config, false);
+        final JsonActions second = underTest.parse(config, false);
+
+        //then
+        Assertions.assertSame(first, second);
+        verify(delegate).parse(config, false);
+        verifyNoMoreInteractions(delegate);
+        FileUtils.deleteQuietly(config);
+    }
+
+    @Test
+    void testParseShouldParseAgainWhenFileOrFlagIsChanged() throws IOException, ConfigParseException {
+        //given
+        final File config = Files.createTempFile("yippee-caching", ".yml").toFile();
+        FileUtils.write(config, CONFIG, StandardCharsets.UTF_8);
+        final ActionConfigParser delegate = mock(ActionConfigParser.class);
+        when(delegate.parse(any(File.class), anyBoolean()))
+                .thenReturn(JsonActions.builder().build(), JsonActions.builder().build(), JsonActions.builder().build());
+        final CachingActionConfigParser underTest = new CachingActionConfigParser(delegate, new PredicateStatisticsImpl(false));
+        final JsonActions original = underTest.parse(config, false);
+
+        //when
+        final JsonActions relaxed = underTest.parse(config, true);
+        FileUtils.write(config, CHANGED_CONFIG, StandardCharsets.UTF_8);
+        Assertions.assertTrue(config.setLastModified(config.lastModified() + ONE_MINUTE));
+        final JsonActions changed = underTest.parse(config, false);
+
+        //then
+        Assertions.assertNotSame(original, relaxed);
+        Assertions.assertNotSame(original, changed);
+        verify(delegate, times(2)).parse(config, false);
+        verify(delegate).parse(config, true);
+        FileUtils.deleteQuietly(config);
+    }
+
+    @Test
+    void testParseShouldUnregisterPredicatesOfReplacedActionsWhenFileIsChanged() throws IOException, ConfigParseException {
+        //given
+        final File config = Files.createTempFile("yippee-caching", ".yml").toFile();
+        FileUtils.write(config, CONFIG, StandardCharsets.UTF_8);
+        final PredicateStatistics predicateStatistics = new PredicateStatisticsImpl(false);
+        final ObservedPredicate original = observedPredicate(ORIGINAL);
+        final ObservedPredicate changed = observedPredicate(CHANGED);
+        final ActionConfigParser delegate = mock(ActionConfigParser.class);
+        when(delegate.parse(any(File.class), anyBoolean()))
+                .thenAnswer(invocation -> registerAndReturn(predicateStatistics, original))
+                .thenAnswer(invocation -> registerAndReturn(predicateStatistics, changed));
+        final CachingActionConfigParser underTest = new CachingActionConfigParser(delegate, predicateStatistics);
+        underTest.parse(config, false);
+        final List<String> before = predicateStatistics.summary();
+
+        //when
+        FileUtils.write(config, CHANGED_CONFIG, StandardCharsets.UTF_8);
+        Assertions.assertTrue(config.setLastModified(config.lastModified() + ONE_MINUTE));
+        underTest.parse(config, false);
+
+        //then
+        Assertions.assertEquals(List.of(ORIGINAL), before);
+        Assertions.assertEquals(List.of(CHANGED), predicateStatistics.summary());
+        FileUtils.deleteQuietly(config);
+    }
+
+    @Test
+    void testParseShouldAlwaysDelegateWhenCalledWithStream() throws ConfigParseException {
+        //given
+        final InputStream stream = new ByteArrayInputStream(CONFIG.getBytes(StandardCharsets.UTF_8));
+        final ActionConfigParser delegate = mock(ActionConfigParser.class);
+        final CachingActionConfigParser underTest = new CachingActionConfigParser(delegate, new PredicateStatisticsImpl(false));
+
+        //when
+        underTest.parse(stream, false);
+        underTest.parse(stream, false);
+
+        //then
+        verify(delegate, times(2)).parse(same(stream), eq(false));
+    }
+
+    private static ObservedPredicate observedPredicate(final String statistics) {
+        final ObservedPredicate predicate = mock(ObservedPredicate.class);
+        when(predicate.isEvaluated()).thenReturn(true);
+        when(predicate.describeStatistics()).thenReturn(statistics);
+        return predicate;
+    }
+
+    private static JsonActions registerAndReturn(final PredicateStatistics predicateStatistics, final ObservedPredicate predicate) {
+        predicateStatistics.register(predicate);
+        return JsonActions.builder().build();
+    }
+}
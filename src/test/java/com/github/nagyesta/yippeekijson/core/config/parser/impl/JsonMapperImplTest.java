@@ -1,16 +1,24 @@
 package com.github.nagyesta.yippeekijson.core.config.parser.impl;
 
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.TypeRef;
 import com.jayway.jsonpath.spi.mapper.MappingException;
 import org.jetbrains.annotations.TestOnly;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @LaunchAbortArmed
@@ -18,6 +26,7 @@ class JsonMapperImplTest {
 
     private static final String KEY = "key";
     private static final String VALUE = "value";
+    private static final int PARALLEL_CALLS = 1000;
 
     private static Object getObjectWithKeyField() {
         return new Object() {
@@ -67,4 +76,41 @@ class JsonMapperImplTest {
         //when + then exception
         Assertions.assertThrows(expected, () -> underTest.mapTo(input, typeRef));
     }
+
+    @Test
+    void testParserConfigurationAndObjectMapperShouldReturnSharedInstancesWhenCalledRepeatedly() {
+        //given
+        final JsonMapper underTest = new JsonMapperImpl();
+
+        //when
+        final Configuration firstConfiguration = underTest.parserConfiguration();
+        final Configuration secondConfiguration = underTest.parserConfiguration();
+        final ObjectMapper firstMapper = underTest.objectMapper();
+        final ObjectMapper secondMapper = underTest.objectMapper();
+
+        //then
+        Assertions.assertSame(firstConfiguration, secondConfiguration);
+        Assertions.assertSame(firstMapper, secondMapper);
+        Assertions.assertTrue(firstMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        Assertions.assertTrue(firstMapper.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS));
+        Assertions.assertFalse(firstMapper.isEnabled(SerializationFeature.FAIL_ON_EMPTY_BEANS));
+    }
+
+    @Test
+    void testMapToShouldMapConcurrentlyWhenCalledFromMultipleThreads() {
+        //given
+        final JsonMapper underTest = new JsonMapperImpl();
+
+        //when
+        final List<Map<String, Object>> actual = IntStream.range(0, PARALLEL_CALLS)
+                .parallel()
+                .mapToObj(i -> underTest.mapTo(Map.of(KEY, VALUE + i), JsonMapper.MapTypeRef.INSTANCE))
+                .collect(Collectors.toList());
+
+        //then
+        Assertions.assertEquals(PARALLEL_CALLS, actual.size());
+        for (int i = 0; i < PARALLEL_CALLS; i++) {
+            Assertions.assertEquals(Map.of(KEY, VALUE + i), actual.get(i));
+        }
+    }
 }
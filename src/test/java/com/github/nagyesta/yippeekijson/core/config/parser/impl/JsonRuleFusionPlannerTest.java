@@ -0,0 +1,117 @@
+package com.github.nagyesta.yippeekijson.core.config.parser.impl;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.rule.JsonMappingRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.impl.helper.FusedMappingRule;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.github.nagyesta.yippeekijson.test.helper.JsonTestUtil.jsonUtil;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class JsonRuleFusionPlannerTest {
+
+    private static final String ITEMS_NAME = "$.items[*].name";
+    private static final String ITEMS_EMAIL = "$.items[*].email";
+    private static final String SUFFIX = "-x";
+    private static final String INPUT = "{\"items\":[{\"name\":\"a\",\"email\":\"b\"},{\"name\":\"c\"},[1]],\"name\":\"d\"}";
+    private static final String EXPECTED = "{\"items\":[{\"name\":\"a-x-x\",\"email\":\"b-x\"},{\"name\":\"c-x-x\"},[1]],\"name\":\"d\"}";
+
+    private static Stream<Arguments> notFusedProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(List.of(ITEMS_NAME, "$.name")))
+                .add(Arguments.of(List.of("$.items[0].name", "$.items[0].email")))
+                .add(Arguments.of(List.of("$.items[?(@.id == 1)].name", "$.items[?(@.id == 2)].name")))
+                .add(Arguments.of(List.of("$..name", "$..email")))
+                .add(Arguments.of(List.of(ITEMS_NAME)))
+                .build();
+    }
+
+    private static JsonMappingRule mappingRule(final String path, final int order) {
+        final JsonMappingRule rule = mock(JsonMappingRule.class);
+        when(rule.getJsonPath()).thenReturn(JsonPath.compile(path));
+        when(rule.getOrder()).thenReturn(order);
+        when(rule.map(any(), any())).thenAnswer(invocation -> invocation.getArgument(0) + SUFFIX);
+        doAnswer(invocation -> invocation.<DocumentContext>getArgument(0).map(path, rule)).when(rule).accept(any());
+        return rule;
+    }
+
+    @Test
+    void testPlanShouldFuseConsecutiveMappingRulesOfTheSameNodesKeepingTheirOrder() {
+        //given
+        final JsonMappingRule first = mappingRule(ITEMS_NAME, 0);
+        final JsonMappingRule second = mappingRule(ITEMS_EMAIL, 1);
+        final JsonMappingRule third = mappingRule(ITEMS_NAME, 2);
+        final DocumentContext documentContext = jsonUtil().readAsDocumentContext(INPUT);
+
+        //when
+        final List<JsonRule> actual = JsonRuleFusionPlanner.plan(List.of(first, second, third));
+
+        //then
+        Assertions.assertEquals(1, actual.size());
+        final FusedMappingRule fused = (FusedMappingRule) actual.get(0);
+        Assertions.assertEquals(List.of(first, second, third), fused.getRules());
+        Assertions.assertEquals(0, fused.getOrder());
+        fused.accept(documentContext);
+        Assertions.assertEquals(jsonUtil().readAsDocumentContext(EXPECTED).jsonString(), documentContext.jsonString());
+        verify(first, never()).accept(any());
+    }
+
+    @Test
+    void testPlanShouldNotFuseRulesAcrossOtherRules() {
+        //given
+        final JsonMappingRule first = mappingRule(ITEMS_NAME, 0);
+        final JsonRule barrier = mock(JsonRule.class);
+        final JsonMappingRule second = mappingRule(ITEMS_EMAIL, 2);
+
+        //when
+        final List<JsonRule> actual = JsonRuleFusionPlanner.plan(List.of(first, barrier, second));
+
+        //then
+        Assertions.assertEquals(List.of(first, barrier, second), actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("notFusedProvider")
+    void testPlanShouldNotFuseRulesWhenPathsDoNotShareTheTraversal(final List<String> paths) {
+        //given
+        final List<JsonRule> rules = paths.stream()
+                .map(path -> (JsonRule) mappingRule(path, paths.indexOf(path)))
+                .toList();
+
+        //when
+        final List<JsonRule> actual = JsonRuleFusionPlanner.plan(rules);
+
+        //then
+        Assertions.assertEquals(rules, actual);
+    }
+
+    @Test
+    void testPlanShouldFuseRulesWhenPathsAreTheSame() {
+        //given
+        final JsonMappingRule first = mappingRule("$.name", 0);
+        final JsonMappingRule second = mappingRule("$['name']", 1);
+        final DocumentContext documentContext = jsonUtil().readAsDocumentContext(INPUT);
+
+        //when
+        final List<JsonRule> actual = JsonRuleFusionPlanner.plan(List.of(first, second));
+
+        //then
+        Assertions.assertEquals(1, actual.size());
+        actual.get(0).accept(documentContext);
+        Assertions.assertEquals("d-x-x", documentContext.read("$.name"));
+        Assertions.assertEquals(Map.of("name", "a", "email", "b"), documentContext.read("$.items[0]"));
+    }
+}
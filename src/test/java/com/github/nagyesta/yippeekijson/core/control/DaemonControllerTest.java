@@ -0,0 +1,223 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
+import com.github.nagyesta.yippeekijson.core.exception.ConfigValidationException;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class DaemonControllerTest {
+
+    private static final String JOB = "{\"action\":\"filter\",\"input\":\"in.json\",\"includes\":[\"*.json\",\"*.txt\"]}";
+    private static final String TOKEN_FILE = "daemon.token";
+    private static final List<String> SHARED_OPTIONS = List.of("metrics-json-file", "metricsPrometheusFile",
+            "adaptive-predicates", "spel-compiler-mode", "additional.http.user-agent", "unknown");
+    private static final String APPLICATION_JSON = "application/json";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_UNPROCESSABLE = 422;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTransformShouldProcessJobWhenValidJobIsPosted()
+            throws IOException, InterruptedException, ConfigValidationException, ConfigParseException {
+        //given
+        final ApplicationController jobController = mock(ApplicationController.class);
+        final Function<Map<String, String>, RunConfig> factory = mock(Function.class);
+        final RunConfig runConfig = RunConfig.builder().build();
+        when(factory.apply(anyMap())).thenReturn(runConfig);
+        final DaemonController underTest = new DaemonController(jobController, factory, mock(Validator.class));
+        final File tokenFile = tempDir.resolve(TOKEN_FILE).toFile();
+        final HttpServer server = underTest.start(0, 1, tokenFile);
+
+        //when
+        final HttpResponse<String> actual = send(server, DaemonController.TRANSFORM_PATH, JOB,
+                DaemonController.TOKEN_HEADER, token(tokenFile), "Content-Type", APPLICATION_JSON + "; charset=UTF-8");
+
+        //then
+        underTest.stop(server);
+        Assertions.assertEquals(STATUS_OK, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("SUCCESS"));
+        final ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(factory).apply(captor.capture());
+        Assertions.assertEquals(Map.of(
+                "yippee.action", "filter",
+                "yippee.input", "in.json",
+                "yippee.includes[0]", "*.json",
+                "yippee.includes[1]", "*.txt",
+                "yippee.daemon-port", "0",
+                "yippee.watch", "false"), captor.getValue());
+        verify(jobController).process(same(runConfig));
+        Assertions.assertFalse(tokenFile.exists());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStartShouldWriteTokenReadableOnlyByOwnerWhenCalled() throws IOException {
+        //given
+        final DaemonController underTest = new DaemonController(mock(ApplicationController.class),
+                mock(Function.class), mock(Validator.class));
+        final File tokenFile = tempDir.resolve(TOKEN_FILE).toFile();
+
+        //when
+        final HttpServer server = underTest.start(0, 1, tokenFile);
+
+        //then
+        final String token = token(tokenFile);
+        final Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(tokenFile.toPath());
+        underTest.stop(server);
+        Assertions.assertFalse(token.isBlank());
+        Assertions.assertEquals(Set.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE), permissions);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTransformShouldRejectRequestsWhenTheyAreNotAuthenticatedOrNotJson()
+            throws IOException, InterruptedException {
+        //given
+        final ApplicationController jobController = mock(ApplicationController.class);
+        final Function<Map<String, String>, RunConfig> factory = mock(Function.class);
+        final DaemonController underTest = new DaemonController(jobController, factory, mock(Validator.class));
+        final File tokenFile = tempDir.resolve(TOKEN_FILE).toFile();
+        final HttpServer server = underTest.start(0, 1, tokenFile);
+        final String token = token(tokenFile);
+
+        //when
+        final HttpResponse<String> missingToken = send(server, DaemonController.TRANSFORM_PATH, JOB,
+                "Content-Type", APPLICATION_JSON);
+        final HttpResponse<String> invalidToken = send(server, DaemonController.TRANSFORM_PATH, JOB,
+                DaemonController.TOKEN_HEADER, token + "x", "Content-Type", APPLICATION_JSON);
+        final HttpResponse<String> plainText = send(server, DaemonController.TRANSFORM_PATH, JOB,
+                DaemonController.TOKEN_HEADER, token, "Content-Type", "text/plain");
+        final HttpResponse<String> crossOrigin = send(server, DaemonController.TRANSFORM_PATH, JOB,
+                DaemonController.TOKEN_HEADER, token, "Content-Type", APPLICATION_JSON, "Origin", "http://localhost");
+        final HttpResponse<String> shutdown = send(server, DaemonController.SHUTDOWN_PATH, "",
+                "Content-Type", APPLICATION_JSON);
+
+        //then
+        underTest.stop(server);
+        Assertions.assertEquals(STATUS_UNAUTHORIZED, missingToken.statusCode());
+        Assertions.assertEquals(STATUS_UNAUTHORIZED, invalidToken.statusCode());
+        Assertions.assertEquals(STATUS_UNSUPPORTED_MEDIA_TYPE, plainText.statusCode());
+        Assertions.assertEquals(STATUS_FORBIDDEN, crossOrigin.statusCode());
+        Assertions.assertEquals(STATUS_UNAUTHORIZED, shutdown.statusCode());
+        verifyNoInteractions(jobController, factory);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTransformShouldRespondWithFailureWhenJobCannotBeProcessed()
+            throws IOException, InterruptedException, ConfigValidationException, ConfigParseException {
+        //given
+        final ApplicationController jobController = mock(ApplicationController.class);
+        final Function<Map<String, String>, RunConfig> factory = mock(Function.class);
+        final RunConfig runConfig = RunConfig.builder().build();
+        when(factory.apply(anyMap())).thenReturn(runConfig);
+        doThrow(new ConfigValidationException("Invalid."))
+                .doThrow(new ConfigParseException("Unparseable."))
+                .when(jobController).process(same(runConfig));
+        final DaemonController underTest = new DaemonController(jobController, factory, mock(Validator.class));
+        final File tokenFile = tempDir.resolve(TOKEN_FILE).toFile();
+        final HttpServer server = underTest.start(0, 1, tokenFile);
+        final String token = token(tokenFile);
+
+        //when
+        final HttpResponse<String> invalid = post(server, DaemonController.TRANSFORM_PATH, JOB, token);
+        final HttpResponse<String> unparseable = post(server, DaemonController.TRANSFORM_PATH, JOB, token);
+        final HttpResponse<String> malformed = post(server, DaemonController.TRANSFORM_PATH, "[", token);
+        final HttpResponse<String> watch = post(server, DaemonController.TRANSFORM_PATH, "{\"watch\":true}", token);
+        final HttpResponse<String> daemon = post(server, DaemonController.TRANSFORM_PATH, "{\"daemonPort\":1}", token);
+        final List<Integer> shared = new ArrayList<>();
+        for (final String option : SHARED_OPTIONS) {
+            shared.add(post(server, DaemonController.TRANSFORM_PATH, "{\"" + option + "\":\"value\"}", token).statusCode());
+        }
+        final HttpResponse<String> notPosted = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(uri(server, DaemonController.TRANSFORM_PATH)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        //then
+        underTest.stop(server);
+        Assertions.assertEquals(STATUS_BAD_REQUEST, invalid.statusCode());
+        Assertions.assertEquals(STATUS_UNPROCESSABLE, unparseable.statusCode());
+        Assertions.assertTrue(unparseable.body().contains("Unparseable."));
+        Assertions.assertEquals(STATUS_BAD_REQUEST, malformed.statusCode());
+        Assertions.assertEquals(STATUS_BAD_REQUEST, watch.statusCode());
+        Assertions.assertEquals(STATUS_BAD_REQUEST, daemon.statusCode());
+        Assertions.assertTrue(shared.stream().allMatch(status -> status == STATUS_BAD_REQUEST));
+        Assertions.assertEquals(STATUS_METHOD_NOT_ALLOWED, notPosted.statusCode());
+        verify(jobController, times(2)).process(same(runConfig));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testShutdownShouldRespondWithSuccessWhenPosted() throws IOException, InterruptedException {
+        //given
+        final ApplicationController jobController = mock(ApplicationController.class);
+        final Function<Map<String, String>, RunConfig> factory = mock(Function.class);
+        final DaemonController underTest = new DaemonController(jobController, factory, mock(Validator.class));
+        final File tokenFile = tempDir.resolve(TOKEN_FILE).toFile();
+        final HttpServer server = underTest.start(0, 1, tokenFile);
+
+        //when
+        final HttpResponse<String> actual = post(server, DaemonController.SHUTDOWN_PATH, "", token(tokenFile));
+
+        //then
+        underTest.stop(server);
+        Assertions.assertEquals(STATUS_OK, actual.statusCode());
+        verifyNoInteractions(jobController, factory);
+    }
+
+    private static String token(final File tokenFile) throws IOException {
+        return Files.readString(tokenFile.toPath(), StandardCharsets.UTF_8);
+    }
+
+    private static HttpResponse<String> post(final HttpServer server, final String path, final String body, final String token)
+            throws IOException, InterruptedException {
+        return send(server, path, body, DaemonController.TOKEN_HEADER, token, "Content-Type", APPLICATION_JSON);
+    }
+
+    private static HttpResponse<String> send(final HttpServer server, final String path, final String body, final String... headers)
+            throws IOException, InterruptedException {
+        return HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(uri(server, path))
+                        .headers(headers)
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(final HttpServer server, final String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@LaunchAbortArmed
+class DirectoryWatcherTest {
+
+    private static final String ANY_JSON = "*.json";
+    private static final String SPLIT_JSON = "*-split.json";
+    private static final String EXISTING_JSON = "existing.json";
+    private static final String EXISTING_TXT = "existing.txt";
+    private static final String EXISTING_SPLIT_JSON = "existing-split.json";
+    private static final String OUTPUT = "out";
+    private static final String NESTED_JSON = "2024/01/nested.json";
+    private static final long DEBOUNCE_MILLIS = 200L;
+    private static final long QUIET_MILLIS = 1000L;
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    @Test
+    void testWatchShouldReportMatchingFilesWhenTheySettled()
+            throws IOException, InterruptedException {
+        //given
+        final Path root = Files.createTempDirectory("yippee-watch");
+        for (final String file : List.of(EXISTING_JSON, EXISTING_TXT, EXISTING_SPLIT_JSON, OUTPUT + "/" + EXISTING_JSON)) {
+            FileUtils.write(root.resolve(file).toFile(), file, StandardCharsets.UTF_8);
+        }
+        final DirectoryWatcher underTest = new DirectoryWatcher(root, List.of(ANY_JSON), List.of(SPLIT_JSON),
+                true, root.resolve(OUTPUT), DEBOUNCE_MILLIS);
+        final BlockingQueue<Path> reported = new LinkedBlockingQueue<>();
+        final Thread watcher = startWatching(underTest, reported);
+
+        //when
+        final Path existing = reported.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final Path nested = root.resolve(NESTED_JSON);
+        FileUtils.write(nested.toFile(), "{", StandardCharsets.UTF_8);
+        FileUtils.write(nested.toFile(), "}", StandardCharsets.UTF_8, true);
+        final Path created = reported.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final Path unexpected = reported.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+        watcher.interrupt();
+        watcher.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        //then
+        Assertions.assertEquals(root.resolve(EXISTING_JSON).toRealPath(), existing.toRealPath());
+        Assertions.assertNotNull(created);
+        Assertions.assertEquals(nested.toRealPath(), created.toRealPath());
+        Assertions.assertNull(unexpected);
+        Assertions.assertFalse(watcher.isAlive());
+        FileUtils.deleteQuietly(root.toFile());
+    }
+
+    @Test
+    void testWatchShouldNotReportNestedFilesWhenNotRecursive()
+            throws IOException, InterruptedException {
+        //given
+        final Path root = Files.createTempDirectory("yippee-watch");
+        FileUtils.write(root.resolve(NESTED_JSON).toFile(), NESTED_JSON, StandardCharsets.UTF_8);
+        final DirectoryWatcher underTest = new DirectoryWatcher(root, List.of(ANY_JSON), List.of(),
+                false, null, DEBOUNCE_MILLIS);
+        final BlockingQueue<Path> reported = new LinkedBlockingQueue<>();
+        final Thread watcher = startWatching(underTest, reported);
+
+        //when
+        final Path unexpected = reported.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+        FileUtils.write(root.resolve(EXISTING_JSON).toFile(), EXISTING_JSON, StandardCharsets.UTF_8);
+        final Path created = reported.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        watcher.interrupt();
+        watcher.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        //then
+        Assertions.assertNull(unexpected);
+        Assertions.assertNotNull(created);
+        Assertions.assertEquals(root.resolve(EXISTING_JSON).toRealPath(), created.toRealPath());
+        Assertions.assertFalse(watcher.isAlive());
+        FileUtils.deleteQuietly(root.toFile());
+    }
+
+    private static Thread startWatching(final DirectoryWatcher underTest, final BlockingQueue<Path> reported) {
+        final Thread watcher = new Thread(() -> {
+            try {
+                underTest.watch(reported::add);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        watcher.start();
+        return watcher;
+    }
+}
@@ -16,25 +16,30 @@ import static org.mockito.Mockito.*;
 @LaunchAbortArmed
 class DispatcherApplicationControllerTest {
 
+    private static final int DAEMON_PORT = 8642;
+
     private static Stream<Arguments> validInputProvider() {
         return Stream.<Arguments>builder()
-                .add(Arguments.of(RunConfig.builder().exportYmlSchema(true).build(), true, false, false))
-                .add(Arguments.of(RunConfig.builder().exportMarkdown(true).build(), false, true, false))
-                .add(Arguments.of(RunConfig.builder().build(), false, false, true))
-                .add(Arguments.of(null, false, true, false))
+                .add(Arguments.of(RunConfig.builder().exportYmlSchema(true).build(), true, false, false, false))
+                .add(Arguments.of(RunConfig.builder().exportMarkdown(true).build(), false, true, false, false))
+                .add(Arguments.of(RunConfig.builder().build(), false, false, true, false))
+                .add(Arguments.of(RunConfig.builder().daemonPort(DAEMON_PORT).build(), false, false, false, true))
+                .add(Arguments.of(null, false, true, false, false))
                 .build();
     }
 
     @ParameterizedTest
     @MethodSource("validInputProvider")
     void testProcessShouldCallTheRightController(
-            final RunConfig runConfig, final boolean ymlCalled, final boolean markdownCalled, final boolean transformCalled)
+            final RunConfig runConfig, final boolean ymlCalled, final boolean markdownCalled, final boolean transformCalled,
+            final boolean daemonCalled)
             throws ConfigValidationException, ConfigParseException {
         //given
         ApplicationController yaml = mock(ApplicationController.class);
         ApplicationController markdown = mock(ApplicationController.class);
         ApplicationController filePair = mock(ApplicationController.class);
-        ApplicationController underTest = new DispatcherApplicationController(filePair, markdown, yaml);
+        ApplicationController daemon = mock(ApplicationController.class);
+        ApplicationController underTest = new DispatcherApplicationController(filePair, markdown, yaml, daemon);
 
         //when
         underTest.process(runConfig);
@@ -55,18 +60,25 @@ class DispatcherApplicationControllerTest {
         } else {
             verifyNoInteractions(filePair);
         }
+        if (daemonCalled) {
+            verify(daemon).process(same(runConfig));
+        } else {
+            verifyNoInteractions(daemon);
+        }
     }
 
     @ParameterizedTest
     @MethodSource("validInputProvider")
     void testValidateConfigShouldCallTheRightController(
-            final RunConfig runConfig, final boolean ymlCalled, final boolean markdownCalled, final boolean transformCalled)
+            final RunConfig runConfig, final boolean ymlCalled, final boolean markdownCalled, final boolean transformCalled,
+            final boolean daemonCalled)
             throws ConfigValidationException, ConfigParseException {
         //given
         ApplicationController yaml = mock(ApplicationController.class);
         ApplicationController markdown = mock(ApplicationController.class);
         ApplicationController filePair = mock(ApplicationController.class);
-        ApplicationController underTest = new DispatcherApplicationController(filePair, markdown, yaml);
+        ApplicationController daemon = mock(ApplicationController.class);
+        ApplicationController underTest = new DispatcherApplicationController(filePair, markdown, yaml, daemon);
 
         //when
         underTest.validateConfig(runConfig);
@@ -87,5 +99,10 @@ class DispatcherApplicationControllerTest {
         } else {
             verifyNoInteractions(filePair);
         }
+        if (daemonCalled) {
+            verify(daemon).validateConfig(same(runConfig));
+        } else {
+            verifyNoInteractions(daemon);
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+@LaunchAbortArmed
+class ExecutionModeTest {
+
+    private static final String RESULT = "result";
+    private static final int THREADS = 4;
+
+    private static Stream<Arguments> sequentialProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(ExecutionMode.THREAD_POOL, 1))
+                .add(Arguments.of(ExecutionMode.THREAD_POOL, 0))
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("sequentialProvider")
+    void testExecutorServiceShouldReturnEmptyWhenConcurrencyIsNotNeeded(final ExecutionMode underTest,
+                                                                        final int parallelism) {
+        //given
+
+        //when
+        final Optional<ExecutorService> actual = underTest.executorService(parallelism);
+
+        //then
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionMode.class)
+    void testExecutorServiceShouldReturnWorkingExecutorWhenParallelismIsSet(final ExecutionMode underTest)
+            throws Exception {
+        //given
+
+        //when
+        final Optional<ExecutorService> actual = underTest.executorService(THREADS);
+
+        //then
+        Assertions.assertTrue(actual.isPresent());
+        final ExecutorService executorService = actual.get();
+        try {
+            final Future<String> future = executorService.submit(() -> RESULT);
+            Assertions.assertEquals(RESULT, future.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
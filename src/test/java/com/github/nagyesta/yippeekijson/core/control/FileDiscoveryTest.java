@@ -0,0 +1,118 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@LaunchAbortArmed
+class FileDiscoveryTest {
+
+    private static final String ANY_JSON = "*.json";
+    private static final String ANY_NESTED_JSON = "**/*.json";
+    private static final String SPLIT_JSON = "*-split.json";
+    private static final String YEAR_JSON = "2024/**/*.json";
+    private static final String ROOT_JSON = "root.json";
+    private static final String ROOT_SPLIT_JSON = "root-split.json";
+    private static final String ROOT_TXT = "root.txt";
+    private static final String DAY_JSON = "2024/01/01/day.json";
+    private static final String DAY_SPLIT_JSON = "2024/01/02/day-split.json";
+    private static final String OTHER_JSON = "2025/01/01/other.json";
+    private static final String OUTPUT = "out";
+    private static final String PREVIOUS_OUTPUT_JSON = "out/root.json";
+    private static final String NESTED_OUTPUT_JSON = "out/2024/01/01/day.json";
+    private static final int THREADS = 4;
+
+    public static Stream<Arguments> discoveryProvider() {
+        return Stream.of(1, THREADS).flatMap(threads -> Stream.<Arguments>builder()
+                .add(Arguments.of(List.of(ANY_JSON), List.of(SPLIT_JSON), false, threads,
+                        Set.of(ROOT_JSON)))
+                .add(Arguments.of(List.of(ANY_JSON), List.of(SPLIT_JSON), true, threads,
+                        Set.of(ROOT_JSON, DAY_JSON, OTHER_JSON)))
+                .add(Arguments.of(List.of(ANY_NESTED_JSON), List.of(), true, threads,
+                        Set.of(ROOT_JSON, ROOT_SPLIT_JSON, DAY_JSON, DAY_SPLIT_JSON, OTHER_JSON)))
+                .add(Arguments.of(List.of(YEAR_JSON), List.of(SPLIT_JSON), true, threads,
+                        Set.of(DAY_JSON)))
+                .add(Arguments.of(List.of(), List.of(), true, threads,
+                        Set.of()))
+                .build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("discoveryProvider")
+    void testDiscoverShouldReturnMatchingFilesWhenCalled(final List<String> includes,
+                                                         final List<String> excludes,
+                                                         final boolean recursive,
+                                                         final int parallelism,
+                                                         final Set<String> expected) throws IOException {
+        //given
+        final Path root = Files.createTempDirectory("yippee-discovery");
+        for (final String file : List.of(ROOT_JSON, ROOT_SPLIT_JSON, ROOT_TXT, DAY_JSON, DAY_SPLIT_JSON, OTHER_JSON)) {
+            FileUtils.write(root.resolve(file).toFile(), file, StandardCharsets.UTF_8);
+        }
+        final FileDiscovery underTest = new FileDiscovery(root, includes, excludes, null, recursive, parallelism);
+
+        //when
+        final Set<String> actual;
+        try (Stream<Path> files = underTest.discover()) {
+            actual = files.map(root::relativize)
+                    .map(path -> path.toString().replace(root.getFileSystem().getSeparator(), "/"))
+                    .collect(Collectors.toSet());
+        }
+
+        //then
+        Assertions.assertEquals(expected, actual);
+        FileUtils.deleteQuietly(root.toFile());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, THREADS})
+    void testDiscoverShouldSkipOutputDirectoryWhenNestedUnderInput(final int parallelism) throws IOException {
+        //given
+        final Path root = Files.createTempDirectory("yippee-discovery");
+        for (final String file : List.of(ROOT_JSON, DAY_JSON, PREVIOUS_OUTPUT_JSON, NESTED_OUTPUT_JSON)) {
+            FileUtils.write(root.resolve(file).toFile(), file, StandardCharsets.UTF_8);
+        }
+        final FileDiscovery underTest = new FileDiscovery(root, List.of(ANY_JSON), List.of(), root.resolve(OUTPUT), true, parallelism);
+
+        //when
+        final Set<String> actual;
+        try (Stream<Path> files = underTest.discover()) {
+            actual = files.map(root::relativize)
+                    .map(path -> path.toString().replace(root.getFileSystem().getSeparator(), "/"))
+                    .collect(Collectors.toSet());
+        }
+
+        //then
+        Assertions.assertEquals(Set.of(ROOT_JSON, DAY_JSON), actual);
+        Assertions.assertFalse(underTest.matches(root.resolve(PREVIOUS_OUTPUT_JSON)));
+        FileUtils.deleteQuietly(root.toFile());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, THREADS})
+    void testDiscoverShouldThrowExceptionWhenRootIsMissing(final int parallelism) throws IOException {
+        //given
+        final Path root = Files.createTempDirectory("yippee-discovery");
+        final FileDiscovery underTest = new FileDiscovery(root.resolve(OUTPUT), List.of(ANY_JSON), List.of(), null, true, parallelism);
+
+        //when + then exception
+        try (Stream<Path> files = underTest.discover()) {
+            Assertions.assertThrows(UncheckedIOException.class, files::count);
+        }
+        FileUtils.deleteQuietly(root.toFile());
+    }
+}
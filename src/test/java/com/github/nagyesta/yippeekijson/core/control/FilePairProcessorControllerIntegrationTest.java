@@ -8,29 +8,40 @@ import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigValidationException;
 import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetricsImpl;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatistics;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.Validator;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.mockito.Mockito.*;
@@ -50,9 +61,29 @@ class FilePairProcessorControllerIntegrationTest {
     private static final String EMPTY = "";
     private static final String ACTION_NAME = "action-name";
     private static final String TRANSFORMED = "transformed";
+    private static final String EXTERNAL = "external";
+    private static final String PARALLELISM = "parallelism";
+    private static final int THREADS = 4;
+    private static final int FILE_COUNT = 20;
+    private static final int CONTENT_WRITER_ARGUMENT = 1;
+    private static final int TRANSFORM_OUTPUT_ARGUMENT = 3;
+    private static final int INDENT = 3;
+    private static final String VERSION = "1.0.0";
+    private static final long LONG_DEBOUNCE = 60_000L;
 
     @Autowired
     private Validator validatorBean;
+    @Autowired
+    private PredicateStatistics predicateStatistics;
+    @Autowired
+    private RunMetrics runMetrics;
+    @TempDir
+    private File directory;
+    private JsonTransformer jsonTransformer;
+    private FileSetTransformer fileSetTransformer;
+    private ActionConfigParser configParser;
+    private Validator validator;
+    private JsonAction jsonAction;
 
     private static Stream<Arguments> invalidRunConfigProvider() {
         return Stream.<Arguments>builder()
@@ -106,19 +137,38 @@ class FilePairProcessorControllerIntegrationTest {
                                 .outputDirectory(OUTPUT)
                                 .build(),
                         Set.of(CONFIG, INPUT, INCLUDES)))
+                .add(Arguments.of(RunConfig.builder()
+                                .action(ACTION)
+                                .allowOverwrite(false)
+                                .relaxedYmlSchema(false)
+                                .config(CONFIG)
+                                .excludes(Collections.emptyList())
+                                .includes(Collections.emptyList())
+                                .input(INPUT)
+                                .output(null)
+                                .outputDirectory(OUTPUT)
+                                .parallelism(0)
+                                .build(),
+                        Set.of(CONFIG, INPUT, INCLUDES, PARALLELISM)))
                 .build();
     }
 
+    @BeforeEach
+    void setUp() throws ConfigParseException {
+        jsonTransformer = mock(JsonTransformer.class);
+        fileSetTransformer = mock(FileSetTransformer.class);
+        configParser = mock(ActionConfigParser.class);
+        validator = mock(Validator.class);
+        when(validator.validate(any(RunConfig.class), eq(RunConfig.Transform.class))).thenReturn(Collections.emptySet());
+        jsonAction = JsonAction.builder().name(ACTION_NAME).build();
+        when(configParser.parse(any(File.class), anyBoolean()))
+                .thenReturn(JsonActions.builder().addAction(ACTION_NAME, jsonAction).build());
+    }
+
     @Test
     void testProcessShouldSkipWriteWhenTransformFails() throws ConfigValidationException, ConfigParseException,
             JsonTransformException, IOException {
         //given
-        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
-        final FileSetTransformer fileSetTransformer = mock(FileSetTransformer.class);
-        final ActionConfigParser configParser = mock(ActionConfigParser.class);
-        final Validator validator = mock(Validator.class);
-        when(validator.validate(any(RunConfig.class), eq(RunConfig.Transform.class))).thenReturn(Collections.emptySet());
-
         final RunConfig runConfig = spy(RunConfig.builder()
                 .action(ACTION_NAME)
                 .config(CONFIG)
@@ -138,15 +188,15 @@ class FilePairProcessorControllerIntegrationTest {
         doReturn(outputFileMock).when(runConfig).getOutputAsFile();
         when(outputFileMock.exists()).thenReturn(false);
 
-        final JsonAction jsonAction = JsonAction.builder().name(ACTION_NAME).build();
-        final JsonActions jsonActions = JsonActions.builder().addAction(ACTION_NAME, jsonAction).build();
-        when(configParser.parse(any(File.class), anyBoolean())).thenReturn(jsonActions);
-        when(fileSetTransformer.transformToFilePairs(eq(runConfig))).thenReturn(Map.of(inputFileMock, outputFileMock));
-        when(jsonTransformer.transform(any(File.class), any(Charset.class), any(JsonAction.class)))
-                .thenThrow(new JsonTransformException("message", new IllegalArgumentException()));
+        when(fileSetTransformer.streamFilePairs(eq(runConfig)))
+                .thenAnswer(invocation -> Map.of(inputFileMock, outputFileMock).entrySet().stream());
+        doThrow(new JsonTransformException("message", new IllegalArgumentException()))
+                .when(jsonTransformer).transform(any(File.class), any(Charset.class), any(JsonAction.class),
+                        any(OutputStream.class), any(OutputFormat.class), anyInt());
 
-        final FilePairProcessorController underTest = spy(new FilePairProcessorController(
-                jsonTransformer, fileSetTransformer, configParser, validator));
+        final FilePairProcessorController underTest = spy(controller());
+        doAnswer(invocation -> writeContent(invocation, OutputStream.nullOutputStream())).when(underTest)
+                .writeToFile(any(File.class), any(AbstractApplicationController.ContentWriter.class));
 
         //when
         underTest.process(runConfig);
@@ -158,11 +208,12 @@ class FilePairProcessorControllerIntegrationTest {
         inOrder.verify(underTest).validateConfig(same(runConfig));
         inOrder.verify(validator).validate(same(runConfig), eq(RunConfig.Transform.class));
         inOrder.verify(configParser).parse(eq(runConfig.getConfigAsFile()), anyBoolean());
-        inOrder.verify(fileSetTransformer).transformToFilePairs(same(runConfig));
+        inOrder.verify(fileSetTransformer).streamFilePairs(same(runConfig));
+        inOrder.verify(underTest)
+                .writeToFile(same(outputFileMock), any(AbstractApplicationController.ContentWriter.class));
         inOrder.verify(jsonTransformer)
-                .transform(same(inputFileMock), eq(StandardCharsets.UTF_8), same(jsonAction));
-        inOrder.verify(underTest, never())
-                .writeToFile(same(outputFileMock), eq(StandardCharsets.UTF_8), anyString());
+                .transform(same(inputFileMock), eq(StandardCharsets.UTF_8), same(jsonAction),
+                        any(OutputStream.class), eq(OutputFormat.PRETTY), eq(INDENT));
         inOrder.verify(underTest, times(2)).summarize(anyMap());
         inOrder.verifyNoMoreInteractions();
     }
@@ -171,12 +222,6 @@ class FilePairProcessorControllerIntegrationTest {
     void testProcessShouldSkipFilesWhenOverwriteNotAllowed() throws ConfigValidationException, ConfigParseException,
             JsonTransformException, IOException {
         //given
-        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
-        final FileSetTransformer fileSetTransformer = mock(FileSetTransformer.class);
-        final ActionConfigParser configParser = mock(ActionConfigParser.class);
-        final Validator validator = mock(Validator.class);
-        when(validator.validate(any(RunConfig.class), eq(RunConfig.Transform.class))).thenReturn(Collections.emptySet());
-
         final RunConfig runConfig = spy(RunConfig.builder()
                 .action(ACTION_NAME)
                 .config(CONFIG)
@@ -195,13 +240,10 @@ class FilePairProcessorControllerIntegrationTest {
         doReturn(outputFileMock).when(runConfig).getOutputAsFile();
         when(outputFileMock.exists()).thenReturn(true);
 
-        final JsonAction jsonAction = JsonAction.builder().name(ACTION_NAME).build();
-        final JsonActions jsonActions = JsonActions.builder().addAction(ACTION_NAME, jsonAction).build();
-        when(configParser.parse(any(File.class), anyBoolean())).thenReturn(jsonActions);
-        when(fileSetTransformer.transformToFilePairs(eq(runConfig))).thenReturn(Map.of(inputFileMock, outputFileMock));
+        when(fileSetTransformer.streamFilePairs(eq(runConfig)))
+                .thenAnswer(invocation -> Map.of(inputFileMock, outputFileMock).entrySet().stream());
 
-        final FilePairProcessorController underTest = spy(new FilePairProcessorController(
-                jsonTransformer, fileSetTransformer, configParser, validator));
+        final FilePairProcessorController underTest = spy(controller());
 
         //when
         underTest.process(runConfig);
@@ -213,11 +255,12 @@ class FilePairProcessorControllerIntegrationTest {
         inOrder.verify(underTest).validateConfig(same(runConfig));
         inOrder.verify(validator).validate(same(runConfig), eq(RunConfig.Transform.class));
         inOrder.verify(configParser).parse(eq(runConfig.getConfigAsFile()), anyBoolean());
-        inOrder.verify(fileSetTransformer).transformToFilePairs(same(runConfig));
+        inOrder.verify(fileSetTransformer).streamFilePairs(same(runConfig));
         inOrder.verify(jsonTransformer, never())
-                .transform(eq(runConfig.getInputAsFile()), eq(StandardCharsets.UTF_8), same(jsonAction));
+                .transform(eq(runConfig.getInputAsFile()), eq(StandardCharsets.UTF_8), same(jsonAction),
+                        any(OutputStream.class), eq(OutputFormat.PRETTY), eq(INDENT));
         inOrder.verify(underTest, never())
-                .writeToFile(any(File.class), eq(StandardCharsets.UTF_8), anyString());
+                .writeToFile(any(File.class), any(AbstractApplicationController.ContentWriter.class));
         inOrder.verify(underTest, times(2)).summarize(anyMap());
         inOrder.verifyNoMoreInteractions();
     }
@@ -226,12 +269,6 @@ class FilePairProcessorControllerIntegrationTest {
     void testProcessShouldProcessFileWhenValidConfigProvided() throws ConfigValidationException, ConfigParseException,
             JsonTransformException, IOException {
         //given
-        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
-        final FileSetTransformer fileSetTransformer = mock(FileSetTransformer.class);
-        final ActionConfigParser configParser = mock(ActionConfigParser.class);
-        final Validator validator = mock(Validator.class);
-        when(validator.validate(any(RunConfig.class), eq(RunConfig.Transform.class))).thenReturn(Collections.emptySet());
-
         final RunConfig runConfig = spy(RunConfig.builder()
                 .action(ACTION_NAME)
                 .config(CONFIG)
@@ -248,16 +285,16 @@ class FilePairProcessorControllerIntegrationTest {
         final File outputFileMock = mock(File.class);
         doReturn(outputFileMock).when(runConfig).getOutputAsFile();
 
-        final JsonAction jsonAction = JsonAction.builder().name(ACTION_NAME).build();
-        final JsonActions jsonActions = JsonActions.builder().addAction(ACTION_NAME, jsonAction).build();
-        when(configParser.parse(any(File.class), anyBoolean())).thenReturn(jsonActions);
-        when(fileSetTransformer.transformToFilePairs(eq(runConfig))).thenReturn(Map.of(inputFileMock, outputFileMock));
-        when(jsonTransformer.transform(eq(inputFileMock), any(Charset.class), eq(jsonAction))).thenReturn(TRANSFORMED);
+        when(fileSetTransformer.streamFilePairs(eq(runConfig)))
+                .thenAnswer(invocation -> Map.of(inputFileMock, outputFileMock).entrySet().stream());
+        doAnswer(this::writeTransformed)
+                .when(jsonTransformer).transform(eq(inputFileMock), any(Charset.class), eq(jsonAction),
+                        any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
 
-        final FilePairProcessorController underTest = spy(new FilePairProcessorController(
-                jsonTransformer, fileSetTransformer, configParser, validator));
-        doNothing().when(underTest)
-                .writeToFile(eq(outputFileMock), any(Charset.class), eq(TRANSFORMED));
+        final FilePairProcessorController underTest = spy(controller());
+        doAnswer(invocation -> writeContent(invocation, output)).when(underTest)
+                .writeToFile(eq(outputFileMock), any(AbstractApplicationController.ContentWriter.class));
 
         //when
         underTest.process(runConfig);
@@ -269,25 +306,413 @@ class FilePairProcessorControllerIntegrationTest {
         inOrder.verify(underTest).validateConfig(same(runConfig));
         inOrder.verify(validator).validate(same(runConfig), eq(RunConfig.Transform.class));
         inOrder.verify(configParser).parse(eq(runConfig.getConfigAsFile()), anyBoolean());
-        inOrder.verify(fileSetTransformer).transformToFilePairs(same(runConfig));
-        inOrder.verify(jsonTransformer)
-                .transform(eq(runConfig.getInputAsFile()), eq(StandardCharsets.UTF_8), same(jsonAction));
+        inOrder.verify(fileSetTransformer).streamFilePairs(same(runConfig));
         inOrder.verify(underTest)
-                .writeToFile(eq(runConfig.getOutputAsFile()), eq(StandardCharsets.UTF_8), eq(TRANSFORMED));
+                .writeToFile(eq(runConfig.getOutputAsFile()), any(AbstractApplicationController.ContentWriter.class));
+        inOrder.verify(jsonTransformer)
+                .transform(eq(runConfig.getInputAsFile()), eq(StandardCharsets.UTF_8), same(jsonAction),
+                        any(OutputStream.class), eq(OutputFormat.PRETTY), eq(INDENT));
         inOrder.verify(underTest, times(2)).summarize(anyMap());
         inOrder.verifyNoMoreInteractions();
+        Assertions.assertEquals(TRANSFORMED, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testProcessShouldExportMetricsWhenMetricsFilesAreSet() throws ConfigValidationException, ConfigParseException,
+            JsonTransformException, IOException {
+        //given
+        final File prometheusFile = new File(directory, "yippee.prom");
+        final File jsonFile = new File(directory, "yippee.json");
+
+        final RunConfig runConfig = spy(RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(CONFIG)
+                .input(INPUT)
+                .output(OUTPUT)
+                .metricsPrometheusFile(prometheusFile.getAbsolutePath())
+                .metricsJsonFile(jsonFile.getAbsolutePath())
+                .build());
+
+        final File inputFileMock = mock(File.class);
+        when(inputFileMock.length()).thenReturn((long) FILE_COUNT);
+        final File outputFileMock = mock(File.class);
+        when(outputFileMock.length()).thenReturn((long) TRANSFORMED.length());
+        doReturn(mock(File.class)).when(runConfig).getConfigAsFile();
+
+        when(fileSetTransformer.streamFilePairs(eq(runConfig)))
+                .thenAnswer(invocation -> Map.of(inputFileMock, outputFileMock).entrySet().stream());
+        doAnswer(this::writeTransformed)
+                .when(jsonTransformer).transform(eq(inputFileMock), any(Charset.class), eq(jsonAction),
+                        any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+
+        final FilePairProcessorController underTest = spy(new FilePairProcessorController(
+                jsonTransformer, fileSetTransformer, configParser, predicateStatistics, new RunMetricsImpl(true), VERSION, validator));
+        doAnswer(invocation -> writeContent(invocation, OutputStream.nullOutputStream())).when(underTest)
+                .writeToFile(eq(outputFileMock), any(AbstractApplicationController.ContentWriter.class));
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        final String prometheus = FileUtils.readFileToString(prometheusFile, StandardCharsets.UTF_8);
+        Assertions.assertTrue(prometheus.contains("yippee_files_total{result=\"success\"} 1\n"));
+        Assertions.assertTrue(prometheus.contains("yippee_read_bytes_total " + FILE_COUNT + "\n"));
+        Assertions.assertTrue(prometheus.contains("yippee_written_bytes_total " + TRANSFORMED.length() + "\n"));
+        final String json = FileUtils.readFileToString(jsonFile, StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("\"written\" : " + TRANSFORMED.length()));
+        Assertions.assertArrayEquals(new String[]{jsonFile.getName(), prometheusFile.getName()},
+                Arrays.stream(Objects.requireNonNull(directory.list())).sorted().toArray());
+    }
+
+    @Test
+    void testProcessShouldSkipUnchangedInputsWhenIncrementalIsSet() throws ConfigValidationException, ConfigParseException,
+            JsonTransformException, IOException {
+        //given
+        final File configFile = writeConfig();
+        final File first = new File(new File(directory, INPUT), "first.json");
+        final File second = new File(new File(directory, INPUT), "second.json");
+        FileUtils.write(first, "{\"id\":1}", StandardCharsets.UTF_8);
+        FileUtils.write(second, "{\"id\":2}", StandardCharsets.UTF_8);
+        final File outputDirectory = new File(directory, OUTPUT);
+        final Map<File, File> filePairs = Map.of(
+                first, new File(outputDirectory, first.getName()),
+                second, new File(outputDirectory, second.getName()));
+
+        final RunConfig runConfig = RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(configFile.getAbsolutePath())
+                .input(first.getParent())
+                .outputDirectory(outputDirectory.getAbsolutePath())
+                .incremental(true)
+                .build();
+
+        when(fileSetTransformer.streamFilePairs(eq(runConfig))).thenAnswer(invocation -> filePairs.entrySet().stream());
+        stubTransform(this::writeTransformed);
+
+        final FilePairProcessorController underTest = controller();
+        underTest.process(runConfig);
+        underTest.process(runConfig);
+        FileUtils.write(second, "{\"id\":3}", StandardCharsets.UTF_8);
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        verify(jsonTransformer).transform(eq(first), any(Charset.class), eq(jsonAction),
+                any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+        verify(jsonTransformer, times(2)).transform(eq(second), any(Charset.class), eq(jsonAction),
+                any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+        Assertions.assertTrue(runConfig.getIncrementalManifestAsFile().isFile());
+        Assertions.assertEquals(TRANSFORMED, FileUtils.readFileToString(filePairs.get(second), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testProcessShouldKeepUnrecordedOutputsWhenIncrementalIsSetAndOverwriteNotAllowed() throws ConfigValidationException,
+            ConfigParseException, JsonTransformException, IOException {
+        //given
+        final File configFile = writeConfig();
+        final File first = new File(new File(directory, INPUT), "first.json");
+        final File second = new File(new File(directory, INPUT), "second.json");
+        FileUtils.write(first, "{\"id\":1}", StandardCharsets.UTF_8);
+        FileUtils.write(second, "{\"id\":2}", StandardCharsets.UTF_8);
+        final File outputDirectory = new File(directory, OUTPUT);
+        final Map<File, File> filePairs = Map.of(
+                first, new File(outputDirectory, first.getName()),
+                second, new File(outputDirectory, second.getName()));
+        FileUtils.write(filePairs.get(second), EXTERNAL, StandardCharsets.UTF_8);
+
+        final RunConfig runConfig = RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(configFile.getAbsolutePath())
+                .input(first.getParent())
+                .outputDirectory(outputDirectory.getAbsolutePath())
+                .allowOverwrite(false)
+                .incremental(true)
+                .build();
+
+        when(fileSetTransformer.streamFilePairs(eq(runConfig))).thenAnswer(invocation -> filePairs.entrySet().stream());
+        stubTransform(this::writeTransformed);
+
+        final FilePairProcessorController underTest = controller();
+        underTest.process(runConfig);
+        FileUtils.write(first, "{\"id\":3}", StandardCharsets.UTF_8);
+        FileUtils.write(second, "{\"id\":4}", StandardCharsets.UTF_8);
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        verify(jsonTransformer, times(2)).transform(eq(first), any(Charset.class), eq(jsonAction),
+                any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+        verify(jsonTransformer, never()).transform(eq(second), any(Charset.class), eq(jsonAction),
+                any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+        Assertions.assertEquals(TRANSFORMED, FileUtils.readFileToString(filePairs.get(first), StandardCharsets.UTF_8));
+        Assertions.assertEquals(EXTERNAL, FileUtils.readFileToString(filePairs.get(second), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testProcessShouldTransformDiscoveredFilesConcurrentlyWhenParallelismIsSet() throws ConfigValidationException,
+            ConfigParseException, JsonTransformException, IOException {
+        //given
+        final File inputDirectory = new File(directory, INPUT);
+        final File outputDirectory = new File(directory, OUTPUT);
+        final Map<File, File> filePairs = writeInputs(inputDirectory, outputDirectory);
+        final File invalid = filePairs.keySet().iterator().next();
+
+        final RunConfig runConfig = spy(RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(CONFIG)
+                .input(inputDirectory.getAbsolutePath())
+                .outputDirectory(outputDirectory.getAbsolutePath())
+                .parallelism(THREADS)
+                .build());
+        doReturn(mock(File.class)).when(runConfig).getConfigAsFile();
+
+        when(fileSetTransformer.streamFilePairs(eq(runConfig))).thenReturn(filePairs.entrySet().stream());
+        stubTransform(invocation -> {
+            final String content = FileUtils.readFileToString(invocation.<File>getArgument(0), StandardCharsets.UTF_8);
+            if (content.equals(FileUtils.readFileToString(invalid, StandardCharsets.UTF_8))) {
+                throw new JsonTransformException(content, new IllegalArgumentException());
+            }
+            invocation.<OutputStream>getArgument(TRANSFORM_OUTPUT_ARGUMENT).write((TRANSFORMED + content).getBytes(StandardCharsets.UTF_8));
+            return null;
+        });
+
+        final FilePairProcessorController underTest = spy(controller());
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Map<File, File>> summaryCaptor = ArgumentCaptor.forClass(Map.class);
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        verify(underTest, times(2)).summarize(summaryCaptor.capture());
+        final Map<File, File> expectedSuccess = new TreeMap<>(filePairs);
+        expectedSuccess.remove(invalid);
+        Assertions.assertEquals(expectedSuccess, summaryCaptor.getAllValues().get(0));
+        Assertions.assertEquals(Map.of(invalid, filePairs.get(invalid)), summaryCaptor.getAllValues().get(1));
+        for (final Map.Entry<File, File> entry : expectedSuccess.entrySet()) {
+            Assertions.assertEquals(TRANSFORMED + FileUtils.readFileToString(entry.getKey(), StandardCharsets.UTF_8),
+                    FileUtils.readFileToString(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertFalse(filePairs.get(invalid).exists());
+        Assertions.assertEquals(expectedSuccess.size(), Objects.requireNonNull(outputDirectory.list()).length);
+    }
+
+    @Test
+    void testProcessShouldTransformWatchedFilesConcurrentlyWhenWatchIsSet() throws ConfigValidationException,
+            ConfigParseException, JsonTransformException, IOException {
+        //given
+        final File inputDirectory = new File(directory, INPUT);
+        final File outputDirectory = new File(directory, OUTPUT);
+        final Map<File, File> filePairs = writeInputs(inputDirectory, outputDirectory);
+
+        final RunConfig runConfig = spy(RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(CONFIG)
+                .input(inputDirectory.getAbsolutePath())
+                .outputDirectory(outputDirectory.getAbsolutePath())
+                .parallelism(THREADS)
+                .watch(true)
+                .build());
+        doReturn(mock(File.class)).when(runConfig).getConfigAsFile();
+
+        doAnswer(invocation -> {
+            final Consumer<Map.Entry<File, File>> consumer = invocation.getArgument(1);
+            filePairs.entrySet().forEach(consumer);
+            return null;
+        }).when(fileSetTransformer).watchFilePairs(eq(runConfig), any());
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        stubTransform(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            return writeTransformed(invocation);
+        });
+
+        final FilePairProcessorController underTest = controller();
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        verify(configParser).parse(any(File.class), anyBoolean());
+        verify(fileSetTransformer, never()).transformToFilePairs(any());
+        verify(fileSetTransformer, never()).streamFilePairs(any());
+        for (final Map.Entry<File, File> entry : filePairs.entrySet()) {
+            Assertions.assertEquals(TRANSFORMED, FileUtils.readFileToString(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertTrue(threadNames.stream().anyMatch(name -> name.startsWith("yippee-watch-")));
+    }
+
+    @Test
+    void testProcessShouldSaveManifestOnlyWhenWatchStopsWhenDebouncePeriodIsNotElapsed() throws ConfigValidationException,
+            ConfigParseException, JsonTransformException, IOException {
+        //given
+        final File configFile = writeConfig();
+        final File inputDirectory = new File(directory, INPUT);
+        final File outputDirectory = new File(directory, OUTPUT);
+        final Map<File, File> filePairs = writeInputs(inputDirectory, outputDirectory);
+
+        final RunConfig runConfig = RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(configFile.getAbsolutePath())
+                .input(inputDirectory.getAbsolutePath())
+                .outputDirectory(outputDirectory.getAbsolutePath())
+                .parallelism(THREADS)
+                .incremental(true)
+                .watch(true)
+                .watchDebounce(LONG_DEBOUNCE)
+                .build();
+        final File manifestFile = runConfig.getIncrementalManifestAsFile();
+
+        final List<Boolean> savedWhileWatching = new ArrayList<>();
+        doAnswer(invocation -> {
+            final Consumer<Map.Entry<File, File>> consumer = invocation.getArgument(1);
+            filePairs.entrySet().forEach(consumer);
+            savedWhileWatching.add(manifestFile.exists());
+            return null;
+        }).when(fileSetTransformer).watchFilePairs(eq(runConfig), any());
+        stubTransform(this::writeTransformed);
+
+        final FilePairProcessorController underTest = controller();
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        Assertions.assertEquals(List.of(false), savedWhileWatching);
+        final IncrementalManifest manifest = IncrementalManifest.load(manifestFile, VERSION);
+        filePairs.forEach((input, output) -> Assertions.assertTrue(manifest.isRecorded(input, output)));
+    }
+
+    @Test
+    void testProcessShouldProcessLargestFilesFirstWhenMemoryBudgetIsSet() throws ConfigValidationException,
+            ConfigParseException, JsonTransformException, IOException {
+        //given
+        final Map<File, File> filePairs = new HashMap<>();
+        final List<File> expectedOrder = new ArrayList<>();
+        for (int i = FILE_COUNT; i > 0; i--) {
+            final File input = new File(new File(directory, INPUT), i + ".json");
+            FileUtils.write(input, TRANSFORMED.repeat(i), StandardCharsets.UTF_8);
+            filePairs.put(input, new File(new File(directory, OUTPUT), input.getName()));
+            expectedOrder.add(input);
+        }
+
+        final RunConfig runConfig = spy(RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(CONFIG)
+                .input(INPUT)
+                .outputDirectory(OUTPUT)
+                .memoryBudget(1L)
+                .build());
+        doReturn(mock(File.class)).when(runConfig).getConfigAsFile();
+
+        final List<File> actualOrder = new ArrayList<>();
+        when(fileSetTransformer.streamFilePairs(eq(runConfig))).thenAnswer(invocation -> filePairs.entrySet().stream());
+        stubTransform(invocation -> {
+            actualOrder.add(invocation.getArgument(0));
+            return writeTransformed(invocation);
+        });
+
+        final FilePairProcessorController underTest = controller();
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        Assertions.assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    void testProcessShouldRecordOtherFilesWhenOneFileFailsWithRuntimeExceptionConcurrently() throws ConfigValidationException,
+            ConfigParseException, JsonTransformException, IOException {
+        //given
+        final File configFile = writeConfig();
+        final File outputDirectory = new File(directory, OUTPUT);
+        final Map<File, File> filePairs = writeInputs(new File(directory, INPUT), outputDirectory);
+        final File broken = filePairs.keySet().iterator().next();
+
+        final RunConfig runConfig = RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(configFile.getAbsolutePath())
+                .input(broken.getParent())
+                .outputDirectory(outputDirectory.getAbsolutePath())
+                .parallelism(THREADS)
+                .incremental(true)
+                .build();
+
+        when(fileSetTransformer.streamFilePairs(eq(runConfig))).thenAnswer(invocation -> filePairs.entrySet().stream());
+        stubTransform(invocation -> {
+            if (broken.equals(invocation.getArgument(0))) {
+                throw new IllegalStateException(EXTERNAL);
+            }
+            return writeTransformed(invocation);
+        });
+
+        final FilePairProcessorController underTest = controller();
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        final IncrementalManifest manifest = IncrementalManifest.load(runConfig.getIncrementalManifestAsFile(), VERSION);
+        Assertions.assertFalse(manifest.isRecorded(broken, filePairs.get(broken)));
+        Assertions.assertFalse(filePairs.get(broken).exists());
+        filePairs.entrySet().stream()
+                .filter(pair -> !broken.equals(pair.getKey()))
+                .forEach(pair -> Assertions.assertTrue(manifest.isRecorded(pair.getKey(), pair.getValue())));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testProcessShouldProcessFilesConcurrentlyAndSummarizeInOrderWhenParallelismIsSet()
+            throws ConfigValidationException, ConfigParseException, JsonTransformException, IOException {
+        //given
+        final RunConfig runConfig = spy(RunConfig.builder()
+                .action(ACTION_NAME)
+                .config(CONFIG)
+                .input(INPUT)
+                .outputDirectory(OUTPUT)
+                .allowOverwrite(true)
+                .parallelism(THREADS)
+                .build());
+        doReturn(mock(File.class)).when(runConfig).getConfigAsFile();
+
+        final Map<File, File> filePairs = IntStream.range(0, FILE_COUNT).boxed()
+                .collect(Collectors.toMap(i -> new File(INPUT, i + ".json"), i -> new File(OUTPUT, i + ".json")));
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        when(fileSetTransformer.streamFilePairs(eq(runConfig))).thenAnswer(invocation -> filePairs.entrySet().stream());
+        stubTransform(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            return writeTransformed(invocation);
+        });
+
+        final FilePairProcessorController underTest = spy(controller());
+        doAnswer(invocation -> writeContent(invocation, OutputStream.nullOutputStream())).when(underTest)
+                .writeToFile(any(File.class), any(AbstractApplicationController.ContentWriter.class));
+        final ArgumentCaptor<Map<File, File>> summaryCaptor = ArgumentCaptor.forClass(Map.class);
+
+        //when
+        underTest.process(runConfig);
+
+        //then
+        for (final Map.Entry<File, File> pair : filePairs.entrySet()) {
+            verify(jsonTransformer).transform(same(pair.getKey()), eq(StandardCharsets.UTF_8), same(jsonAction),
+                    any(OutputStream.class), eq(OutputFormat.PRETTY), eq(INDENT));
+            verify(underTest).writeToFile(same(pair.getValue()), any(AbstractApplicationController.ContentWriter.class));
+        }
+        verify(underTest, times(2)).summarize(summaryCaptor.capture());
+        final Map<File, File> successes = summaryCaptor.getAllValues().get(0);
+        Assertions.assertEquals(new ArrayList<>(new TreeMap<>(filePairs).keySet()), new ArrayList<>(successes.keySet()));
+        Assertions.assertTrue(summaryCaptor.getAllValues().get(1).isEmpty());
+        Assertions.assertTrue(threadNames.stream().noneMatch(Thread.currentThread().getName()::equals));
     }
 
     @ParameterizedTest
     @MethodSource("invalidRunConfigProvider")
     void testValidateConfigShouldThrowExceptionOnViolation(final RunConfig config, final Set<String> expectedViolations) {
         //given
-        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
-        final FileSetTransformer fileSetTransformer = mock(FileSetTransformer.class);
-        final ActionConfigParser configParser = mock(ActionConfigParser.class);
-
         final ApplicationController underTest = new FilePairProcessorController(
-                jsonTransformer, fileSetTransformer, configParser, validatorBean);
+                jsonTransformer, fileSetTransformer, configParser, predicateStatistics, runMetrics, VERSION, validatorBean);
 
         //when
         try {
@@ -315,16 +740,9 @@ class FilePairProcessorControllerIntegrationTest {
     void testWriteToFileShouldWriteContentToFile() throws IOException {
         //given
         final String content = TRANSFORMED;
-        final File file = File.createTempFile("yippee-test-file", ".json");
-        file.deleteOnExit();
-
-        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
-        final FileSetTransformer fileSetTransformer = mock(FileSetTransformer.class);
-        final ActionConfigParser configParser = mock(ActionConfigParser.class);
-        final Validator validator = mock(Validator.class);
+        final File file = new File(directory, "yippee-test-file.json");
 
-        final FilePairProcessorController underTest = new FilePairProcessorController(
-                jsonTransformer, fileSetTransformer, configParser, validator);
+        final FilePairProcessorController underTest = controller();
 
         //when
         underTest.writeToFile(file, StandardCharsets.UTF_8, content);
@@ -332,6 +750,77 @@ class FilePairProcessorControllerIntegrationTest {
         //then
         final String actual = IOUtils.toString(file.toURI(), StandardCharsets.UTF_8);
         Assertions.assertEquals(content, actual);
-        FileUtils.deleteQuietly(file);
+    }
+
+    @Test
+    void testWriteToFileShouldStreamContentToFile() throws IOException, JsonTransformException {
+        //given
+        final File file = new File(new File(directory, OUTPUT), ACTION_NAME + ".json");
+
+        final FilePairProcessorController underTest = controller();
+
+        //when
+        underTest.writeToFile(file, output -> output.write(TRANSFORMED.getBytes(StandardCharsets.UTF_8)));
+
+        //then
+        final String actual = IOUtils.toString(file.toURI(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(TRANSFORMED, actual);
+        Assertions.assertArrayEquals(new String[]{file.getName()}, file.getParentFile().list());
+    }
+
+    @Test
+    void testWriteToFileShouldKeepExistingFileWhenContentWriterFails() throws IOException {
+        //given
+        final File file = new File(directory, ACTION_NAME + ".json");
+        FileUtils.write(file, EMPTY, StandardCharsets.UTF_8);
+
+        final FilePairProcessorController underTest = controller();
+
+        //when
+        Assertions.assertThrows(JsonTransformException.class, () -> underTest.writeToFile(file, output -> {
+            output.write(TRANSFORMED.getBytes(StandardCharsets.UTF_8));
+            throw new JsonTransformException("message", new IllegalArgumentException());
+        }));
+
+        //then
+        final String actual = IOUtils.toString(file.toURI(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(EMPTY, actual);
+        Assertions.assertArrayEquals(new String[]{file.getName()}, directory.list());
+    }
+
+    private FilePairProcessorController controller() {
+        return new FilePairProcessorController(
+                jsonTransformer, fileSetTransformer, configParser, predicateStatistics, runMetrics, VERSION, validator);
+    }
+
+    private void stubTransform(final Answer<?> answer) throws JsonTransformException {
+        doAnswer(answer).when(jsonTransformer).transform(any(File.class), any(Charset.class), eq(jsonAction),
+                any(OutputStream.class), eq(OutputFormat.PRETTY), anyInt());
+    }
+
+    private File writeConfig() throws IOException {
+        final File configFile = new File(directory, CONFIG + ".yml");
+        FileUtils.write(configFile, ACTION_NAME, StandardCharsets.UTF_8);
+        return configFile;
+    }
+
+    private Map<File, File> writeInputs(final File inputDirectory, final File outputDirectory) throws IOException {
+        final Map<File, File> filePairs = new TreeMap<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            final File input = new File(inputDirectory, i + ".json");
+            FileUtils.write(input, String.valueOf(i), StandardCharsets.UTF_8);
+            filePairs.put(input, new File(outputDirectory, input.getName()));
+        }
+        return filePairs;
+    }
+
+    private Object writeContent(final InvocationOnMock invocation, final OutputStream output) throws Exception {
+        invocation.<AbstractApplicationController.ContentWriter>getArgument(CONTENT_WRITER_ARGUMENT).writeTo(output);
+        return null;
+    }
+
+    private Object writeTransformed(final InvocationOnMock invocation) throws IOException {
+        invocation.<OutputStream>getArgument(TRANSFORM_OUTPUT_ARGUMENT).write(TRANSFORMED.getBytes(StandardCharsets.UTF_8));
+        return null;
     }
 }
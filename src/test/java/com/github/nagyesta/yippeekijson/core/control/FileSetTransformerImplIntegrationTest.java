@@ -2,12 +2,19 @@ package com.github.nagyesta.yippeekijson.core.control;
 
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
 import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @LaunchAbortArmed
 class FileSetTransformerImplIntegrationTest {
@@ -20,6 +27,7 @@ class FileSetTransformerImplIntegrationTest {
     private static final String JSON_EXAMPLE_FILTERED_JSON = JSON + EXAMPLE_FILTERED_JSON;
     private static final String ANY_JSON = "*.json";
     private static final String ANY_SPLIT_JSON = "*-split.json";
+    private static final String NESTED = "nested";
 
     @Test
     void testTransformToFilePairsShouldWorkForValidFileAsInput() {
@@ -105,6 +113,37 @@ class FileSetTransformerImplIntegrationTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.transformToFilePairs(runConfig));
     }
 
+    @Test
+    void testStreamFilePairsShouldKeepRelativePathWhenRecursiveIsSet() throws IOException {
+        //given
+        final File input = Files.createTempDirectory("yippee-input").toFile();
+        final File nested = new File(new File(new File(input, NESTED), NESTED), EXAMPLE_JSON);
+        FileUtils.write(nested, EXAMPLE_JSON, StandardCharsets.UTF_8);
+        final File out = new File(OUT);
+        final RunConfig runConfig = RunConfig.builder()
+                .input(input.getAbsolutePath())
+                .includes(Collections.singletonList(ANY_JSON))
+                .excludes(Collections.singletonList(ANY_SPLIT_JSON))
+                .outputDirectory(OUT)
+                .recursive(true)
+                .build();
+
+        final FileSetTransformer underTest = new FileSetTransformerImpl();
+
+        //when
+        final List<Map.Entry<File, File>> actual;
+        try (Stream<Map.Entry<File, File>> pairs = underTest.streamFilePairs(runConfig)) {
+            actual = pairs.collect(Collectors.toList());
+        }
+
+        //then
+        Assertions.assertEquals(1, actual.size());
+        Assertions.assertEquals(nested, actual.get(0).getKey());
+        Assertions.assertEquals(new File(new File(new File(out, NESTED), NESTED), EXAMPLE_JSON).getAbsoluteFile(),
+                actual.get(0).getValue());
+        FileUtils.deleteQuietly(input);
+    }
+
     @Test
     void testTransformToFilePairsShouldNotAllowNull() {
         //given
@@ -0,0 +1,75 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+@LaunchAbortArmed
+class IncrementalManifestTest {
+
+    private static final String MANIFEST = ".yippee-manifest.properties";
+    private static final String CONFIG = "actions:";
+    private static final String CONTENT = "{}";
+    private static final String VERSION = "1.0.0";
+    private static final String ACTION = "action";
+
+    @Test
+    void testActionFingerprintShouldChangeWhenAnyComponentChanges() throws IOException {
+        //given
+        final File directory = Files.createTempDirectory("yippee-manifest").toFile();
+        final File config = new File(directory, "config.yml");
+        FileUtils.write(config, CONFIG, StandardCharsets.UTF_8);
+        final String original = IncrementalManifest.actionFingerprint(config, List.of(VERSION, ACTION));
+
+        //when
+        final String same = IncrementalManifest.actionFingerprint(config, List.of(VERSION, ACTION));
+        final String otherVersion = IncrementalManifest.actionFingerprint(config, List.of(VERSION + ".1", ACTION));
+        FileUtils.write(config, CONFIG + " ", StandardCharsets.UTF_8);
+        final String otherConfig = IncrementalManifest.actionFingerprint(config, List.of(VERSION, ACTION));
+
+        //then
+        Assertions.assertEquals(original, same);
+        Assertions.assertNotEquals(original, otherVersion);
+        Assertions.assertNotEquals(original, otherConfig);
+        FileUtils.deleteQuietly(directory);
+    }
+
+    @Test
+    void testIsUnchangedShouldUseSavedFingerprintsWhenManifestIsReloaded() throws IOException {
+        //given
+        final File directory = Files.createTempDirectory("yippee-manifest").toFile();
+        final File manifestFile = new File(directory, MANIFEST);
+        final File input = new File(directory, "input.json");
+        final File output = new File(directory, "output.json");
+        final File missing = new File(directory, "missing.json");
+        FileUtils.write(input, CONTENT, StandardCharsets.UTF_8);
+        FileUtils.write(output, CONTENT, StandardCharsets.UTF_8);
+        final IncrementalManifest previous = IncrementalManifest.load(manifestFile, ACTION);
+        previous.record(input, output, previous.fingerprint(input));
+        previous.save();
+
+        //when
+        final IncrementalManifest underTest = IncrementalManifest.load(manifestFile, ACTION);
+        final IncrementalManifest otherAction = IncrementalManifest.load(manifestFile, VERSION);
+
+        //then
+        Assertions.assertTrue(underTest.isUnchanged(input, output, underTest.fingerprint(input)));
+        Assertions.assertFalse(underTest.isUnchanged(input, missing, underTest.fingerprint(input)));
+        Assertions.assertFalse(otherAction.isUnchanged(input, output, otherAction.fingerprint(input)));
+        Assertions.assertTrue(otherAction.isRecorded(input, output));
+        Assertions.assertFalse(otherAction.isRecorded(input, missing));
+        Assertions.assertFalse(otherAction.isRecorded(missing, output));
+        underTest.forget(input);
+        Assertions.assertFalse(underTest.isUnchanged(input, output, underTest.fingerprint(input)));
+        Assertions.assertEquals(List.of(MANIFEST, input.getName(), output.getName()),
+                List.of(directory.list()).stream().sorted().toList());
+        FileUtils.deleteQuietly(directory);
+    }
+}
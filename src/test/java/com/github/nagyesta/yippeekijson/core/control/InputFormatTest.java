@@ -0,0 +1,85 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.config.entities.JsonAction;
+import com.github.nagyesta.yippeekijson.core.config.entities.RunConfig;
+import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class InputFormatTest {
+
+    private static final String INPUT = "input.json";
+    private static final int INDENT = 2;
+    private static final String ARRAY_PATH = "$.items[*]";
+
+    @Test
+    void testTransformShouldTransformWholeDocumentWhenJsonIsUsed() throws JsonTransformException {
+        //given
+        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
+        final File input = new File(INPUT);
+        final JsonAction action = JsonAction.builder().build();
+        final RunConfig runConfig = RunConfig.builder()
+                .charset(StandardCharsets.ISO_8859_1)
+                .outputFormat(OutputFormat.COMPACT)
+                .outputIndent(INDENT)
+                .build();
+        final OutputStream output = new ByteArrayOutputStream();
+
+        //when
+        InputFormat.JSON.transform(jsonTransformer, input, action, runConfig, output);
+
+        //then
+        verify(jsonTransformer).transform(input, StandardCharsets.ISO_8859_1, action, output, OutputFormat.COMPACT, INDENT);
+        verifyNoMoreInteractions(jsonTransformer);
+    }
+
+    @Test
+    void testTransformShouldTransformRecordsWhenNdJsonIsUsed() throws JsonTransformException {
+        //given
+        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
+        final File input = new File(INPUT);
+        final JsonAction action = JsonAction.builder().build();
+        final RunConfig runConfig = RunConfig.builder()
+                .charset(StandardCharsets.ISO_8859_1)
+                .build();
+        final OutputStream output = new ByteArrayOutputStream();
+
+        //when
+        InputFormat.NDJSON.transform(jsonTransformer, input, action, runConfig, output);
+
+        //then
+        verify(jsonTransformer).transformLines(input, StandardCharsets.ISO_8859_1, action, output);
+        verifyNoMoreInteractions(jsonTransformer);
+    }
+
+    @Test
+    void testTransformShouldTransformArrayElementsWhenArrayStreamIsUsed() throws JsonTransformException {
+        //given
+        final JsonTransformer jsonTransformer = mock(JsonTransformer.class);
+        final File input = new File(INPUT);
+        final JsonAction action = JsonAction.builder().build();
+        final RunConfig runConfig = RunConfig.builder()
+                .charset(StandardCharsets.ISO_8859_1)
+                .streamArrayPath(ARRAY_PATH)
+                .outputFormat(OutputFormat.COMPACT)
+                .outputIndent(INDENT)
+                .build();
+        final OutputStream output = new ByteArrayOutputStream();
+
+        //when
+        InputFormat.ARRAY_STREAM.transform(jsonTransformer, input, action, runConfig, output);
+
+        //then
+        verify(jsonTransformer).transformArrayElements(input, StandardCharsets.ISO_8859_1, action, ARRAY_PATH, output,
+                OutputFormat.COMPACT, INDENT);
+        verifyNoMoreInteractions(jsonTransformer);
+    }
+}
@@ -7,22 +7,42 @@ import com.github.nagyesta.yippeekijson.core.config.parser.ActionConfigParser;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
 import com.github.nagyesta.yippeekijson.core.exception.ConfigParseException;
 import com.github.nagyesta.yippeekijson.core.exception.JsonTransformException;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetricsImpl;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.JfrEvents;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.RuleApplicationEvent;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.impl.helper.FusedMappingRule;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.github.nagyesta.yippeekijson.test.helper.TestResourceProvider.resource;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @LaunchAbortArmed
 @SpringBootTest
@@ -32,6 +52,38 @@ class JsonTransformerImplIntegrationTest {
     private static final String JSON_EXAMPLE_JSON = "/json/example.json";
     private static final String JSON_EXAMPLE_FILTERED_JSON = "/json/example-filtered.json";
     private static final String FILTER = "filter";
+    private static final String SPLIT_NAME = "split-name";
+    private static final String FUSED = "fused";
+    private static final String FUSED_YML = "actions:\n"
+            + "  - name: \"fused\"\n"
+            + "    rules:\n"
+            + "      - name: \"replace\"\n"
+            + "        path: \"$.accounts[*]['name']\"\n"
+            + "        params:\n"
+            + "          stringFunction:\n"
+            + "            name: \"regex\"\n"
+            + "            pattern: \"^(.*)$\"\n"
+            + "            replacement: \"name: $1\"\n"
+            + "      - name: \"replace\"\n"
+            + "        path: \"$.accounts[*]['email']\"\n"
+            + "        params:\n"
+            + "          stringFunction:\n"
+            + "            name: \"regex\"\n"
+            + "            pattern: \"^(.*)$\"\n"
+            + "            replacement: \"email: $1\"\n";
+    private static final int INDENT = 3;
+    private static final String SIMPLE_JSON = "{\"key\":[1]}";
+    private static final String EMPTY_CONTAINERS_JSON = "{\"object\":{},\"array\":[],\"nested\":[{},[]]}";
+    private static final String RECORD_1 = "{\"id\":1,\"tags\":[]}";
+    private static final String RECORD_2 = "{\"id\":2,\"name\":\"\u00e1rv\u00edz\"}";
+    private static final String RECORD_3 = "[3,{}]";
+    private static final String NOT_JSON = "{\"id\":";
+    private static final String NEW_LINE = "\n";
+    private static final String ACCOUNTS_ARRAY = "$.accounts[*]";
+    private static final String ROOT_ARRAY = "$[*]";
+    private static final String WRAPPED_ARRAY_JSON = "{\"before\":{\"a\":[1]},\"items\":[{\"id\":1},{\"id\":2}],\"after\":\"x\"}";
+    private static final String NESTED_JSON = "[1,2.5,true,null,{\"key\":\"value: \\\"quoted\\\", [x]\","
+            + "\"\u00e1rv\u00edz\":[{\"a\":{\"b\":[1]}}]}]";
     @Autowired
     private ActionConfigParser actionConfigParser;
     @Autowired
@@ -114,6 +166,96 @@ class JsonTransformerImplIntegrationTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void testTransformStreamShouldRecordMetricsWhenMetricsAreEnabled() throws ConfigParseException, JsonTransformException {
+        //given
+        final InputStream yaml = this.getClass().getResourceAsStream(YAML_EXAMPLE_YML);
+        final JsonActions jsonActions = actionConfigParser.parse(yaml, true);
+
+        final JsonAction action = jsonActions.getActions().get(SPLIT_NAME);
+        final InputStream resource = this.getClass().getResourceAsStream(JSON_EXAMPLE_JSON);
+        final RunMetricsImpl runMetrics = new RunMetricsImpl(true);
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper, runMetrics);
+
+        //when
+        final String actual = underTest.transform(resource, StandardCharsets.UTF_8, action);
+
+        //then
+        Assertions.assertNotNull(actual);
+        final Map<String, Object> snapshot = runMetrics.snapshot();
+        final List<Map<String, Object>> rules = (List<Map<String, Object>>) snapshot.get("rules");
+        Assertions.assertEquals(action.getRules().size(), rules.size());
+        Assertions.assertTrue(rules.stream().allMatch(rule -> SPLIT_NAME.equals(rule.get("action"))));
+        Assertions.assertTrue(rules.stream().mapToLong(rule -> (Long) rule.get("nodesVisited")).sum() > 0L);
+        Assertions.assertTrue(rules.stream().mapToLong(rule -> (Long) rule.get("nodesMatched")).sum() > 0L);
+        Assertions.assertEquals(1L, ((Map<String, Object>) snapshot.get("parse")).get("count"));
+        Assertions.assertEquals(1L, ((Map<String, Object>) snapshot.get("serialize")).get("count"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTransformStreamShouldRecordMetricsOfEachFusedRuleWhenMetricsAreEnabled()
+            throws ConfigParseException, JsonTransformException {
+        //given
+        final InputStream yaml = new ByteArrayInputStream(FUSED_YML.getBytes(StandardCharsets.UTF_8));
+        final JsonAction action = actionConfigParser.parse(yaml, true).getActions().get(FUSED);
+        final InputStream resource = this.getClass().getResourceAsStream(JSON_EXAMPLE_JSON);
+        final RunMetricsImpl runMetrics = new RunMetricsImpl(true);
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper, runMetrics);
+
+        //when
+        underTest.transform(resource, StandardCharsets.UTF_8, action);
+
+        //then
+        Assertions.assertEquals(1, action.getRules().size());
+        Assertions.assertInstanceOf(FusedMappingRule.class, action.getRules().get(0));
+        final List<Map<String, Object>> rules = (List<Map<String, Object>>) runMetrics.snapshot().get("rules");
+        Assertions.assertEquals(2, rules.size());
+        Assertions.assertTrue(rules.stream().allMatch(rule -> "replace".equals(rule.get("rule"))));
+        Assertions.assertEquals(2L, rules.stream().map(rule -> rule.get("order")).distinct().count());
+        Assertions.assertTrue(rules.stream().allMatch(rule -> (Long) rule.get("nodesMatched") > 0L));
+        Assertions.assertTrue(rules.stream().allMatch(rule -> rule.get("nodesMatched").equals(rule.get("predicateTrue"))));
+        Assertions.assertTrue(rules.stream().allMatch(rule -> (Long) rule.get("predicateFalse") == 0L));
+    }
+
+    @Test
+    void testTransformStreamShouldEmitRuleEventsWhenJfrEventsAreRegistered()
+            throws ConfigParseException, JsonTransformException, IOException {
+        //given
+        final InputStream yaml = this.getClass().getResourceAsStream(YAML_EXAMPLE_YML);
+        final JsonActions jsonActions = actionConfigParser.parse(yaml, true);
+
+        final JsonAction action = jsonActions.getActions().get(SPLIT_NAME);
+        final InputStream resource = this.getClass().getResourceAsStream(JSON_EXAMPLE_JSON);
+        JfrEvents.register();
+        final Path dump = Files.createTempFile("yippee-rules", ".jfr");
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable(RuleApplicationEvent.class);
+            recording.start();
+            underTest.transform(resource, StandardCharsets.UTF_8, action);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        //then
+        final long threadId = Thread.currentThread().getId();
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(e -> e.getThread() != null && e.getThread().getJavaThreadId() == threadId)
+                .collect(Collectors.toList());
+        Files.delete(dump);
+        Assertions.assertEquals(action.getRules().size(), events.size());
+        Assertions.assertTrue(events.stream().allMatch(e -> SPLIT_NAME.equals(e.getString("action"))));
+        Assertions.assertTrue(events.stream().anyMatch(e -> "replace".equals(e.getString("ruleName"))
+                && e.getLong("matchedNodes") > 0L));
+    }
+
     @Test
     void testTransformStreamShouldHandleEmptyRuleSet() throws JsonTransformException {
         //given
@@ -149,6 +291,95 @@ class JsonTransformerImplIntegrationTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void testTransformFileToStreamShouldProduceSameOutputAsStringVariant() throws ConfigParseException, JsonTransformException {
+        //given
+        final InputStream yaml = this.getClass().getResourceAsStream(YAML_EXAMPLE_YML);
+        final JsonActions jsonActions = actionConfigParser.parse(yaml, true);
+
+        final JsonAction action = jsonActions.getActions().get(FILTER);
+        final File resource = new File(this.getClass().getResource(JSON_EXAMPLE_JSON).getFile());
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transform(resource, StandardCharsets.UTF_8, action, output, OutputFormat.PRETTY, INDENT);
+
+        //then
+        final String expected = underTest.transform(resource, StandardCharsets.UTF_8, action);
+        Assertions.assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {EMPTY_CONTAINERS_JSON, NESTED_JSON})
+    void testTransformStreamToStreamShouldMatchJsonFormatterLayout(final String json) throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(mock(JsonRule.class)).build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transform(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, action, output,
+                OutputFormat.PRETTY, INDENT);
+
+        //then
+        final String expected = underTest.transform(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, action);
+        Assertions.assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformStreamToStreamShouldWriteCompactOutputWhenCompactFormatIsUsed() throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(mock(JsonRule.class)).build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transform(new ByteArrayInputStream(NESTED_JSON.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, action,
+                output, OutputFormat.COMPACT, INDENT);
+
+        //then
+        Assertions.assertEquals(NESTED_JSON, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformStreamToStreamShouldUseIndentWhenPrettyFormatIsUsed() throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(mock(JsonRule.class)).build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transform(new ByteArrayInputStream(SIMPLE_JSON.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, action,
+                output, OutputFormat.PRETTY, 1);
+
+        //then
+        final String expected = String.join(System.lineSeparator(), "{", " \"key\" : [", "  1", " ]", "}");
+        Assertions.assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformStreamToStreamShouldCopyWhenRuleSetIsEmpty() throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).build();
+        final InputStream resource = this.getClass().getResourceAsStream(JSON_EXAMPLE_JSON);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transform(resource, StandardCharsets.UTF_8, action, output, OutputFormat.PRETTY, INDENT);
+
+        //then
+        final String expected = resource().asString(JSON_EXAMPLE_JSON);
+        Assertions.assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     void testTransformFileShouldFailWhenFileIsUnreachable() throws ConfigParseException {
         //given
@@ -180,4 +411,180 @@ class JsonTransformerImplIntegrationTest {
         Assertions.assertThrows(JsonTransformException.class,
                 () -> underTest.transform(resource, StandardCharsets.UTF_8, action));
     }
+
+    @Test
+    void testTransformLinesShouldWriteEachRecordAsSingleLineAndSkipInvalidRecords() throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(mock(JsonRule.class)).build();
+        final String input = String.join(NEW_LINE, RECORD_1, "", NOT_JSON, "  ", RECORD_2 + "\r", RECORD_3);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        final long actual = underTest.transformLines(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, action, output);
+
+        //then
+        Assertions.assertEquals(1L, actual);
+        final String expected = RECORD_1 + NEW_LINE + RECORD_2 + NEW_LINE + RECORD_3 + NEW_LINE;
+        Assertions.assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformLinesShouldSkipRecordWhenRuleFails() throws JsonTransformException {
+        //given
+        final JsonRule rule = mock(JsonRule.class);
+        doNothing().doThrow(new IllegalStateException(FILTER)).doNothing().when(rule).accept(any());
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(rule).build();
+        final String input = String.join(NEW_LINE, RECORD_1, RECORD_2, RECORD_3);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        final long actual = underTest.transformLines(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, action, output);
+
+        //then
+        Assertions.assertEquals(1L, actual);
+        Assertions.assertEquals(RECORD_1 + NEW_LINE + RECORD_3 + NEW_LINE, output.toString(StandardCharsets.UTF_8));
+        verify(rule, times(2 + 1)).accept(any());
+    }
+
+    @Test
+    void testTransformLinesShouldCopyWhenRuleSetIsEmpty() throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).build();
+        final String input = String.join(NEW_LINE, RECORD_1, NOT_JSON);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        final long actual = underTest.transformLines(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, action, output);
+
+        //then
+        Assertions.assertEquals(0L, actual);
+        Assertions.assertEquals(input, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformLinesFileShouldFailWhenFileIsUnreachable() {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(mock(JsonRule.class)).build();
+        final File resource = new File(FILTER);
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when + then exception
+        Assertions.assertThrows(JsonTransformException.class,
+                () -> underTest.transformLines(resource, StandardCharsets.UTF_8, action, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testTransformArrayElementsShouldProduceSameOutputAsWholeDocumentTransform()
+            throws ConfigParseException, JsonTransformException {
+        //given
+        final JsonActions actions = actionConfigParser.parse(resource().asStream(YAML_EXAMPLE_YML), false);
+        final JsonAction action = actions.getActions().get(FILTER);
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+        underTest.transform(resource().asStream(JSON_EXAMPLE_JSON), StandardCharsets.UTF_8, action, expected, OutputFormat.PRETTY, INDENT);
+
+        //when
+        underTest.transformArrayElements(resource().asStream(JSON_EXAMPLE_JSON), StandardCharsets.UTF_8, action, ACCOUNTS_ARRAY,
+                actual, OutputFormat.PRETTY, INDENT);
+
+        //then
+        Assertions.assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformArrayElementsShouldKeepElementsAndOrderWhenRootArrayIsStreamed() throws JsonTransformException {
+        //given
+        final JsonRule rule = mock(JsonRule.class);
+        when(rule.getJsonPath()).thenReturn(JsonPath.compile(ROOT_ARRAY));
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(rule).build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transformArrayElements(new ByteArrayInputStream(NESTED_JSON.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, action, ROOT_ARRAY, output, OutputFormat.COMPACT, INDENT);
+
+        //then
+        Assertions.assertEquals(NESTED_JSON, output.toString(StandardCharsets.UTF_8));
+        final int elements = 5;
+        verify(rule, times(elements)).accept(any());
+    }
+
+    @Test
+    void testTransformArrayElementsShouldCopyContentOutsideOfArray() throws JsonTransformException {
+        //given
+        final JsonRule rule = mock(JsonRule.class);
+        when(rule.getJsonPath()).thenReturn(JsonPath.compile("$.items[*].id"));
+        doAnswer(invocation -> invocation.<DocumentContext>getArgument(0).delete("$.items[?(@.id==1)]"))
+                .when(rule).accept(any());
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(rule).build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transformArrayElements(new ByteArrayInputStream(WRAPPED_ARRAY_JSON.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, action, "$.items[*]", output, OutputFormat.COMPACT, INDENT);
+
+        //then
+        Assertions.assertEquals(WRAPPED_ARRAY_JSON.replace("{\"id\":1},", ""), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {ROOT_ARRAY, "$.accounts", "$.accounts[0]", "$..accounts[*]", "$.accounts[*].id[*]"})
+    void testTransformArrayElementsShouldFailWhenPathsAreNotSupported(final String arrayPath) throws ConfigParseException {
+        //given
+        final JsonActions actions = actionConfigParser.parse(resource().asStream(YAML_EXAMPLE_YML), false);
+        final JsonAction action = actions.getActions().get(FILTER);
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when + then exception
+        Assertions.assertThrows(JsonTransformException.class,
+                () -> underTest.transformArrayElements(resource().asStream(JSON_EXAMPLE_JSON), StandardCharsets.UTF_8, action, arrayPath,
+                        new ByteArrayOutputStream(), OutputFormat.COMPACT, INDENT));
+    }
+
+    @Test
+    void testTransformArrayElementsShouldCopyWhenRuleSetIsEmpty() throws JsonTransformException {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when
+        underTest.transformArrayElements(new ByteArrayInputStream(NOT_JSON.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, action, ROOT_ARRAY, output, OutputFormat.COMPACT, INDENT);
+
+        //then
+        Assertions.assertEquals(NOT_JSON, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransformArrayElementsFileShouldFailWhenFileIsUnreachable() {
+        //given
+        final JsonAction action = JsonAction.builder().name(FILTER).addRule(mock(JsonRule.class)).build();
+        final File resource = new File(FILTER);
+
+        final JsonTransformer underTest = new JsonTransformerImpl(jsonMapper);
+
+        //when + then exception
+        Assertions.assertThrows(JsonTransformException.class,
+                () -> underTest.transformArrayElements(resource, StandardCharsets.UTF_8, action, ROOT_ARRAY,
+                        new ByteArrayOutputStream(), OutputFormat.COMPACT, INDENT));
+    }
 }
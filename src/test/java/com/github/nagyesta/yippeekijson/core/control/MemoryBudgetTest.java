@@ -0,0 +1,91 @@
+package com.github.nagyesta.yippeekijson.core.control;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class MemoryBudgetTest {
+
+    private static final long MEGABYTE = 1024L * 1024L;
+    private static final long CAPACITY_MB = 10L;
+    private static final double FACTOR = 2.5D;
+    private static final long FILE_SIZE = 1000L;
+    private static final long WAIT_MILLIS = 100L;
+    private static final long TIMEOUT_SECONDS = 5L;
+
+    @Test
+    void testEstimateShouldMultiplySizeWhenEnabled() {
+        //given
+        final File file = mock(File.class);
+        when(file.length()).thenReturn(FILE_SIZE);
+        final MemoryBudget underTest = new MemoryBudget(CAPACITY_MB, FACTOR);
+
+        //when
+        final long actual = underTest.estimate(file);
+
+        //then
+        Assertions.assertTrue(underTest.isEnabled());
+        Assertions.assertEquals((long) (FILE_SIZE * FACTOR), actual);
+    }
+
+    @Test
+    void testAcquireShouldNotLimitAnythingWhenDisabled() throws InterruptedException {
+        //given
+        final File file = mock(File.class);
+        final MemoryBudget underTest = new MemoryBudget(0L, FACTOR);
+
+        //when
+        final long estimate = underTest.estimate(file);
+        final long reserved = underTest.acquire(Long.MAX_VALUE);
+
+        //then
+        Assertions.assertFalse(underTest.isEnabled());
+        Assertions.assertEquals(0L, estimate);
+        Assertions.assertEquals(0L, reserved);
+        verifyNoInteractions(file);
+    }
+
+    @Test
+    void testAcquireShouldCapReservationAtCapacityWhenFootprintIsTooLarge() throws InterruptedException {
+        //given
+        final MemoryBudget underTest = new MemoryBudget(CAPACITY_MB, FACTOR);
+
+        //when
+        final long actual = underTest.acquire(Long.MAX_VALUE);
+
+        //then
+        Assertions.assertEquals(CAPACITY_MB * MEGABYTE, actual);
+    }
+
+    @Test
+    void testAcquireShouldBlockUntilReleaseWhenBudgetIsExhausted()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        //given
+        final MemoryBudget underTest = new MemoryBudget(CAPACITY_MB, FACTOR);
+        final long first = underTest.acquire(CAPACITY_MB * MEGABYTE - 1L);
+        final CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return underTest.acquire(2L);
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(WAIT_MILLIS);
+        Assertions.assertFalse(second.isDone());
+
+        //when
+        underTest.release(first);
+
+        //then
+        Assertions.assertEquals(2L, second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+}
@@ -22,6 +22,10 @@ class RegexReplaceFunctionTest {
     private static final String ROOT_LAST_LAST_LAST_FIRST = ROOT_LAST + COMMA + ROOT_LAST + COMMA + ROOT_LAST + COMMA + ROOT_FIRST;
     private static final String DOE_JOHN = DOE + COMMA + JOHN;
     private static final String DOE_DOE_DOE_JOHN = DOE + COMMA + DOE + COMMA + DOE + COMMA + JOHN;
+    private static final String ANY_FIRST_OPTIONAL_LAST = "^(?<firstName>\\S+)( (?<lastName>\\S+))?$";
+    private static final String SPECIAL = "$1\\${lastName}";
+    private static final String NAME_PREFIX = "Name: ";
+    private static final String NAME_PREFIX_FIRST_LAST_SUFFIX = NAME_PREFIX + ROOT_FIRST + ROOT_LAST + ".";
 
     private static Object[][] validParams() {
         return new Object[][]{
@@ -32,7 +36,10 @@ class RegexReplaceFunctionTest {
                 {JOHN_DOE, FIRST_LAST, ROOT_WONT_MATCH, JOHN_DOE},
                 {JOHN_DOE, FIRST_LAST, ROOT_FIRST, JOHN},
                 {JOHN, FIRST_LAST, ROOT_WONT_MATCH, JOHN},
-                {null, FIRST_LAST, ROOT_LAST, null}
+                {null, FIRST_LAST, ROOT_LAST, null},
+                {SPECIAL, ANY_FIRST_OPTIONAL_LAST, NAME_PREFIX_FIRST_LAST_SUFFIX, NAME_PREFIX + SPECIAL + "."},
+                {JOHN_DOE, ANY_FIRST_OPTIONAL_LAST, NAME_PREFIX_FIRST_LAST_SUFFIX, NAME_PREFIX + JOHN + DOE + "."},
+                {SPECIAL + " " + SPECIAL, ANY_FIRST_OPTIONAL_LAST, ROOT_LAST_FIRST, SPECIAL + COMMA + SPECIAL}
         };
     }
 
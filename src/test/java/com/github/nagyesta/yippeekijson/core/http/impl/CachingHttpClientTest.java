@@ -0,0 +1,187 @@
+package com.github.nagyesta.yippeekijson.core.http.impl;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.HttpMethod;
+import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class CachingHttpClientTest {
+
+    private static final String URI_1 = "http://localhost/1.json";
+    private static final String URI_2 = "http://localhost/2.json";
+    private static final String URI_3 = "http://localhost/3.json";
+    private static final String RESPONSE_1 = "{\"id\":1}";
+    private static final String RESPONSE_2 = "{\"id\":2}";
+    private static final String RESPONSE_3 = "{\"id\":3}";
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final long NOW = 1000L;
+    private static final long EXPIRED = NOW + TTL.toMillis();
+    private static final int MAX_ENTRIES = 2;
+    private static final int UNLIMITED_BYTES = 0;
+    private static final int TWO_RESPONSES_BYTES = (RESPONSE_1.length() + RESPONSE_2.length()) * Character.BYTES;
+
+    @Test
+    void testFetchShouldReturnCachedResponseWhenCalledWithEqualContext() {
+        //given
+        final HttpClient delegate = mockDelegate();
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, MAX_ENTRIES, UNLIMITED_BYTES, fixedClock());
+
+        //when
+        final String first = underTest.fetch(context(URI_1));
+        final String second = underTest.fetch(HttpRequestContext.builder().build(), context(URI_1));
+
+        //then
+        Assertions.assertEquals(RESPONSE_1, first);
+        Assertions.assertEquals(RESPONSE_1, second);
+        Assertions.assertEquals(1L, underTest.getHits());
+        Assertions.assertEquals(1L, underTest.getMisses());
+        verify(delegate).fetch(any(HttpRequestContext.class));
+    }
+
+    @Test
+    void testFetchShouldCallDelegateWhenEntryExpired() {
+        //given
+        final HttpClient delegate = mockDelegate();
+        final Clock clock = fixedClock();
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, MAX_ENTRIES, UNLIMITED_BYTES, clock);
+        underTest.fetch(context(URI_1));
+        when(clock.millis()).thenReturn(EXPIRED);
+
+        //when
+        final String actual = underTest.fetch(context(URI_1));
+
+        //then
+        Assertions.assertEquals(RESPONSE_1, actual);
+        Assertions.assertEquals(0L, underTest.getHits());
+        Assertions.assertEquals(2L, underTest.getMisses());
+        verify(delegate, times(2)).fetch(any(HttpRequestContext.class));
+    }
+
+    @Test
+    void testFetchShouldEvictLeastRecentlyUsedWhenMaxEntriesExceeded() {
+        //given
+        final HttpClient delegate = mockDelegate();
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, MAX_ENTRIES, UNLIMITED_BYTES, fixedClock());
+        underTest.fetch(context(URI_1));
+        underTest.fetch(context(URI_2));
+        underTest.fetch(context(URI_1));
+
+        //when
+        underTest.fetch(context(URI_3));
+        underTest.fetch(context(URI_1));
+        underTest.fetch(context(URI_2));
+
+        //then
+        verify(delegate).fetch(eq(context(URI_1)));
+        verify(delegate, times(2)).fetch(eq(context(URI_2)));
+        verify(delegate).fetch(eq(context(URI_3)));
+    }
+
+    @Test
+    void testFetchShouldEvictLeastRecentlyUsedWhenByteBudgetExceeded() {
+        //given
+        final HttpClient delegate = mockDelegate();
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, Integer.MAX_VALUE, TWO_RESPONSES_BYTES, fixedClock());
+        underTest.fetch(context(URI_1));
+        underTest.fetch(context(URI_2));
+
+        //when
+        underTest.fetch(context(URI_3));
+        underTest.fetch(context(URI_2));
+        underTest.fetch(context(URI_1));
+
+        //then
+        verify(delegate, times(2)).fetch(eq(context(URI_1)));
+        verify(delegate).fetch(eq(context(URI_2)));
+        verify(delegate).fetch(eq(context(URI_3)));
+    }
+
+    @Test
+    void testFetchShouldAlwaysCallDelegateWhenMethodIsNotGet() {
+        //given
+        final HttpClient delegate = mock(HttpClient.class);
+        final HttpRequestContext post = HttpRequestContext.builder().uri(URI_1).httpMethod(HttpMethod.POST).build();
+        when(delegate.fetch(eq(post))).thenReturn(RESPONSE_1, RESPONSE_2);
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, MAX_ENTRIES, UNLIMITED_BYTES, fixedClock());
+
+        //when
+        final String first = underTest.fetch(post);
+        final String second = underTest.fetch(post);
+
+        //then
+        Assertions.assertEquals(RESPONSE_1, first);
+        Assertions.assertEquals(RESPONSE_2, second);
+        Assertions.assertEquals(0L, underTest.getHits());
+        Assertions.assertEquals(0L, underTest.getMisses());
+        verify(delegate, times(2)).fetch(eq(post));
+    }
+
+    @Test
+    void testFetchShouldNotCacheFailures() {
+        //given
+        final HttpClient delegate = mock(HttpClient.class);
+        when(delegate.fetch(any(HttpRequestContext.class)))
+                .thenThrow(new AbortTransformationException(URI_1))
+                .thenReturn(RESPONSE_1);
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, MAX_ENTRIES, UNLIMITED_BYTES, fixedClock());
+
+        //when
+        Assertions.assertThrows(AbortTransformationException.class, () -> underTest.fetch(context(URI_1)));
+        final String actual = underTest.fetch(context(URI_1));
+
+        //then
+        Assertions.assertEquals(RESPONSE_1, actual);
+        Assertions.assertEquals(2L, underTest.getMisses());
+    }
+
+    @Test
+    void testCloseShouldCloseDelegateWhenCloseable() throws Exception {
+        //given
+        final DefaultHttpClient delegate = mock(DefaultHttpClient.class);
+        final CachingHttpClient underTest = new CachingHttpClient(delegate, TTL, MAX_ENTRIES, UNLIMITED_BYTES);
+
+        //when
+        underTest.close();
+
+        //then
+        verify(delegate).close();
+    }
+
+    @Test
+    void testConstructorShouldThrowExceptionWhenMaxEntriesIsNotPositive() {
+        //given
+        final HttpClient delegate = mock(HttpClient.class);
+
+        //when + then exception
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingHttpClient(delegate, TTL, 0, UNLIMITED_BYTES));
+    }
+
+    private HttpClient mockDelegate() {
+        final HttpClient delegate = mock(HttpClient.class);
+        when(delegate.fetch(eq(context(URI_1)))).thenReturn(RESPONSE_1);
+        when(delegate.fetch(eq(context(URI_2)))).thenReturn(RESPONSE_2);
+        when(delegate.fetch(eq(context(URI_3)))).thenReturn(RESPONSE_3);
+        return delegate;
+    }
+
+    private Clock fixedClock() {
+        final Clock clock = Mockito.mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW);
+        return clock;
+    }
+
+    private HttpRequestContext context(final String uri) {
+        return HttpRequestContext.builder().uri(uri).build();
+    }
+}
@@ -5,12 +5,18 @@ import com.github.nagyesta.yippeekijson.core.config.entities.HttpConfig;
 import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
 import com.github.nagyesta.yippeekijson.core.http.HttpClient;
 import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.HttpResponseContent;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.HttpFetchEvent;
+import com.github.nagyesta.yippeekijson.core.metrics.jfr.JfrEvents;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.matching.EqualToPattern;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -21,8 +27,17 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
@@ -39,12 +54,16 @@ class DefaultHttpClientTest {
     private static final String USER_AGENT_VALUE = "user agent";
     private static final int SUCCESS_STATUS_MIN = 200;
     private static final int SUCCESS_STATUS_MAX = 299;
+    private static final int STATUS_OK = 200;
     private static final int TIMEOUT_SECONDS = 5;
     private static final int TIMEOUT_OFF = 0;
     private static final String SUCCESS_JSON = "/success.json";
     private static final String FAILURE_JSON = "/failure.json";
     private static final String GET = "GET";
     private static final String POST = "POST";
+    private static final int THREADS = 4;
+    private static final String E_TAG_JSON = "/etag.json";
+    private static final String E_TAG_VALUE = "\"v1\"";
 
     private static WireMockServer wireMockServer;
 
@@ -85,6 +104,16 @@ class DefaultHttpClientTest {
                 .build();
     }
 
+    private static Stream<Arguments> pooledClientSource() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(java.net.http.HttpClient.Version.HTTP_1_1, 0))
+                .add(Arguments.of(java.net.http.HttpClient.Version.HTTP_1_1, THREADS))
+                .add(Arguments.of(java.net.http.HttpClient.Version.HTTP_2, 0))
+                .add(Arguments.of(java.net.http.HttpClient.Version.HTTP_2, THREADS))
+                .add(Arguments.of(null, 0))
+                .build();
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {GET, POST})
     void testFetchShouldSendRequestAndProcessSuccessResponse(final String method) {
@@ -106,6 +135,42 @@ class DefaultHttpClientTest {
         Assertions.assertEquals(SUCCESS_TRUE, actual);
     }
 
+    @Test
+    void testFetchShouldEmitHttpFetchEventWhenJfrEventsAreRegistered() throws IOException {
+        //given
+        String baseUrl = wireMockServer.baseUrl();
+
+        final HttpRequestContext requestContext = HttpRequestContext.builder()
+                .httpMethod(GET)
+                .uri(baseUrl + SUCCESS_JSON)
+                .build();
+
+        HttpConfig config = httpConfig(true, TIMEOUT_OFF);
+        HttpClient underTest = new DefaultHttpClient(config);
+        JfrEvents.register();
+        final Path dump = Files.createTempFile("yippee-http", ".jfr");
+
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpFetchEvent.class);
+            recording.start();
+            underTest.fetch(requestContext);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        //then
+        final long threadId = Thread.currentThread().getId();
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(e -> e.getThread() != null && e.getThread().getJavaThreadId() == threadId)
+                .collect(Collectors.toList());
+        Files.delete(dump);
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(baseUrl + SUCCESS_JSON, events.get(0).getString("uri"));
+        Assertions.assertEquals(STATUS_OK, events.get(0).getInt("status"));
+        Assertions.assertEquals(SUCCESS_TRUE.length(), events.get(0).getLong("responseSize"));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {GET, POST})
     void testFetchShouldSendRequestAndThrowExceptionForWrongStatusCode(final String method) {
@@ -153,6 +218,113 @@ class DefaultHttpClientTest {
         Assertions.assertEquals(SUCCESS_TRUE, actual);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2})
+    void testFetchShouldSendConcurrentRequestsWhenRequestLimitIsSet(final int maxConcurrentRequests) throws Exception {
+        //given
+        String baseUrl = wireMockServer.baseUrl();
+
+        final HttpRequestContext requestContext = HttpRequestContext.builder()
+                .uri(baseUrl + SUCCESS_JSON)
+                .build();
+
+        HttpConfig config = HttpConfig.builder()
+                .addDefaultHeaders(true)
+                .maxSuccessStatus(SUCCESS_STATUS_MAX)
+                .minSuccessStatus(SUCCESS_STATUS_MIN)
+                .timeoutSeconds(TIMEOUT_SECONDS)
+                .userAgent(USER_AGENT_VALUE)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .build();
+        HttpClient underTest = new DefaultHttpClient(config);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            //when
+            final List<Future<String>> actual = executorService.invokeAll(
+                    Collections.nCopies(THREADS, () -> underTest.fetch(requestContext)));
+
+            //then
+            for (final Future<String> future : actual) {
+                Assertions.assertEquals(SUCCESS_TRUE, future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("pooledClientSource")
+    void testFetchShouldReuseSharedClientWhenPoolIsConfigured(final java.net.http.HttpClient.Version version,
+                                                              final int executorThreads) {
+        //given
+        String baseUrl = wireMockServer.baseUrl();
+
+        final HttpRequestContext requestContext = HttpRequestContext.builder()
+                .uri(baseUrl + SUCCESS_JSON)
+                .build();
+
+        HttpConfig config = HttpConfig.builder()
+                .addDefaultHeaders(true)
+                .maxSuccessStatus(SUCCESS_STATUS_MAX)
+                .minSuccessStatus(SUCCESS_STATUS_MIN)
+                .timeoutSeconds(TIMEOUT_SECONDS)
+                .connectTimeoutSeconds(TIMEOUT_SECONDS)
+                .userAgent(USER_AGENT_VALUE)
+                .httpVersion(version)
+                .executorThreads(executorThreads)
+                .build();
+
+        try (DefaultHttpClient underTest = new DefaultHttpClient(config)) {
+            //when
+            final String first = underTest.fetch(requestContext);
+            final String second = underTest.fetch(requestContext);
+
+            //then
+            Assertions.assertEquals(SUCCESS_TRUE, first);
+            Assertions.assertEquals(SUCCESS_TRUE, second);
+        }
+    }
+
+    @Test
+    void testFetchResponseShouldReturnValidatorsAndAcceptNotModified() {
+        //given
+        String baseUrl = wireMockServer.baseUrl();
+        wireMockServer.addStubMapping(WireMock.get(E_TAG_JSON)
+                .atPriority(1)
+                .withHeader(IF_NONE_MATCH, new EqualToPattern(E_TAG_VALUE))
+                .willReturn(WireMock.aResponse().withStatus(HttpResponseContent.NOT_MODIFIED).withHeader(ETAG, E_TAG_VALUE))
+                .build());
+        wireMockServer.addStubMapping(WireMock.get(E_TAG_JSON)
+                .atPriority(2)
+                .willReturn(ResponseDefinitionBuilder.okForJson(JSON_MAP).withHeader(ETAG, E_TAG_VALUE))
+                .build());
+
+        final HttpRequestContext requestContext = HttpRequestContext.builder()
+                .uri(baseUrl + E_TAG_JSON)
+                .build();
+        final HttpRequestContext conditionalContext = HttpRequestContext.builder()
+                .uri(baseUrl + E_TAG_JSON)
+                .addHeader(IF_NONE_MATCH, E_TAG_VALUE)
+                .build();
+
+        HttpConfig config = httpConfig(true, TIMEOUT_OFF);
+        HttpClient underTest = new DefaultHttpClient(config);
+
+        //when
+        final HttpResponseContent full = underTest.fetchResponse(requestContext);
+        final HttpResponseContent notModified = underTest.fetchResponse(conditionalContext);
+
+        //then
+        Assertions.assertFalse(full.isNotModified());
+        Assertions.assertEquals(SUCCESS_TRUE, full.getBody());
+        Assertions.assertEquals(E_TAG_VALUE, full.getETag());
+        Assertions.assertTrue(notModified.isNotModified());
+        Assertions.assertNull(notModified.getBody());
+        Assertions.assertEquals(E_TAG_VALUE, notModified.getETag());
+        Assertions.assertThrows(AbortTransformationException.class, () -> underTest.fetch(conditionalContext));
+    }
+
     @Test
     void testFetchShouldThrowExceptionForNull() {
         //given
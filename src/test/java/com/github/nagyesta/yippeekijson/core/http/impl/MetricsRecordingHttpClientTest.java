@@ -0,0 +1,55 @@
+package com.github.nagyesta.yippeekijson.core.http.impl;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.metrics.RunMetrics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class MetricsRecordingHttpClientTest {
+
+    private static final String URI = "http://localhost/1.json";
+    private static final String RESPONSE = "{\"id\":1}";
+
+    @Test
+    void testFetchShouldRecordSuccessfulRequestWhenDelegateReturns() {
+        //given
+        final HttpClient delegate = mock(HttpClient.class);
+        final HttpRequestContext context = HttpRequestContext.builder().uri(URI).build();
+        when(delegate.fetch(context)).thenReturn(RESPONSE);
+        final RunMetrics runMetrics = mock(RunMetrics.class);
+        final MetricsRecordingHttpClient underTest = new MetricsRecordingHttpClient(delegate, runMetrics);
+
+        //when
+        final String actual = underTest.fetch(HttpRequestContext.builder().build(), context);
+
+        //then
+        Assertions.assertEquals(RESPONSE, actual);
+        verify(runMetrics).recordHttpFetch(eq(true), anyLong());
+        verifyNoMoreInteractions(runMetrics);
+    }
+
+    @Test
+    void testFetchResponseShouldRecordFailedRequestWhenDelegateThrowsException() {
+        //given
+        final HttpClient delegate = mock(HttpClient.class);
+        final HttpRequestContext context = HttpRequestContext.builder().uri(URI).build();
+        when(delegate.fetchResponse(context)).thenThrow(new AbortTransformationException(URI));
+        final RunMetrics runMetrics = mock(RunMetrics.class);
+        final MetricsRecordingHttpClient underTest = new MetricsRecordingHttpClient(delegate, runMetrics);
+
+        //when
+        Assertions.assertThrows(AbortTransformationException.class, () -> underTest.fetchResponse(context));
+
+        //then
+        verify(runMetrics).recordHttpFetch(eq(false), anyLong());
+        verifyNoMoreInteractions(runMetrics);
+    }
+}
@@ -0,0 +1,298 @@
+package com.github.nagyesta.yippeekijson.core.http.impl;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.config.entities.SchemaStoreConfig;
+import com.github.nagyesta.yippeekijson.core.exception.AbortTransformationException;
+import com.github.nagyesta.yippeekijson.core.http.HttpClient;
+import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.HttpResponseContent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@LaunchAbortArmed
+class PersistentResourceCacheTest {
+
+    private static final String URI = "http://localhost/catalog.json";
+    private static final String OTHER_URI = "http://localhost/schema.json";
+    private static final String CONTENT = "{\"schemas\":[]}";
+    private static final String OTHER_CONTENT = "{\"schemas\":[{}]}";
+    private static final String E_TAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final int OK = 200;
+    private static final int MAX_AGE_SECONDS = 60;
+    private static final long NOW = 1000L;
+    private static final long LATER = NOW + MAX_AGE_SECONDS * 1000L;
+    private static final int THREADS = 4;
+    private static final long TIMEOUT_SECONDS = 10L;
+    private static final String META_SUFFIX = ".properties";
+    private static final String VALIDATED_AT = "validatedAt=";
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @Test
+    void testFetchShouldCallHttpClientOnlyOnceWhenCalledRepeatedly() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any())).thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, null));
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient,
+                SchemaStoreConfig.builder().cacheMaxAgeSeconds(MAX_AGE_SECONDS).build());
+
+        //when
+        final String first = underTest.fetch(context());
+        final String second = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, first);
+        Assertions.assertEquals(CONTENT, second);
+        verify(httpClient).fetchResponse(any());
+    }
+
+    @Test
+    void testFetchShouldRevalidateInMemoryContentWhenMaxAgeIsExceeded() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any()))
+                .thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, null))
+                .thenReturn(new HttpResponseContent(HttpResponseContent.NOT_MODIFIED, null, E_TAG, null));
+        final Clock clock = clock(NOW);
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient,
+                SchemaStoreConfig.builder().cacheMaxAgeSeconds(MAX_AGE_SECONDS).build(), clock);
+        underTest.fetch(context());
+        when(clock.millis()).thenReturn(LATER - 1);
+        underTest.fetch(context());
+        when(clock.millis()).thenReturn(LATER);
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, actual);
+        final ArgumentCaptor<HttpRequestContext> captor = ArgumentCaptor.forClass(HttpRequestContext.class);
+        verify(httpClient, times(2)).fetchResponse(captor.capture());
+        Assertions.assertEquals(E_TAG, captor.getAllValues().get(1).getHeaders().get(IF_NONE_MATCH).get(0));
+    }
+
+    @Test
+    void testFetchShouldNotRevalidateInMemoryContentWhenMaxAgeIsZero() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any())).thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, null));
+        final Clock clock = clock(NOW);
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config(0, false), clock);
+        underTest.fetch(context());
+        when(clock.millis()).thenReturn(LATER);
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, actual);
+        verify(httpClient).fetchResponse(any());
+    }
+
+    @Test
+    void testFetchShouldNotRewritePersistedMetadataWhenInMemoryContentIsNotModified() throws IOException {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any()))
+                .thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, null))
+                .thenReturn(new HttpResponseContent(HttpResponseContent.NOT_MODIFIED, null, E_TAG, null));
+        final Clock clock = clock(NOW);
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config(MAX_AGE_SECONDS, false), clock);
+        underTest.fetch(context());
+        when(clock.millis()).thenReturn(LATER);
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, actual);
+        verify(httpClient, times(2)).fetchResponse(any());
+        final Path metaFile;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            metaFile = files.filter(file -> file.toString().endsWith(META_SUFFIX)).findFirst().orElseThrow();
+        }
+        Assertions.assertTrue(Files.readString(metaFile).contains(VALIDATED_AT + NOW));
+    }
+
+    @Test
+    void testFetchShouldAllowNestedFetchWhenOtherResourceIsFetchedWhileLoading() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient,
+                SchemaStoreConfig.builder().cacheMaxAgeSeconds(MAX_AGE_SECONDS).build());
+        when(httpClient.fetchResponse(any())).thenAnswer(invocation -> {
+            final HttpRequestContext request = invocation.getArgument(0);
+            if (URI.equals(request.getUri())) {
+                return new HttpResponseContent(OK, underTest.fetch(HttpRequestContext.builder().uri(OTHER_URI).build()), null, null);
+            }
+            return new HttpResponseContent(OK, OTHER_CONTENT, null, null);
+        });
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(OTHER_CONTENT, actual);
+        verify(httpClient, times(2)).fetchResponse(any());
+    }
+
+    @Test
+    void testFetchShouldLoadResourceOnlyOnceWhenFetchedConcurrently() throws InterruptedException {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(httpClient.fetchResponse(any())).thenAnswer(invocation -> {
+            loading.countDown();
+            Assertions.assertTrue(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            return new HttpResponseContent(OK, CONTENT, null, null);
+        });
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient,
+                SchemaStoreConfig.builder().cacheMaxAgeSeconds(MAX_AGE_SECONDS).build());
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        //when
+        final List<Future<String>> results = IntStream.range(0, THREADS)
+                .mapToObj(i -> executor.submit(() -> underTest.fetch(context())))
+                .collect(Collectors.toList());
+        Assertions.assertTrue(loading.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        release.countDown();
+
+        //then
+        for (final Future<String> result : results) {
+            Assertions.assertEquals(CONTENT, Assertions.assertDoesNotThrow(() -> result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+        }
+        executor.shutdownNow();
+        verify(httpClient).fetchResponse(any());
+    }
+
+    @Test
+    void testFetchShouldRevalidateAndReusePersistedContentWhenNotModified() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any()))
+                .thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, LAST_MODIFIED))
+                .thenReturn(new HttpResponseContent(HttpResponseContent.NOT_MODIFIED, null, E_TAG, LAST_MODIFIED));
+        final SchemaStoreConfig config = config(0, false);
+        new PersistentResourceCache(httpClient, config, clock(NOW)).fetch(context());
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config, clock(LATER));
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, actual);
+        final ArgumentCaptor<HttpRequestContext> captor = ArgumentCaptor.forClass(HttpRequestContext.class);
+        verify(httpClient, times(2)).fetchResponse(captor.capture());
+        final HttpRequestContext conditional = captor.getAllValues().get(1);
+        Assertions.assertEquals(E_TAG, conditional.getHeaders().get(IF_NONE_MATCH).get(0));
+        Assertions.assertEquals(LAST_MODIFIED, conditional.getHeaders().get(IF_MODIFIED_SINCE).get(0));
+    }
+
+    @Test
+    void testFetchShouldReplacePersistedContentWhenModified() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any()))
+                .thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, null))
+                .thenReturn(new HttpResponseContent(OK, OTHER_CONTENT, null, null));
+        final SchemaStoreConfig config = config(0, false);
+        new PersistentResourceCache(httpClient, config, clock(NOW)).fetch(context());
+        new PersistentResourceCache(httpClient, config, clock(LATER)).fetch(context());
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config(0, true), clock(LATER));
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(OTHER_CONTENT, actual);
+        verify(httpClient, times(2)).fetchResponse(any());
+    }
+
+    @Test
+    void testFetchShouldNotCallHttpClientWhenPersistedContentIsFresh() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any())).thenReturn(new HttpResponseContent(OK, CONTENT, null, null));
+        final SchemaStoreConfig config = config(MAX_AGE_SECONDS, false);
+        new PersistentResourceCache(httpClient, config, clock(NOW)).fetch(context());
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config, clock(LATER - 1));
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, actual);
+        verify(httpClient).fetchResponse(any());
+    }
+
+    @Test
+    void testFetchShouldReturnPersistedContentWhenRevalidationFails() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetchResponse(any()))
+                .thenReturn(new HttpResponseContent(OK, CONTENT, E_TAG, null))
+                .thenThrow(new AbortTransformationException(URI));
+        final SchemaStoreConfig config = config(0, false);
+        new PersistentResourceCache(httpClient, config, clock(NOW)).fetch(context());
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config, clock(LATER));
+
+        //when
+        final String actual = underTest.fetch(context());
+
+        //then
+        Assertions.assertEquals(CONTENT, actual);
+    }
+
+    @Test
+    void testFetchShouldThrowExceptionWhenOfflineAndNotCached() {
+        //given
+        final HttpClient httpClient = mock(HttpClient.class);
+        final PersistentResourceCache underTest = new PersistentResourceCache(httpClient, config(0, true), clock(NOW));
+
+        //when + then exception
+        Assertions.assertThrows(AbortTransformationException.class, () -> underTest.fetch(context()));
+        verifyNoInteractions(httpClient);
+    }
+
+    private SchemaStoreConfig config(final int maxAgeSeconds, final boolean offline) {
+        return SchemaStoreConfig.builder()
+                .cacheDirectory(cacheDirectory.toString())
+                .cacheMaxAgeSeconds(maxAgeSeconds)
+                .offline(offline)
+                .build();
+    }
+
+    private Clock clock(final long millis) {
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(millis);
+        return clock;
+    }
+
+    private HttpRequestContext context() {
+        return HttpRequestContext.builder().uri(URI).build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.nagyesta.yippeekijson.core.metrics;
+
+import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawJsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.JsonRule;
+import com.github.nagyesta.yippeekijson.core.rule.impl.JsonDeleteRule;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+@LaunchAbortArmed
+class RunMetricsImplTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1_600_000_000L), ZoneOffset.UTC);
+    private static final String ACTION = "action \"quoted\"";
+    private static final int ORDER = 2;
+    private static final long NANOS = 1_500_000_000L;
+    private static final long VISITED = 3L;
+    private static final long MATCHED = 1L;
+    private static final long READ = 10L;
+    private static final long WRITTEN = 12L;
+
+    @Test
+    void testPrometheusTextShouldContainRecordedValuesWithEscapedLabels() {
+        //given
+        final RunMetricsImpl underTest = new RunMetricsImpl(true, CLOCK);
+        final JsonRule rule = deleteRule();
+        final PredicateOutcomes outcomes = outcomes();
+        underTest.recordRule(ACTION, rule, NANOS, VISITED, MATCHED, outcomes);
+        underTest.recordRule(ACTION, rule, NANOS, VISITED, MATCHED, outcomes);
+        underTest.recordFile(true, READ, WRITTEN);
+        underTest.recordHttpFetch(false, NANOS);
+
+        //when
+        final String actual = underTest.prometheusText();
+
+        //then
+        final String labels = "{action=\"action \\\"quoted\\\"\",order=\"2\",rule=\"delete\"}";
+        Assertions.assertTrue(actual.contains("# TYPE yippee_rule_executions_total counter\n"));
+        Assertions.assertTrue(actual.contains("yippee_rule_executions_total" + labels + " 2\n"));
+        Assertions.assertTrue(actual.contains("yippee_rule_seconds_total" + labels + " 3.0\n"));
+        Assertions.assertTrue(actual.contains("yippee_rule_nodes_visited_total" + labels + " 6\n"));
+        Assertions.assertTrue(actual.contains("yippee_rule_nodes_matched_total" + labels + " 2\n"));
+        Assertions.assertTrue(actual.contains("yippee_rule_predicate_outcomes_total"
+                + "{action=\"action \\\"quoted\\\"\",order=\"2\",outcome=\"false\",rule=\"delete\"} 2\n"));
+        Assertions.assertTrue(actual.contains("yippee_rule_predicate_outcomes_total"
+                + "{action=\"action \\\"quoted\\\"\",order=\"2\",outcome=\"true\",rule=\"delete\"} 4\n"));
+        Assertions.assertTrue(actual.contains("yippee_read_bytes_total 10\n"));
+        Assertions.assertTrue(actual.contains("yippee_written_bytes_total 12\n"));
+        Assertions.assertTrue(actual.contains("yippee_http_fetch_total{result=\"failure\"} 1\n"));
+        Assertions.assertTrue(actual.contains("yippee_http_fetch_seconds_total{result=\"failure\"} 1.5\n"));
+        Assertions.assertTrue(actual.contains("yippee_last_run_timestamp_seconds 1.6E9\n"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testSnapshotShouldContainRecordedValues() {
+        //given
+        final RunMetricsImpl underTest = new RunMetricsImpl(true, CLOCK);
+        underTest.recordRule(ACTION, deleteRule(), NANOS, VISITED, MATCHED, outcomes());
+        underTest.recordParse(NANOS);
+        underTest.recordSerialize(NANOS);
+
+        //when
+        final Map<String, Object> actual = underTest.snapshot();
+
+        //then
+        Assertions.assertEquals(CLOCK.instant().toString(), actual.get("timestamp"));
+        final List<Map<String, Object>> rules = (List<Map<String, Object>>) actual.get("rules");
+        Assertions.assertEquals(1, rules.size());
+        Assertions.assertEquals(ACTION, rules.get(0).get("action"));
+        Assertions.assertEquals(ORDER, rules.get(0).get("order"));
+        Assertions.assertEquals("delete", rules.get(0).get("rule"));
+        Assertions.assertEquals(VISITED, rules.get(0).get("nodesVisited"));
+        Assertions.assertEquals(MATCHED, rules.get(0).get("nodesMatched"));
+        Assertions.assertEquals(2L, rules.get(0).get("predicateTrue"));
+        Assertions.assertEquals(1L, rules.get(0).get("predicateFalse"));
+        Assertions.assertEquals(1L, ((Map<String, Object>) actual.get("parse")).get("count"));
+        Assertions.assertEquals(1L, ((Map<String, Object>) actual.get("serialize")).get("count"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testRecordRuleShouldMergeRulesWithSameLabelsWhenCalled() {
+        //given
+        final RunMetricsImpl underTest = new RunMetricsImpl(true, CLOCK);
+
+        //when
+        underTest.recordRule(ACTION, deleteRule(), NANOS, VISITED, MATCHED, outcomes());
+        underTest.recordRule(ACTION, deleteRule(), NANOS, VISITED, MATCHED, outcomes());
+
+        //then
+        final List<Map<String, Object>> rules = (List<Map<String, Object>>) underTest.snapshot().get("rules");
+        Assertions.assertEquals(1, rules.size());
+        Assertions.assertEquals(2L, rules.get(0).get("count"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testResetShouldDiscardRecordedValuesWhenCalled() {
+        //given
+        final RunMetricsImpl underTest = new RunMetricsImpl(true, CLOCK);
+        underTest.recordRule(ACTION, deleteRule(), NANOS, VISITED, MATCHED, outcomes());
+        underTest.recordParse(NANOS);
+        underTest.recordFile(true, READ, WRITTEN);
+        underTest.recordHttpFetch(true, NANOS);
+
+        //when
+        underTest.reset();
+
+        //then
+        final Map<String, Object> actual = underTest.snapshot();
+        Assertions.assertTrue(((List<Map<String, Object>>) actual.get("rules")).isEmpty());
+        Assertions.assertEquals(0L, ((Map<String, Object>) actual.get("parse")).get("count"));
+        Assertions.assertEquals(0L, ((Map<String, Object>) actual.get("files")).get("success"));
+        Assertions.assertEquals(0L, ((Map<String, Object>) actual.get("bytes")).get("read"));
+        Assertions.assertTrue(underTest.prometheusText().contains("yippee_http_fetch_total{result=\"success\"} 0\n"));
+    }
+
+    @Test
+    void testExportShouldReplaceTargetFilesWithoutLeavingTemporaryFiles() throws IOException {
+        //given
+        final File directory = Files.createTempDirectory("yippee-metrics").toFile();
+        final File prometheus = new File(directory, "yippee.prom");
+        final File json = new File(directory, "yippee.json");
+        FileUtils.write(prometheus, "old", StandardCharsets.UTF_8);
+        final RunMetricsImpl underTest = new RunMetricsImpl(true, CLOCK);
+        underTest.recordFile(false, READ, 0L);
+
+        //when
+        underTest.exportPrometheus(prometheus);
+        underTest.exportJson(json);
+
+        //then
+        Assertions.assertEquals(underTest.prometheusText(), FileUtils.readFileToString(prometheus, StandardCharsets.UTF_8));
+        Assertions.assertTrue(FileUtils.readFileToString(json, StandardCharsets.UTF_8).contains("\"failure\" : 1"));
+        Assertions.assertEquals(2, directory.list().length);
+        FileUtils.deleteQuietly(directory);
+    }
+
+    private static PredicateOutcomes outcomes() {
+        final PredicateOutcomes outcomes = PredicateOutcomes.start();
+        PredicateOutcomes.record(true);
+        PredicateOutcomes.record(false);
+        PredicateOutcomes.record(true);
+        PredicateOutcomes.stop();
+        PredicateOutcomes.record(false);
+        return outcomes;
+    }
+
+    private static JsonRule deleteRule() {
+        return new JsonDeleteRule(RawJsonRule.builder()
+                .path("$.id")
+                .name("delete")
+                .order(ORDER)
+                .build());
+    }
+}
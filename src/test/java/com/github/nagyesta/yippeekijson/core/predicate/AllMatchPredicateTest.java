@@ -3,6 +3,7 @@ package com.github.nagyesta.yippeekijson.core.predicate;
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawConfigParam;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatisticsImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -39,12 +40,15 @@ class AllMatchPredicateTest {
                 .add(Arguments.of(false, null, NON_NULL_INTEGER))
                 .add(Arguments.of(false, null, NON_NULL_STRING))
                 .add(Arguments.of(true, VALUE, NON_NULL_STRING))
-                .build();
+                .build()
+                .flatMap(arguments -> Stream.of(false, true)
+                        .map(adaptive -> Arguments.of(arguments.get()[0], arguments.get()[1], arguments.get()[2], adaptive)));
     }
 
     @ParameterizedTest
     @MethodSource("validProvider")
-    void testTestShouldEvaluateChildren(final boolean expected, final Object value, final Predicate<Object>[] predicates) {
+    void testTestShouldEvaluateChildren(final boolean expected, final Object value, final Predicate<Object>[] predicates,
+                                        final boolean adaptive) {
         //given
         final List<Map<String, RawConfigParam>> dummyParams = Arrays.stream(predicates)
                 .map(p -> EMPTY_MAP)
@@ -55,7 +59,8 @@ class AllMatchPredicateTest {
         final Predicate<Object>[] restOfPredicates = Arrays.copyOfRange(predicates, 1, predicates.length);
         when(functionRegistry.lookupPredicate(anyMap())).thenReturn(firstPredicate, restOfPredicates);
 
-        AllMatchPredicate underTest = new AllMatchPredicate(dummyParams, functionRegistry);
+        AllMatchPredicate underTest = new AllMatchPredicate(dummyParams, functionRegistry,
+                new PredicateStatisticsImpl(adaptive));
 
         //when
         final boolean actual = underTest.test(value);
@@ -3,6 +3,7 @@ package com.github.nagyesta.yippeekijson.core.predicate;
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawConfigParam;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatisticsImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -32,6 +33,18 @@ class AnyMatchPredicateTest {
     private static final Predicate<Object>[] IS_NULL_STRING = new Predicate[]{IS_NULL, STRING};
     @SuppressWarnings("unchecked")
     private static final Predicate<Object>[] IS_NULL_INTEGER = new Predicate[]{IS_NULL, INTEGER};
+    @SuppressWarnings("unchecked")
+    private static final Predicate<Object>[] LOWER_OR_NUMERIC = new Predicate[]{
+            new RegexPredicate("[a-z]+"), new RegexPredicate("[0-9]+")};
+    @SuppressWarnings("unchecked")
+    private static final Predicate<Object>[] BACK_REFERENCE_OR_NUMERIC = new Predicate[]{
+            new RegexPredicate("([a-z])\\1"), new RegexPredicate("[0-9]+")};
+    @SuppressWarnings("unchecked")
+    private static final Predicate<Object>[] SAME_GROUP_NAMES = new Predicate[]{
+            new RegexPredicate("(?<name>[a-z]+)"), new RegexPredicate("(?<name>[0-9]+)")};
+    private static final String NUMBER = "42";
+    private static final String DOUBLE_LETTER = "aa";
+    private static final String MIXED = "Value42";
 
     private static Stream<Arguments> validProvider() {
         return Stream.<Arguments>builder()
@@ -39,12 +52,24 @@ class AnyMatchPredicateTest {
                 .add(Arguments.of(true, null, IS_NULL_INTEGER))
                 .add(Arguments.of(true, null, IS_NULL_STRING))
                 .add(Arguments.of(true, VALUE, IS_NULL_STRING))
-                .build();
+                .add(Arguments.of(true, VALUE, LOWER_OR_NUMERIC))
+                .add(Arguments.of(true, NUMBER, LOWER_OR_NUMERIC))
+                .add(Arguments.of(false, MIXED, LOWER_OR_NUMERIC))
+                .add(Arguments.of(false, 1, LOWER_OR_NUMERIC))
+                .add(Arguments.of(false, null, LOWER_OR_NUMERIC))
+                .add(Arguments.of(true, DOUBLE_LETTER, BACK_REFERENCE_OR_NUMERIC))
+                .add(Arguments.of(false, VALUE, BACK_REFERENCE_OR_NUMERIC))
+                .add(Arguments.of(true, NUMBER, SAME_GROUP_NAMES))
+                .add(Arguments.of(false, MIXED, SAME_GROUP_NAMES))
+                .build()
+                .flatMap(arguments -> Stream.of(false, true)
+                        .map(adaptive -> Arguments.of(arguments.get()[0], arguments.get()[1], arguments.get()[2], adaptive)));
     }
 
     @ParameterizedTest
     @MethodSource("validProvider")
-    void testTestShouldEvaluateChildren(final boolean expected, final Object value, final Predicate<Object>[] predicates) {
+    void testTestShouldEvaluateChildren(final boolean expected, final Object value, final Predicate<Object>[] predicates,
+                                        final boolean adaptive) {
         //given
         final List<Map<String, RawConfigParam>> dummyParams = Arrays.stream(predicates)
                 .map(p -> EMPTY_MAP)
@@ -55,7 +80,8 @@ class AnyMatchPredicateTest {
         final Predicate<Object>[] restOfPredicates = Arrays.copyOfRange(predicates, 1, predicates.length);
         when(functionRegistry.lookupPredicate(anyMap())).thenReturn(firstPredicate, restOfPredicates);
 
-        AnyMatchPredicate underTest = new AnyMatchPredicate(dummyParams, functionRegistry);
+        AnyMatchPredicate underTest = new AnyMatchPredicate(dummyParams, functionRegistry,
+                new PredicateStatisticsImpl(adaptive));
 
         //when
         final boolean actual = underTest.test(value);
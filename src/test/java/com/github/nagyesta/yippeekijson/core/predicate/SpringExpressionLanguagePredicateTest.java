@@ -1,6 +1,7 @@
 package com.github.nagyesta.yippeekijson.core.predicate;
 
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
+import com.github.nagyesta.yippeekijson.core.predicate.helper.PredicateStatisticsImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -8,7 +9,9 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.expression.spel.SpelCompilerMode;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -22,11 +25,26 @@ class SpringExpressionLanguagePredicateTest {
     private static final String MAP_ENTRY_WITH_KEY_HAS_VALUE_FORTY_TWO = "(#root instanceof T(java.util.Map)) && #root['key'] == 42";
     private static final int INT_42 = 42;
     private static final String KEY = "key";
+    private static final String MAP_PROPERTY_KEY_IS_FORTY_TWO = "key == 42";
+    private static final String LONGER_THAN_TWO = "toString().length() > 2";
+    private static final String TEXT = "text";
+    private static final int INT_123 = 123;
+    private static final String ASSIGNS_UNSEEN_VARIABLE = "(#seen == null) && ((#seen = #root) != null)";
+    private static final String VARIABLE_IS_UNSEEN = "#seen == null";
+    private static final int EVALUATIONS_AFTER_COMPILATION = 101;
+    private static final String MATCHED = "matched";
+    private static final String MATCHED_ONCE_NOT_MATCHED_ONCE = "matched: 1, not matched: 1";
+
+    private static Stream<Arguments> compilerModeSupplier() {
+        return Stream.of(SpelCompilerMode.values())
+                .flatMap(mode -> positiveMatchSupplier().map(arguments -> Arguments.of(mode, arguments.get()[0], arguments.get()[1])));
+    }
 
     private static Stream<Arguments> positiveMatchSupplier() {
         return Stream.<Arguments>builder()
                 .add(Arguments.of(IS_FORTY_TWO, INT_42))
                 .add(Arguments.of(MAP_ENTRY_WITH_KEY_HAS_VALUE_FORTY_TWO, Map.of(KEY, INT_42)))
+                .add(Arguments.of(MAP_PROPERTY_KEY_IS_FORTY_TWO, Map.of(KEY, INT_42)))
                 .build();
     }
 
@@ -42,7 +60,7 @@ class SpringExpressionLanguagePredicateTest {
     @MethodSource("positiveMatchSupplier")
     void testTestShouldMatchForPositiveCases(final String expression, final Object value) {
         //given
-        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression);
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression, SpelCompilerMode.MIXED);
 
         //when
         final boolean actual = underTest.test(value);
@@ -55,7 +73,7 @@ class SpringExpressionLanguagePredicateTest {
     @MethodSource("negativeMatchSupplier")
     void testTestShouldNotMatchForNegativeCases(final String expression, final Object value) {
         //given
-        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression);
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression, SpelCompilerMode.MIXED);
 
         //when
         final boolean actual = underTest.test(value);
@@ -68,7 +86,8 @@ class SpringExpressionLanguagePredicateTest {
     @Test
     void testTestShouldFailForInvalidInput() {
         //given
-        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(MAP_ENTRY_WITH_KEY_HAS_VALUE_FORTY_TWO);
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(
+                MAP_ENTRY_WITH_KEY_HAS_VALUE_FORTY_TWO, SpelCompilerMode.MIXED);
         final Map<String, Integer> map = mock(Map.class);
         when(map.get(eq(KEY))).thenThrow(new IllegalStateException());
 
@@ -82,14 +101,15 @@ class SpringExpressionLanguagePredicateTest {
     void testConstructorShouldFailForInvalidInput(final String expression) {
         //given
         //when + then exception
-        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpringExpressionLanguagePredicate(expression));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SpringExpressionLanguagePredicate(expression, SpelCompilerMode.MIXED));
     }
 
     @ParameterizedTest
     @ValueSource(strings = {IS_FORTY_TWO})
     void testToStringShouldContainClassNameAndExpression(final String expression) {
         //given
-        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression);
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression, SpelCompilerMode.MIXED);
 
         //when
         final String actual = underTest.toString();
@@ -98,4 +118,103 @@ class SpringExpressionLanguagePredicateTest {
         Assertions.assertTrue(actual.contains(SpringExpressionLanguagePredicate.class.getSimpleName()));
         Assertions.assertTrue(actual.contains(expression));
     }
+
+    @ParameterizedTest
+    @MethodSource("compilerModeSupplier")
+    void testTestShouldKeepMatchingWhenCalledRepeatedlyInEachCompilerMode(final SpelCompilerMode mode,
+                                                                          final String expression,
+                                                                          final Object value) {
+        //given
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(expression, mode);
+
+        //when
+        for (int i = 0; i < EVALUATIONS_AFTER_COMPILATION; i++) {
+            Assertions.assertTrue(underTest.test(value));
+        }
+
+        //then
+        Assertions.assertEquals(EVALUATIONS_AFTER_COMPILATION, underTest.getMatched());
+        Assertions.assertEquals(0L, underTest.getNotMatched());
+    }
+
+    @Test
+    void testTestShouldFallBackToInterpretedModeWhenCompiledExpressionCannotHandleValueInMixedMode() {
+        //given
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(
+                LONGER_THAN_TWO, SpelCompilerMode.MIXED);
+        for (int i = 0; i < EVALUATIONS_AFTER_COMPILATION; i++) {
+            underTest.test(TEXT);
+        }
+
+        //when
+        final boolean actual = underTest.test(INT_123);
+
+        //then
+        Assertions.assertTrue(actual);
+    }
+
+    @Test
+    void testTestShouldThrowExceptionWhenCompiledExpressionCannotHandleValueInImmediateMode() {
+        //given
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(
+                LONGER_THAN_TWO, SpelCompilerMode.IMMEDIATE);
+        for (int i = 0; i < EVALUATIONS_AFTER_COMPILATION; i++) {
+            underTest.test(TEXT);
+        }
+
+        //when + then exception
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.test(INT_123));
+    }
+
+    @Test
+    void testConstructorShouldRegisterPredicateForReportingWhenCalled() {
+        //given
+        final PredicateStatisticsImpl predicateStatistics = new PredicateStatisticsImpl(false, SpelCompilerMode.IMMEDIATE);
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(IS_FORTY_TWO, predicateStatistics);
+        Assertions.assertTrue(predicateStatistics.summary().isEmpty());
+
+        //when
+        underTest.test(INT_42);
+        underTest.test(INT_123);
+
+        //then
+        final List<String> actual = predicateStatistics.summary();
+        Assertions.assertEquals(1, actual.size());
+        Assertions.assertTrue(actual.get(0).contains(IS_FORTY_TWO));
+        Assertions.assertTrue(actual.get(0).endsWith(MATCHED_ONCE_NOT_MATCHED_ONCE));
+        Assertions.assertFalse(underTest.toString().contains(MATCHED));
+    }
+
+    @Test
+    void testTestShouldCountMatchesAndMisses() {
+        //given
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(IS_FORTY_TWO, SpelCompilerMode.MIXED);
+
+        //when
+        underTest.test(INT_42);
+        underTest.test(null);
+        underTest.test(false);
+
+        //then
+        Assertions.assertEquals(1L, underTest.getMatched());
+        Assertions.assertEquals(2L, underTest.getNotMatched());
+    }
+
+    @Test
+    void testTestShouldNotLeakVariablesBetweenEvaluationsWhenExpressionAssignsVariable() {
+        //given
+        final SpringExpressionLanguagePredicate underTest = new SpringExpressionLanguagePredicate(
+                ASSIGNS_UNSEEN_VARIABLE, SpelCompilerMode.MIXED);
+        final SpringExpressionLanguagePredicate other = new SpringExpressionLanguagePredicate(VARIABLE_IS_UNSEEN, SpelCompilerMode.MIXED);
+
+        //when
+        for (int i = 0; i < EVALUATIONS_AFTER_COMPILATION; i++) {
+            Assertions.assertTrue(underTest.test(INT_42));
+        }
+        final boolean actual = other.test(INT_42);
+
+        //then
+        Assertions.assertTrue(actual);
+        Assertions.assertEquals(EVALUATIONS_AFTER_COMPILATION, underTest.getMatched());
+    }
 }
@@ -3,20 +3,43 @@ package com.github.nagyesta.yippeekijson.core.predicate.helper;
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
 import com.github.nagyesta.yippeekijson.core.config.parser.FunctionRegistry;
 import com.github.nagyesta.yippeekijson.core.config.parser.raw.RawConfigParam;
+import com.github.nagyesta.yippeekijson.core.predicate.RegexPredicate;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @LaunchAbortArmed
 class CombiningPredicateSupportTest {
 
+    private static final Map<String, RawConfigParam> EMPTY_MAP = Map.of();
+    private static final Predicate<Object> LOWER = new RegexPredicate("[a-z]+");
+    private static final Predicate<Object> UPPER = new RegexPredicate("[A-Z]+");
+    private static final Predicate<Object> IS_NULL = Objects::isNull;
+
+    private static Stream<Arguments> combinedProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(List.of(LOWER, UPPER), true))
+                .add(Arguments.of(List.of(LOWER, UPPER, LOWER), true))
+                .add(Arguments.of(List.of(LOWER), false))
+                .add(Arguments.of(List.of(LOWER, IS_NULL), false))
+                .add(Arguments.of(List.of(LOWER, new RegexPredicate("(a)\\1")), false))
+                .add(Arguments.of(List.of(new RegexPredicate("(?<a>a)"), new RegexPredicate("(?<a>b)")), false))
+                .build();
+    }
+
     private static Stream<Arguments> nullProvider() {
         return Stream.<Arguments>builder()
                 .add(Arguments.of(null, null))
@@ -32,11 +55,67 @@ class CombiningPredicateSupportTest {
         //given
 
         //when + then exception
-        Assertions.assertThrows(IllegalArgumentException.class, () -> new CombiningPredicateSupport(config, functionRegistry) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CombiningPredicateSupport(config, functionRegistry,
+                new PredicateStatisticsImpl(false)) {
             @Override
             public boolean test(final Object o) {
                 return false;
             }
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("combinedProvider")
+    void testConstructorShouldCombinePatternsOnlyWhenAllPredicatesAreCompatibleRegexPredicates(
+            final List<Predicate<Object>> predicates, final boolean expected) {
+        //given
+        final FunctionRegistry functionRegistry = mock(FunctionRegistry.class);
+        when(functionRegistry.lookupPredicate(anyMap())).thenReturn(predicates.get(0),
+                predicates.subList(1, predicates.size()).toArray(new Predicate[0]));
+        final List<Map<String, RawConfigParam>> config = predicates.stream().map(p -> EMPTY_MAP).toList();
+
+        //when
+        final CombiningPredicateSupport underTest = new CombiningPredicateSupport(config, functionRegistry,
+                new PredicateStatisticsImpl(false)) {
+            @Override
+            public boolean test(final Object o) {
+                return anyWrappedPredicateMatches(o);
+            }
+        };
+
+        //then
+        Assertions.assertEquals(expected, underTest.isCombinedPattern());
+        Assertions.assertEquals(predicates.size(), underTest.getWrappedPredicates().size());
+    }
+
+    @Test
+    void testAdaptiveOrderingShouldEvaluateTheShortCircuitingPredicateFirstAfterReordering() {
+        //given
+        final AtomicLong neverMatchingEvaluations = new AtomicLong();
+        final Predicate<Object> neverMatching = o -> {
+            neverMatchingEvaluations.incrementAndGet();
+            return false;
+        };
+        final Predicate<Object> alwaysMatching = o -> true;
+        final FunctionRegistry functionRegistry = mock(FunctionRegistry.class);
+        when(functionRegistry.lookupPredicate(anyMap())).thenReturn(neverMatching, alwaysMatching);
+        final PredicateStatisticsImpl predicateStatistics = new PredicateStatisticsImpl(true);
+        final CombiningPredicateSupport underTest = new CombiningPredicateSupport(List.of(EMPTY_MAP, EMPTY_MAP),
+                functionRegistry, predicateStatistics) {
+            @Override
+            public boolean test(final Object o) {
+                return anyWrappedPredicateMatches(o);
+            }
+        };
+
+        //when
+        for (long i = 0; i < 2 * CombiningPredicateSupport.REORDER_INTERVAL; i++) {
+            Assertions.assertTrue(underTest.test(i));
+        }
+
+        //then
+        Assertions.assertEquals(CombiningPredicateSupport.REORDER_INTERVAL, neverMatchingEvaluations.get());
+        Assertions.assertTrue(underTest.isEvaluated());
+        Assertions.assertEquals(1, predicateStatistics.summary().size());
+    }
 }
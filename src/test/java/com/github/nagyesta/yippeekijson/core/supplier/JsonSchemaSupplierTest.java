@@ -16,7 +16,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -27,6 +30,7 @@ import static org.mockito.Mockito.when;
 class JsonSchemaSupplierTest {
 
     private static final String EMPTY_JSON = "{}";
+    private static final String OTHER_JSON = "{\"properties\":{}}";
     private static final String PROPERTIES = "properties";
     private static final String OBJECT = "object";
     private static final String ARRAY = "array";
@@ -93,6 +97,26 @@ class JsonSchemaSupplierTest {
         Assertions.assertTrue(properties.hasNonNull(OBJECT_DOTS_ARRAY));
     }
 
+    @Test
+    void testGetShouldReuseCompiledSchemaWhileSourceIsUnchanged() {
+        //given
+        JsonMapper jsonMapper = new JsonMapperImpl();
+        FunctionRegistry functionRegistry = mock(FunctionRegistry.class);
+        final Queue<String> sources = new LinkedList<>(List.of(EMPTY_JSON, EMPTY_JSON, OTHER_JSON));
+        when(functionRegistry.lookupSupplier(anyMap())).thenReturn(sources::remove);
+        final JsonSchemaSupplier underTest = new JsonSchemaSupplier(Map.of(), jsonMapper, functionRegistry);
+
+        //when
+        final JsonSchema first = underTest.get();
+        final JsonSchema second = underTest.get();
+        final JsonSchema third = underTest.get();
+
+        //then
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(second, third);
+        Assertions.assertTrue(third.getSchemaNode().hasNonNull(PROPERTIES));
+    }
+
     @Test
     void testToStringShouldContainClassName() {
         //given
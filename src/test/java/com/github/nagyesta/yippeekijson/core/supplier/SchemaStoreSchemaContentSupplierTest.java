@@ -4,8 +4,8 @@ import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortAr
 import com.github.nagyesta.yippeekijson.core.config.entities.SchemaStoreConfig;
 import com.github.nagyesta.yippeekijson.core.config.parser.JsonMapper;
 import com.github.nagyesta.yippeekijson.core.config.parser.impl.JsonMapperImpl;
-import com.github.nagyesta.yippeekijson.core.http.HttpClient;
 import com.github.nagyesta.yippeekijson.core.http.HttpRequestContext;
+import com.github.nagyesta.yippeekijson.core.http.ResourceCache;
 import com.google.common.net.HttpHeaders;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -42,13 +42,13 @@ class SchemaStoreSchemaContentSupplierTest {
         return Stream.<Arguments>builder()
                 .add(Arguments.of(null, null, null, null))
                 .add(Arguments.of(YIPPEE_SCHEMA_NAME, null, null, null))
-                .add(Arguments.of(null, mock(HttpClient.class), null, null))
+                .add(Arguments.of(null, mock(ResourceCache.class), null, null))
                 .add(Arguments.of(null, null, mock(JsonMapper.class), null))
                 .add(Arguments.of(null, null, null, EMPTY_SCHEMA_STORE_CONFIG))
-                .add(Arguments.of(YIPPEE_SCHEMA_NAME, mock(HttpClient.class), mock(JsonMapper.class), null))
-                .add(Arguments.of(YIPPEE_SCHEMA_NAME, mock(HttpClient.class), null, EMPTY_SCHEMA_STORE_CONFIG))
+                .add(Arguments.of(YIPPEE_SCHEMA_NAME, mock(ResourceCache.class), mock(JsonMapper.class), null))
+                .add(Arguments.of(YIPPEE_SCHEMA_NAME, mock(ResourceCache.class), null, EMPTY_SCHEMA_STORE_CONFIG))
                 .add(Arguments.of(YIPPEE_SCHEMA_NAME, null, mock(JsonMapper.class), EMPTY_SCHEMA_STORE_CONFIG))
-                .add(Arguments.of(null, mock(HttpClient.class), mock(JsonMapper.class), EMPTY_SCHEMA_STORE_CONFIG))
+                .add(Arguments.of(null, mock(ResourceCache.class), mock(JsonMapper.class), EMPTY_SCHEMA_STORE_CONFIG))
                 .build();
     }
 
@@ -68,24 +68,24 @@ class SchemaStoreSchemaContentSupplierTest {
     @ParameterizedTest
     @MethodSource("nullProvider")
     void testConstructorShouldNotAllowNulls(final String schemaName,
-                                            final HttpClient httpClient,
+                                            final ResourceCache resourceCache,
                                             final JsonMapper jsonMapperParam,
                                             final SchemaStoreConfig schemaStoreConfigParam) {
         //given
 
         //when + then exception
         Assertions.assertThrows(IllegalArgumentException.class,
-                () -> new SchemaStoreSchemaContentSupplier(schemaName, httpClient, jsonMapperParam, schemaStoreConfigParam));
+                () -> new SchemaStoreSchemaContentSupplier(schemaName, resourceCache, jsonMapperParam, schemaStoreConfigParam));
     }
 
     @Test
     void testGetShouldReturnSchemaWhenCalledWithKnownSchemaName() {
         //given
-        final HttpClient httpClient = mock(HttpClient.class);
-        whenFetchedReturnJson(storeCatalogJson, httpClient, CATALOG_URI);
-        whenFetchedReturnJson(schemaJson, httpClient, YIPPEE_SCHEMA_URI);
+        final ResourceCache resourceCache = mock(ResourceCache.class);
+        whenFetchedReturnJson(storeCatalogJson, resourceCache, CATALOG_URI);
+        whenFetchedReturnJson(schemaJson, resourceCache, YIPPEE_SCHEMA_URI);
         final SchemaStoreSchemaContentSupplier underTest = new SchemaStoreSchemaContentSupplier(
-                YIPPEE_SCHEMA_NAME, httpClient, jsonMapper, schemaStoreConfig);
+                YIPPEE_SCHEMA_NAME, resourceCache, jsonMapper, schemaStoreConfig);
 
         //when
         final String actual = underTest.get();
@@ -97,10 +97,10 @@ class SchemaStoreSchemaContentSupplierTest {
     @Test
     void testGetShouldThrowExceptionWhenCalledWithUnknownSchemaName() {
         //given
-        final HttpClient httpClient = mock(HttpClient.class);
-        whenFetchedReturnJson(storeCatalogJson, httpClient, CATALOG_URI);
+        final ResourceCache resourceCache = mock(ResourceCache.class);
+        whenFetchedReturnJson(storeCatalogJson, resourceCache, CATALOG_URI);
         final SchemaStoreSchemaContentSupplier underTest = new SchemaStoreSchemaContentSupplier(
-                UNKNOWN, httpClient, jsonMapper, schemaStoreConfig);
+                UNKNOWN, resourceCache, jsonMapper, schemaStoreConfig);
 
         //when + then exception
         Assertions.assertThrows(IllegalArgumentException.class, underTest::get);
@@ -109,8 +109,8 @@ class SchemaStoreSchemaContentSupplierTest {
     @Test
     void testGetShouldThrowExceptionWhenCalledWithoutAnyKnownSchemas() {
         //given
-        final HttpClient httpClient = mock(HttpClient.class);
-        whenFetchedReturnJson(storeCatalogJson, httpClient, CATALOG_URI);
+        final ResourceCache resourceCache = mock(ResourceCache.class);
+        whenFetchedReturnJson(storeCatalogJson, resourceCache, CATALOG_URI);
         final SchemaStoreConfig customSchemaStoreConfig = SchemaStoreConfig.builder()
                 .catalogUri(CATALOG_URI)
                 .schemaArrayPath(SCHEMA_ARRAY_PATH)
@@ -118,7 +118,7 @@ class SchemaStoreSchemaContentSupplierTest {
                 .mappingUrlKey(URL)
                 .build();
         final SchemaStoreSchemaContentSupplier underTest = new SchemaStoreSchemaContentSupplier(
-                YIPPEE_SCHEMA_NAME, httpClient, jsonMapper, customSchemaStoreConfig);
+                YIPPEE_SCHEMA_NAME, resourceCache, jsonMapper, customSchemaStoreConfig);
 
         //when + then exception
         Assertions.assertThrows(IllegalArgumentException.class, underTest::get);
@@ -127,8 +127,8 @@ class SchemaStoreSchemaContentSupplierTest {
     @Test
     void testGetShouldThrowExceptionWhenCatalogIsNotParsable() {
         //given
-        final HttpClient httpClient = mock(HttpClient.class);
-        whenFetchedReturnJson(UNKNOWN, httpClient, CATALOG_URI);
+        final ResourceCache resourceCache = mock(ResourceCache.class);
+        whenFetchedReturnJson(UNKNOWN, resourceCache, CATALOG_URI);
         final SchemaStoreConfig customSchemaStoreConfig = SchemaStoreConfig.builder()
                 .catalogUri(CATALOG_URI)
                 .schemaArrayPath(SCHEMA_ARRAY_PATH)
@@ -136,7 +136,7 @@ class SchemaStoreSchemaContentSupplierTest {
                 .mappingUrlKey(URL)
                 .build();
         final SchemaStoreSchemaContentSupplier underTest = new SchemaStoreSchemaContentSupplier(
-                YIPPEE_SCHEMA_NAME, httpClient, jsonMapper, customSchemaStoreConfig);
+                YIPPEE_SCHEMA_NAME, resourceCache, jsonMapper, customSchemaStoreConfig);
 
         //when + then exception
         Assertions.assertThrows(IllegalArgumentException.class, underTest::get);
@@ -145,9 +145,9 @@ class SchemaStoreSchemaContentSupplierTest {
     @Test
     void testToStringShouldContainClassName() {
         //given
-        final HttpClient httpClient = mock(HttpClient.class);
+        final ResourceCache resourceCache = mock(ResourceCache.class);
         final SchemaStoreSchemaContentSupplier underTest = new SchemaStoreSchemaContentSupplier(
-                YIPPEE_SCHEMA_NAME, httpClient, jsonMapper, EMPTY_SCHEMA_STORE_CONFIG);
+                YIPPEE_SCHEMA_NAME, resourceCache, jsonMapper, EMPTY_SCHEMA_STORE_CONFIG);
 
         //when
         final String actual = underTest.toString();
@@ -157,11 +157,11 @@ class SchemaStoreSchemaContentSupplierTest {
         Assertions.assertTrue(actual.contains(YIPPEE_SCHEMA_NAME));
     }
 
-    private void whenFetchedReturnJson(final String json, final HttpClient httpClient, final String uri) {
+    private void whenFetchedReturnJson(final String json, final ResourceCache resourceCache, final String uri) {
         HttpRequestContext requestContext = HttpRequestContext.builder()
                 .uri(uri)
                 .addHeader(HttpHeaders.ACCEPT, MimeTypeUtils.ALL_VALUE)
                 .build();
-        when(httpClient.fetch(eq(requestContext))).thenReturn(json);
+        when(resourceCache.fetch(eq(requestContext))).thenReturn(json);
     }
 }